@@ -0,0 +1,81 @@
+package com.example.commonsetting.global.infra.rest.interceptor;
+
+import com.example.commonsetting.global.exception.log.RateLimitedErrorLogger;
+import com.example.commonsetting.global.infra.rest.log.RestLogWriter;
+import com.example.commonsetting.global.infra.rest.metrics.LatencyRecorder;
+import com.example.commonsetting.global.infra.rest.type.RestClientProperties;
+import com.example.commonsetting.support.HttpStubServer;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClients;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.client.BufferingClientHttpRequestFactory;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 로컬 stub 서버를 대상으로 인터셉터가 없는 경우(none), sync 로그, async 로그의 호출 비용을 비교한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+public class RequestResponseLoggingInterceptorBenchmark {
+    private static final String PAYLOAD = "{\"id\":1,\"name\":\"홍길동\",\"email\":\"honggildong@example.co.kr\",\"items\":[1,2,3,4,5]}";
+
+    @Param({"none", "sync", "async"})
+    public String logMode;
+
+    private HttpStubServer server;
+    private CloseableHttpClient httpClient;
+    private RestLogWriter restLogWriter;
+    private RestTemplate restTemplate;
+    private String url;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        server = new HttpStubServer(PAYLOAD);
+        url = server.baseUrl() + "/api/v1/members/1?detail=true";
+        httpClient = HttpClients.custom().setMaxConnTotal(16).setMaxConnPerRoute(16).build();
+        restTemplate = new RestTemplate(new BufferingClientHttpRequestFactory(new HttpComponentsClientHttpRequestFactory(httpClient)));
+
+        if (!"none".equals(logMode)) {
+            var log = new RestClientProperties.Log("async".equals(logMode), 8192, 256, RestClientProperties.OverflowPolicy.DROP, Duration.ofMillis(100));
+            var streaming = new RestClientProperties.Streaming(false, DataSize.ofKilobytes(8));
+            restLogWriter = new RestLogWriter(log);
+            restTemplate.setInterceptors(List.of(new RequestResponseLoggingInterceptor(restLogWriter, streaming, new LatencyRecorder(256),
+                    new RateLimitedErrorLogger(Duration.ofSeconds(10)))));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        if (restLogWriter != null) restLogWriter.close();
+        httpClient.close();
+        server.close();
+    }
+
+    @Benchmark
+    public String exchange() {
+        return restTemplate.getForObject(url, String.class);
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.commonsetting.global.infra.rest.metrics;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.HttpMethod;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 기록 비용 측정. -prof gc 로 실행하면 key 가 모두 등록된 뒤 호출당 할당이 0 인지 확인할 수 있다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 1)
+@Threads(4)
+@Fork(1)
+public class LatencyRecorderBenchmark {
+    private final LatencyRecorder recorder = new LatencyRecorder(256);
+    private final String[] paths = {"/api/v1/members/1024", "/api/v1/members/1024/orders", "/api/v1/products/550e8400-e29b-41d4-a716-446655440000"};
+    private int next;
+
+    @Benchmark
+    public void record() {
+        var path = paths[(next++ & Integer.MAX_VALUE) % paths.length];
+        recorder.record("api.example.com", path, HttpMethod.GET, 200, 1_250, 15);
+    }
+}
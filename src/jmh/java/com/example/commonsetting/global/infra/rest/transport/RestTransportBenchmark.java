@@ -0,0 +1,96 @@
+package com.example.commonsetting.global.infra.rest.transport;
+
+import com.example.commonsetting.support.Http2StubServer;
+import org.apache.hc.client5.http.config.TlsConfig;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.apache.hc.client5.http.impl.async.HttpAsyncClients;
+import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManagerBuilder;
+import org.apache.hc.core5.http2.HttpVersionPolicy;
+import org.apache.hc.core5.io.CloseMode;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClients;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.client.BufferingClientHttpRequestFactory;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 로컬 stub 서버를 대상으로 HC4 커넥션 풀과 HC5 async(HTTP/1.1, h2c) 의 처리량을 비교한다.
+ * 호출 스레드(32)가 커넥션 수(16)보다 많으므로 HC4/HTTP/1.1 은 커넥션 대기가 생기고, HTTP/2 는 하나의 커넥션에 다중화된다.
+ * latencyMillis 로 서버 응답 지연을 주어 커넥션 점유 시간의 영향을 본다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 3)
+@Measurement(iterations = 3, time = 3)
+@Threads(32)
+@Fork(1)
+public class RestTransportBenchmark {
+    private static final int MAX_CONNECTIONS = 16;
+    private static final String PAYLOAD = "{\"items\":[" + "{\"id\":1,\"name\":\"홍길동\",\"email\":\"honggildong@example.co.kr\"},".repeat(50)
+            + "{\"id\":0}]}";
+
+    @Param({"HC4", "HC5_HTTP1", "HC5_HTTP2"})
+    public String transport;
+
+    @Param({"0", "20"})
+    public long latencyMillis;
+
+    private Http2StubServer server;
+    private CloseableHttpClient hc4Client;
+    private CloseableHttpAsyncClient hc5Client;
+    private RestTemplate restTemplate;
+    private String url;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        server = new Http2StubServer(PAYLOAD, latencyMillis);
+        url = server.baseUrl() + "/api/v1/members?page=1";
+
+        if ("HC4".equals(transport)) {
+            hc4Client = HttpClients.custom().setMaxConnTotal(MAX_CONNECTIONS).setMaxConnPerRoute(MAX_CONNECTIONS).build();
+            restTemplate = new RestTemplate(new BufferingClientHttpRequestFactory(new HttpComponentsClientHttpRequestFactory(hc4Client)));
+            return;
+        }
+
+        var versionPolicy = "HC5_HTTP2".equals(transport) ? HttpVersionPolicy.FORCE_HTTP_2 : HttpVersionPolicy.FORCE_HTTP_1;
+        hc5Client = HttpAsyncClients.custom()
+                .setConnectionManager(PoolingAsyncClientConnectionManagerBuilder.create()
+                        .setMaxConnTotal(MAX_CONNECTIONS)
+                        .setMaxConnPerRoute(MAX_CONNECTIONS)
+                        .setDefaultTlsConfig(TlsConfig.custom().setVersionPolicy(versionPolicy).build())
+                        .build())
+                .build();
+        hc5Client.start();
+        restTemplate = new RestTemplate(new Hc5AsyncClientHttpRequestFactory(hc5Client, true));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        if (hc4Client != null) hc4Client.close();
+        if (hc5Client != null) hc5Client.close(CloseMode.GRACEFUL);
+        server.close();
+    }
+
+    @Benchmark
+    public String exchange() {
+        return restTemplate.getForObject(url, String.class);
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.commonsetting.global.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 동시 호출 처리량 비교. 스레드 수는 -PjmhThreads 또는 @Threads 로 조정한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 1)
+@Threads(4)
+@Fork(1)
+public class SecureTokenGeneratorBenchmark {
+    private SecureTokenGenerator generator;
+    private SecureTokenGenerator prefetching;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        generator = new SecureTokenGenerator(10, SecureTokenGenerator.Format.HEX);
+        prefetching = new SecureTokenGenerator(10, SecureTokenGenerator.Format.HEX, 4096);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        generator.close();
+        prefetching.close();
+    }
+
+    /**
+     * 기존 ComUtils.createSalt 구현 (호출마다 SecureRandom 생성 + 바이트별 문자열 변환)
+     */
+    @Benchmark
+    public String instancePerCall() throws NoSuchAlgorithmException {
+        var secureRandom = SecureRandom.getInstance("SHA1PRNG");
+        var salt = new byte[10];
+        secureRandom.nextBytes(salt);
+        var sb = new StringBuilder();
+        for (byte b : salt) {
+            sb.append(Integer.toString((b & 0xff) + 0x100, 16).substring(1));
+        }
+        return sb.toString();
+    }
+
+    @Benchmark
+    public String threadLocal() {
+        return generator.next();
+    }
+
+    @Benchmark
+    public String prefetched() {
+        return prefetching.next();
+    }
+
+    @Benchmark
+    public String base64Url() {
+        return generator.nextBase64Url();
+    }
+
+    @Benchmark
+    public byte[] raw() {
+        return generator.nextBytes();
+    }
+}
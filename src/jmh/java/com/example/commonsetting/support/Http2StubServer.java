@@ -0,0 +1,107 @@
+package com.example.commonsetting.support;
+
+import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.EntityDetails;
+import org.apache.hc.core5.http.HttpRequest;
+import org.apache.hc.core5.http.Message;
+import org.apache.hc.core5.http.URIScheme;
+import org.apache.hc.core5.http.impl.bootstrap.HttpAsyncServer;
+import org.apache.hc.core5.http.message.BasicHttpResponse;
+import org.apache.hc.core5.http.nio.AsyncRequestConsumer;
+import org.apache.hc.core5.http.nio.AsyncServerRequestHandler;
+import org.apache.hc.core5.http.nio.entity.BasicAsyncEntityConsumer;
+import org.apache.hc.core5.http.nio.entity.BasicAsyncEntityProducer;
+import org.apache.hc.core5.http.nio.support.BasicRequestConsumer;
+import org.apache.hc.core5.http.nio.support.BasicResponseProducer;
+import org.apache.hc.core5.http.protocol.HttpContext;
+import org.apache.hc.core5.http2.HttpVersionPolicy;
+import org.apache.hc.core5.http2.impl.nio.bootstrap.H2ServerBootstrap;
+import org.apache.hc.core5.io.CloseMode;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 벤치마크용 in-process HTTP 서버. 평문 포트 하나에서 HTTP/1.1 과 h2c(prior knowledge) 를 모두 받는다.
+ * 모든 요청에 같은 JSON body 를 latencyMillis 만큼 늦게 돌려주고, Accept-Encoding 에 gzip 이 있으면 압축한다.
+ * HttpStubServer 와 달리 응답 대기 중에 스레드를 점유하지 않는다.
+ */
+public class Http2StubServer implements AutoCloseable {
+    private final HttpAsyncServer server;
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+    private final int port;
+
+    public Http2StubServer(String responseBody, long latencyMillis) {
+        var body = responseBody.getBytes(StandardCharsets.UTF_8);
+        var gzipBody = gzip(body);
+        this.server = H2ServerBootstrap.bootstrap()
+                .setVersionPolicy(HttpVersionPolicy.NEGOTIATE)
+                .register("*", new AsyncServerRequestHandler<Message<HttpRequest, byte[]>>() {
+                    @Override
+                    public AsyncRequestConsumer<Message<HttpRequest, byte[]>> prepare(HttpRequest request, EntityDetails entityDetails, HttpContext context) {
+                        return new BasicRequestConsumer<>(entityDetails != null ? new BasicAsyncEntityConsumer() : null);
+                    }
+
+                    @Override
+                    public void handle(Message<HttpRequest, byte[]> message, ResponseTrigger responseTrigger, HttpContext context) {
+                        var acceptEncoding = message.getHead().getFirstHeader("Accept-Encoding");
+                        var compressed = acceptEncoding != null && acceptEncoding.getValue().contains("gzip");
+                        var response = new BasicHttpResponse(200);
+                        if (compressed) response.addHeader("Content-Encoding", "gzip");
+                        var producer = new BasicResponseProducer(response,
+                                new BasicAsyncEntityProducer(compressed ? gzipBody : body, ContentType.APPLICATION_JSON));
+                        Runnable submit = () -> {
+                            try {
+                                responseTrigger.submitResponse(producer, context);
+                            } catch (Exception e) {
+                                // 클라이언트가 먼저 끊은 경우
+                            }
+                        };
+                        if (latencyMillis > 0) {
+                            scheduler.schedule(submit, latencyMillis, TimeUnit.MILLISECONDS);
+                        } else {
+                            submit.run();
+                        }
+                    }
+                })
+                .create();
+        this.server.start();
+        try {
+            var endpoint = server.listen(new InetSocketAddress("127.0.0.1", 0), URIScheme.HTTP).get();
+            this.port = ((InetSocketAddress) endpoint.getAddress()).getPort();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("failed to start stub server", e.getCause());
+        }
+    }
+
+    public String baseUrl() {
+        return "http://127.0.0.1:" + port;
+    }
+
+    @Override
+    public void close() {
+        server.close(CloseMode.IMMEDIATE);
+        scheduler.shutdownNow();
+    }
+
+    private static byte[] gzip(byte[] body) {
+        var out = new ByteArrayOutputStream();
+        try (var gzip = new GZIPOutputStream(out)) {
+            gzip.write(body);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+}
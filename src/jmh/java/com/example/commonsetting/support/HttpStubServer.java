@@ -0,0 +1,48 @@
+package com.example.commonsetting.support;
+
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 벤치마크용 in-process HTTP 서버. 모든 요청에 같은 JSON body 를 돌려준다.
+ */
+public class HttpStubServer implements AutoCloseable {
+    private final HttpServer server;
+    private final ExecutorService executor;
+
+    public HttpStubServer(String responseBody) {
+        var body = responseBody.getBytes(StandardCharsets.UTF_8);
+        try {
+            this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        this.executor = Executors.newFixedThreadPool(8);
+        this.server.setExecutor(executor);
+        this.server.createContext("/", exchange -> {
+            try (exchange) {
+                exchange.getRequestBody().readAllBytes();
+                exchange.getResponseHeaders().set("Content-Type", "application/json");
+                exchange.sendResponseHeaders(200, body.length);
+                exchange.getResponseBody().write(body);
+            }
+        });
+        this.server.start();
+    }
+
+    public String baseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+}
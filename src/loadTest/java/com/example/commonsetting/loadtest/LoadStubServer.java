@@ -0,0 +1,106 @@
+package com.example.commonsetting.loadtest;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 부하 테스트용 in-process HTTP 서버.
+ * 모든 요청에 payloadBytes 크기 이상의 JSON body 를 latencyMillis 만큼 늦게 돌려주고, errorRate 비율로 500 을 돌려준다.
+ * 지연은 scheduler 로 처리하므로 응답 대기 중에 스레드를 점유하지 않는다.
+ */
+public class LoadStubServer implements AutoCloseable {
+    private static final byte[] ERROR_BODY = "{\"code\":\"9999\",\"message\":\"stub error\"}".getBytes(StandardCharsets.UTF_8);
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+    private final byte[] body;
+    private final long latencyMillis;
+    private final double errorRate;
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+
+    public LoadStubServer(long latencyMillis, int payloadBytes, double errorRate) {
+        this.body = payload(payloadBytes);
+        this.latencyMillis = latencyMillis;
+        this.errorRate = errorRate;
+        try {
+            this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 1024);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        this.executor = Executors.newFixedThreadPool(Math.max(4, Runtime.getRuntime().availableProcessors()));
+        this.server.setExecutor(executor);
+        this.server.createContext("/", exchange -> {
+            exchange.getRequestBody().readAllBytes();
+            requests.increment();
+            if (latencyMillis > 0) {
+                scheduler.schedule(() -> respond(exchange), latencyMillis, TimeUnit.MILLISECONDS);
+            } else {
+                respond(exchange);
+            }
+        });
+        this.server.start();
+    }
+
+    public String baseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    public int payloadBytes() {
+        return body.length;
+    }
+
+    public long requests() {
+        return requests.sum();
+    }
+
+    public long errors() {
+        return errors.sum();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        scheduler.shutdownNow();
+        executor.shutdownNow();
+    }
+
+    private void respond(HttpExchange exchange) {
+        var error = errorRate > 0 && ThreadLocalRandom.current().nextDouble() < errorRate;
+        var responseBody = error ? ERROR_BODY : body;
+        try (exchange) {
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.sendResponseHeaders(error ? 500 : 200, responseBody.length);
+            exchange.getResponseBody().write(responseBody);
+            if (error) errors.increment();
+        } catch (IOException e) {
+            // 클라이언트가 먼저 연결을 끊은 경우
+        }
+    }
+
+    /**
+     * payloadBytes 이상이 될 때까지 회원 목록 형태의 원소를 채운 JSON
+     */
+    private static byte[] payload(int payloadBytes) {
+        var sb = new StringBuilder(payloadBytes + 128).append("{\"items\":[");
+        var id = 0;
+        do {
+            if (id > 0) sb.append(',');
+            sb.append("{\"id\":").append(id++)
+                    .append(",\"name\":\"홍길동\",\"email\":\"honggildong@example.co.kr\",\"phoneNumber\":\"010-1234-5678\"}");
+        } while (sb.length() < payloadBytes);
+        return sb.append("]}").toString().getBytes(StandardCharsets.UTF_8);
+    }
+}
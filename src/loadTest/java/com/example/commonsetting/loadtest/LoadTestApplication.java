@@ -0,0 +1,14 @@
+package com.example.commonsetting.loadtest;
+
+import com.example.commonsetting.global.config.ErrorHandlingConfiguration;
+import com.example.commonsetting.global.config.RestClientConfiguration;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.context.annotation.Import;
+
+/**
+ * RestClientConfiguration 의 빈만 띄운다. 설정은 main 의 application.yml 을 그대로 읽고, 실행 인자(--rest-client.log.async=true 등)로 덮어쓸 수 있다.
+ */
+@SpringBootConfiguration
+@Import({ErrorHandlingConfiguration.class, RestClientConfiguration.class})
+public class LoadTestApplication {
+}
@@ -0,0 +1,39 @@
+package com.example.commonsetting.loadtest;
+
+/**
+ * 부하 테스트 설정. -Dloadtest.{name} 시스템 프로퍼티로 지정한다. (gradle 에서는 -PloadTest{Name})
+ *
+ * @param bean            호출할 RestTemplate 빈 이름 (restClient, restClientMin2)
+ * @param concurrency     동시에 호출하는 스레드 수
+ * @param warmupSeconds   측정 전에 같은 부하로 호출하는 시간 (JIT, 커넥션 풀 준비)
+ * @param durationSeconds 측정 시간
+ * @param latencyMillis   stub 서버의 응답 지연
+ * @param payloadBytes    stub 서버의 응답 body 크기
+ * @param errorRate       stub 서버가 500 을 돌려주는 비율 (0 ~ 1)
+ * @param label           결과 파일 이름에 붙일 이름 (예: before-upgrade)
+ * @param output          결과 파일을 쓸 디렉토리
+ */
+public record LoadTestOptions(String bean, int concurrency, long warmupSeconds, long durationSeconds, long latencyMillis,
+                              int payloadBytes, double errorRate, String label, String output) {
+
+    public static LoadTestOptions fromSystemProperties() {
+        var options = new LoadTestOptions(
+                property("bean", "restClient"),
+                Integer.parseInt(property("concurrency", "32")),
+                Long.parseLong(property("warmup", "10")),
+                Long.parseLong(property("duration", "30")),
+                Long.parseLong(property("latencyMillis", "10")),
+                Integer.parseInt(property("payloadBytes", "1024")),
+                Double.parseDouble(property("errorRate", "0")),
+                property("label", ""),
+                property("output", "build/results/loadtest"));
+        if (options.concurrency() < 1) throw new IllegalArgumentException("loadtest.concurrency must be positive");
+        if (options.durationSeconds() < 1) throw new IllegalArgumentException("loadtest.duration must be positive");
+        if (options.errorRate() < 0 || options.errorRate() > 1) throw new IllegalArgumentException("loadtest.errorRate must be in [0, 1]");
+        return options;
+    }
+
+    private static String property(String name, String defaultValue) {
+        return System.getProperty("loadtest." + name, defaultValue);
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.commonsetting.loadtest;
+
+import com.example.commonsetting.global.infra.rest.metrics.LatencyHistogram;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+/**
+ * 부하 테스트 결과. 실행 조건(options, args, jvm)을 함께 남겨 실행 간에 비교할 수 있게 한다.
+ * 지연 시간 단위는 us 이다. 할당량은 호출 스레드(allocatedBytesPerRequest), 그 밖의 스레드, 둘의 합으로 나눠 남긴다.
+ */
+public record LoadTestResult(String finishedAt, String javaVersion, int availableProcessors, long maxHeapBytes,
+                             LoadTestOptions options, List<String> args, int actualPayloadBytes,
+                             long requests, long errors, long failures, List<String> failureSamples, double throughputPerSecond,
+                             LatencyHistogram.Snapshot latency, LatencyHistogram.Snapshot poolWait, long maxPoolPending,
+                             long allocatedBytesPerRequest, long otherThreadsAllocatedBytesPerRequest,
+                             long allThreadsAllocatedBytesPerRequest, long gcCount, long gcMillis) {
+
+    static LoadTestResult of(LoadTestOptions options, List<String> args, int actualPayloadBytes, RestClientLoadTest.Phase phase) {
+        var requests = phase.requests.sum();
+        var perRequest = Math.max(1, requests);
+        var allocatedBytes = phase.allocatedBytes.sum();
+        return new LoadTestResult(
+                OffsetDateTime.now().toString(),
+                System.getProperty("java.version"),
+                Runtime.getRuntime().availableProcessors(),
+                Runtime.getRuntime().maxMemory(),
+                options,
+                args,
+                actualPayloadBytes,
+                requests,
+                phase.errors.sum(),
+                phase.failures.sum(),
+                List.copyOf(phase.failureSamples),
+                requests / (phase.elapsedNanos / 1e9),
+                phase.latency.snapshot(),
+                phase.poolWait.snapshot(),
+                phase.maxPending.get(),
+                allocatedBytes / perRequest,
+                phase.otherThreadsAllocatedBytes / perRequest,
+                (allocatedBytes + phase.otherThreadsAllocatedBytes) / perRequest,
+                phase.gcCount,
+                phase.gcMillis);
+    }
+
+    public String summary() {
+        return String.format("requests=%d (errors=%d, failures=%d), throughput=%.1f/s%n"
+                        + "latency(us) p50=%d p99=%d p999=%d max=%d%n"
+                        + "pool wait(us) p50=%d p99=%d p999=%d max=%d, max pending=%d%n"
+                        + "allocation/request=%dB (other threads %dB, all threads %dB), gc=%d (%dms)",
+                requests, errors, failures, throughputPerSecond,
+                latency.p50Micros(), latency.p99Micros(), latency.p999Micros(), latency.maxMicros(),
+                poolWait.p50Micros(), poolWait.p99Micros(), poolWait.p999Micros(), poolWait.maxMicros(), maxPoolPending,
+                allocatedBytesPerRequest, otherThreadsAllocatedBytesPerRequest, allThreadsAllocatedBytesPerRequest, gcCount, gcMillis);
+    }
+}
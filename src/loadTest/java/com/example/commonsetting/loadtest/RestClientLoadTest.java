@@ -0,0 +1,199 @@
+package com.example.commonsetting.loadtest;
+
+import com.example.commonsetting.global.infra.rest.interceptor.ExchangeContext;
+import com.example.commonsetting.global.infra.rest.metrics.LatencyHistogram;
+import com.example.commonsetting.global.infra.rest.pool.ConnectionPoolMetrics;
+import com.google.gson.GsonBuilder;
+import org.springframework.boot.Banner;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * restClient / restClientMin2 빈을 실제 설정(커넥션 풀, 버퍼링 팩토리, 인터셉터, 에러 핸들러) 그대로 띄워
+ * LoadStubServer 에 concurrency 개의 스레드로 호출하고 처리량, 지연 시간, 커넥션 대기 시간, 요청당 할당량을 측정한다.
+ * 결과는 output 디렉토리에 loadtest-{시각}[-label].json 으로 남긴다.
+ * <p>
+ * 실행: ./gradlew loadTest -PloadTestConcurrency=64 -PloadTestLatencyMillis=20 -PloadTestArgs="--rest-client.log.async=true"
+ * <p>
+ * 커넥션 대기 시간은 로깅 인터셉터가 호출마다 초기화하는 ExchangeContext 의 lease 시간이다. (HC5_ASYNC 는 0)
+ * 요청당 할당량은 호출 스레드에서 할당한 양이며, 로그 writer 등 다른 스레드의 할당은 otherThreadsAllocatedBytesPerRequest 로 따로 본다.
+ * allThreadsAllocatedBytesPerRequest 는 두 값을 더한 것이다.
+ */
+public final class RestClientLoadTest {
+    private static final String PATH = "/api/v1/members?page=1";
+
+    private RestClientLoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        var options = LoadTestOptions.fromSystemProperties();
+        try (var server = new LoadStubServer(options.latencyMillis(), options.payloadBytes(), options.errorRate());
+             var context = new SpringApplicationBuilder(LoadTestApplication.class)
+                     .web(WebApplicationType.NONE)
+                     .bannerMode(Banner.Mode.OFF)
+                     .run(args)) {
+            var restTemplate = context.getBean(options.bean(), RestTemplate.class);
+            var poolMetrics = context.getBean(ConnectionPoolMetrics.class);
+            var url = server.baseUrl() + PATH;
+
+            System.out.printf("load test: bean=%s, concurrency=%d, latency=%dms, payload=%dB, errorRate=%.3f%n",
+                    options.bean(), options.concurrency(), options.latencyMillis(), server.payloadBytes(), options.errorRate());
+            if (options.warmupSeconds() > 0) {
+                run(restTemplate, url, options.concurrency(), options.warmupSeconds(), poolMetrics);
+            }
+            var phase = run(restTemplate, url, options.concurrency(), options.durationSeconds(), poolMetrics);
+
+            var result = LoadTestResult.of(options, List.of(args), server.payloadBytes(), phase);
+            var file = write(options, result);
+            System.out.println(result.summary());
+            System.out.println("result: " + file.toAbsolutePath());
+        }
+    }
+
+    private static Phase run(RestTemplate restTemplate, String url, int concurrency, long seconds, ConnectionPoolMetrics poolMetrics)
+            throws InterruptedException {
+        var threadMXBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        var phase = new Phase();
+        var ready = new CountDownLatch(concurrency);
+        var start = new CountDownLatch(1);
+        var finished = new CountDownLatch(concurrency);
+        var release = new CountDownLatch(1);
+        var threadNumber = new AtomicInteger();
+        var workers = new ArrayList<Thread>(concurrency);
+        var endAt = new long[1];
+
+        for (int i = 0; i < concurrency; i++) {
+            var worker = new Thread(() -> {
+                ready.countDown();
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    finished.countDown();
+                    return;
+                }
+                var allocatedBefore = threadMXBean.getCurrentThreadAllocatedBytes();
+                while (System.nanoTime() < endAt[0]) {
+                    phase.call(restTemplate, url);
+                }
+                phase.allocatedBytes.add(threadMXBean.getCurrentThreadAllocatedBytes() - allocatedBefore);
+                finished.countDown();
+                // 전체 스레드 할당량을 다시 잴 때까지 살아 있어야 호출 스레드의 할당이 빠지지 않는다
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }, "load-" + threadNumber.incrementAndGet());
+            workers.add(worker);
+            worker.start();
+        }
+        ready.await();
+
+        var allThreadsAllocatedBefore = allThreadsAllocatedBytes(threadMXBean);
+        var gcBefore = gcStats();
+        var startedAt = System.nanoTime();
+        endAt[0] = startedAt + TimeUnit.SECONDS.toNanos(seconds);
+        start.countDown();
+
+        // 측정 중 커넥션 풀의 최대 대기 요청 수를 샘플링한다
+        while (System.nanoTime() < endAt[0]) {
+            phase.maxPending.accumulate(poolMetrics.snapshot().pending());
+            TimeUnit.MILLISECONDS.sleep(100);
+        }
+        finished.await();
+        phase.elapsedNanos = System.nanoTime() - startedAt;
+        var allThreadsAllocated = allThreadsAllocatedBytes(threadMXBean) - allThreadsAllocatedBefore;
+        release.countDown();
+        for (var worker : workers) {
+            worker.join();
+        }
+        phase.otherThreadsAllocatedBytes = Math.max(0, allThreadsAllocated - phase.allocatedBytes.sum());
+        var gcAfter = gcStats();
+        phase.gcCount = gcAfter[0] - gcBefore[0];
+        phase.gcMillis = gcAfter[1] - gcBefore[1];
+        return phase;
+    }
+
+    /**
+     * 살아 있는 스레드의 누적 할당량 합. 측정 중 종료된 스레드(호출 스레드 제외)의 할당은 빠진다.
+     */
+    private static long allThreadsAllocatedBytes(com.sun.management.ThreadMXBean threadMXBean) {
+        var sum = 0L;
+        for (long allocated : threadMXBean.getThreadAllocatedBytes(threadMXBean.getAllThreadIds())) {
+            if (allocated > 0) sum += allocated;
+        }
+        return sum;
+    }
+
+    private static long[] gcStats() {
+        var stats = new long[2];
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            stats[0] += Math.max(0, gc.getCollectionCount());
+            stats[1] += Math.max(0, gc.getCollectionTime());
+        }
+        return stats;
+    }
+
+    private static Path write(LoadTestOptions options, LoadTestResult result) throws IOException {
+        var directory = Path.of(options.output());
+        Files.createDirectories(directory);
+        var name = "loadtest-" + LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss"))
+                + (options.label().isBlank() ? "" : "-" + options.label()) + ".json";
+        var file = directory.resolve(name);
+        Files.writeString(file, new GsonBuilder().setPrettyPrinting().create().toJson(result), StandardCharsets.UTF_8);
+        return file;
+    }
+
+    /**
+     * 한 구간(warmup, 측정)의 집계
+     */
+    static final class Phase {
+        final LatencyHistogram latency = new LatencyHistogram();
+        final LatencyHistogram poolWait = new LatencyHistogram();
+        final LongAdder requests = new LongAdder();
+        final LongAdder errors = new LongAdder();   // 2xx 가 아닌 응답
+        final LongAdder failures = new LongAdder(); // 예외 (연결 실패, 타임아웃 등)
+        final LongAdder allocatedBytes = new LongAdder();
+        final LongAccumulator maxPending = new LongAccumulator(Math::max, 0L);
+        final List<String> failureSamples = new ArrayList<>();
+        long elapsedNanos;
+        long otherThreadsAllocatedBytes;
+        long gcCount;
+        long gcMillis;
+
+        private void call(RestTemplate restTemplate, String url) {
+            var startedAt = System.nanoTime();
+            try {
+                var response = restTemplate.exchange(url, HttpMethod.GET, null, String.class);
+                if (!response.getStatusCode().is2xxSuccessful()) errors.increment();
+            } catch (RuntimeException e) {
+                failures.increment();
+                synchronized (failureSamples) {
+                    if (failureSamples.size() < 10) failureSamples.add(e.toString());
+                }
+            }
+            latency.record(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - startedAt));
+            poolWait.record(TimeUnit.NANOSECONDS.toMicros(ExchangeContext.current().getLeaseNanos()));
+            requests.increment();
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.example.commonsetting.loadtest;
+
+import com.google.gson.GsonBuilder;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 애플리케이션을 별도 JVM 으로 기동하여 프로세스 시작부터 첫 요청(/internal/rest-client/pool) 응답까지의 시간을 잰다.
+ * 첫 요청이 커넥션 풀을 사용하므로 lazy 모드에서는 지연된 빈 생성 비용이 포함된다.
+ * 모드(기본, lazy, cds, lazy+cds)를 번갈아 rounds 번씩 기동하고 결과를 output 디렉토리에 startup-{시각}.json 으로 남긴다.
+ * <p>
+ * 실행: ./gradlew startupBenchmark -PstartupRounds=5
+ */
+public final class StartupBenchmark {
+    private static final String MAIN_CLASS = "com.example.commonsetting.CommonSettingApplication";
+    private static final String FIRST_REQUEST_PATH = "/internal/rest-client/pool";
+    private static final Duration STARTUP_TIMEOUT = Duration.ofMinutes(2);
+
+    private StartupBenchmark() {
+    }
+
+    private record Mode(String name, boolean lazy, boolean cds) {}
+
+    public record ModeResult(String mode, List<Long> firstRequestMillis, long minMillis, long medianMillis, long maxMillis) {}
+
+    public record Result(String finishedAt, String javaVersion, int availableProcessors, int rounds, List<ModeResult> modes) {}
+
+    public static void main(String[] args) throws Exception {
+        var classpath = System.getProperty("startup.classpath");
+        var cdsArchive = System.getProperty("startup.cdsArchive");
+        var rounds = Integer.parseInt(System.getProperty("startup.rounds", "5"));
+        var output = Path.of(System.getProperty("startup.output", "build/results/startup"));
+        if (classpath == null || classpath.isBlank()) throw new IllegalArgumentException("startup.classpath is required");
+        Files.createDirectories(output);
+
+        var modes = new ArrayList<Mode>();
+        modes.add(new Mode("default", false, false));
+        modes.add(new Mode("lazy", true, false));
+        if (cdsArchive != null && Files.exists(Path.of(cdsArchive))) {
+            modes.add(new Mode("cds", false, true));
+            modes.add(new Mode("lazy+cds", true, true));
+        } else {
+            System.out.println("cds archive not found, skip cds modes: " + cdsArchive);
+        }
+
+        var httpClient = HttpClient.newBuilder().connectTimeout(Duration.ofMillis(200)).build();
+        var samples = new ArrayList<List<Long>>();
+        modes.forEach(mode -> samples.add(new ArrayList<>()));
+        // 디스크 캐시 등 실행 순서의 영향을 줄이기 위해 모드를 번갈아 기동한다
+        for (int round = 0; round < rounds; round++) {
+            for (int i = 0; i < modes.size(); i++) {
+                var millis = firstRequestMillis(modes.get(i), classpath, cdsArchive, httpClient, output);
+                samples.get(i).add(millis);
+                System.out.printf("round=%d, mode=%s, first request=%dms%n", round + 1, modes.get(i).name(), millis);
+            }
+        }
+
+        var modeResults = new ArrayList<ModeResult>();
+        for (int i = 0; i < modes.size(); i++) {
+            var sorted = samples.get(i).stream().sorted().toList();
+            modeResults.add(new ModeResult(modes.get(i).name(), samples.get(i), sorted.get(0), sorted.get(sorted.size() / 2), sorted.get(sorted.size() - 1)));
+        }
+        var result = new Result(OffsetDateTime.now().toString(), System.getProperty("java.version"),
+                Runtime.getRuntime().availableProcessors(), rounds, modeResults);
+
+        var file = output.resolve("startup-" + LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss")) + ".json");
+        Files.writeString(file, new GsonBuilder().setPrettyPrinting().create().toJson(result), StandardCharsets.UTF_8);
+        for (var modeResult : modeResults) {
+            System.out.printf("%-10s min=%dms median=%dms max=%dms%n", modeResult.mode(), modeResult.minMillis(),
+                    modeResult.medianMillis(), modeResult.maxMillis());
+        }
+        System.out.println("result: " + file.toAbsolutePath());
+    }
+
+    private static long firstRequestMillis(Mode mode, String classpath, String cdsArchive, HttpClient httpClient, Path output)
+            throws IOException, InterruptedException {
+        var port = freePort();
+        var command = new ArrayList<String>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.add(mode.cds() ? "-XX:SharedArchiveFile=" + cdsArchive : "-Xshare:auto");
+        command.addAll(Arrays.asList("-cp", classpath, MAIN_CLASS, "--server.port=" + port, "--startup.lazy.enabled=" + mode.lazy()));
+
+        var request = HttpRequest.newBuilder(URI.create("http://127.0.0.1:" + port + FIRST_REQUEST_PATH)).GET().build();
+        // 마지막 기동의 로그만 남긴다
+        var log = output.resolve("startup-" + mode.name().replace('+', '-') + ".log").toFile();
+        var startedAt = System.nanoTime();
+        var process = new ProcessBuilder(command).redirectErrorStream(true).redirectOutput(log).start();
+        try {
+            while (System.nanoTime() - startedAt < STARTUP_TIMEOUT.toNanos()) {
+                if (!process.isAlive()) {
+                    throw new IllegalStateException("application exited with " + process.exitValue() + ", see " + log);
+                }
+                try {
+                    var response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+                    if (response.statusCode() == 200) {
+                        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+                    }
+                } catch (IOException e) {
+                    // 아직 포트가 열리지 않았다
+                }
+                Thread.sleep(5);
+            }
+            throw new IllegalStateException("application did not serve " + FIRST_REQUEST_PATH + " within " + STARTUP_TIMEOUT + ", see " + log);
+        } finally {
+            process.destroy();
+            if (!process.waitFor(30, TimeUnit.SECONDS)) {
+                process.destroyForcibly().waitFor();
+            }
+        }
+    }
+
+    private static int freePort() throws IOException {
+        try (var socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
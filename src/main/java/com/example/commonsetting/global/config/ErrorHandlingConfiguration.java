@@ -0,0 +1,23 @@
+package com.example.commonsetting.global.config;
+
+import com.example.commonsetting.global.exception.log.RateLimitedErrorLogger;
+import com.example.commonsetting.global.exception.type.ErrorHandlingProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(ErrorHandlingProperties.class)
+public class ErrorHandlingConfiguration {
+    private final ErrorHandlingProperties errorHandlingProperties;
+
+    public ErrorHandlingConfiguration(ErrorHandlingProperties errorHandlingProperties) {
+        this.errorHandlingProperties = errorHandlingProperties;
+        StackExchangeException.setStackTraceSampleRate(errorHandlingProperties.stackTraceSampleRate());
+    }
+
+    @Bean
+    public RateLimitedErrorLogger rateLimitedErrorLogger() {
+        return new RateLimitedErrorLogger(errorHandlingProperties.logInterval());
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.commonsetting.global.config;
+
+import com.example.commonsetting.global.infra.auth.TokenVerifier;
+import com.example.commonsetting.global.infra.auth.cache.TokenClaimsCache;
+import com.example.commonsetting.global.infra.auth.filter.BearerTokenFilter;
+import com.example.commonsetting.global.infra.auth.type.AuthProperties;
+import com.example.commonsetting.global.infra.caller.filter.CallerContextFilter;
+import com.example.commonsetting.global.infra.trace.filter.TraceContextFilter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import static com.example.commonsetting.global.util.ComUtils.FILTER_IGNORE_PATH;
+
+@Configuration
+@EnableConfigurationProperties(AuthProperties.class)
+public class FilterConfiguration {
+    // BearerTokenFilter(auth.filter-order, 기본 1) 의 로그에도 traceId 가 남도록 그보다 먼저 둔다
+    private static final int TRACE_CONTEXT_FILTER_ORDER = 0;
+    // spring-session 의 SessionRepositoryFilter(Integer.MIN_VALUE + 50) 와 BearerTokenFilter(auth.filter-order) 다음
+    private static final int CALLER_CONTEXT_FILTER_ORDER = 2;
+
+    @Bean
+    public FilterRegistrationBean<TraceContextFilter> traceContextFilter() {
+        var registration = new FilterRegistrationBean<>(new TraceContextFilter());
+        registration.addUrlPatterns("/*");
+        registration.setOrder(TRACE_CONTEXT_FILTER_ORDER);
+        return registration;
+    }
+
+    @Bean
+    public FilterRegistrationBean<CallerContextFilter> callerContextFilter() {
+        var registration = new FilterRegistrationBean<>(new CallerContextFilter());
+        registration.addUrlPatterns("/*");
+        registration.setOrder(CALLER_CONTEXT_FILTER_ORDER);
+        return registration;
+    }
+
+    /**
+     * auth.enabled = true 이면 bearer 토큰 필터를 등록한다. 서비스에서 TokenVerifier 빈을 제공해야 한다.
+     */
+    @Configuration
+    @RequiredArgsConstructor
+    @ConditionalOnProperty(prefix = "auth", name = "enabled", havingValue = "true")
+    static class BearerTokenFilterConfiguration {
+        private final AuthProperties authProperties;
+
+        @Bean
+        @ConditionalOnProperty(prefix = "auth.cache", name = "enabled", havingValue = "true", matchIfMissing = true)
+        public TokenClaimsCache tokenClaimsCache() {
+            return new TokenClaimsCache(authProperties.cache());
+        }
+
+        @Bean
+        public FilterRegistrationBean<BearerTokenFilter> bearerTokenFilter(TokenVerifier tokenVerifier, ObjectProvider<TokenClaimsCache> tokenClaimsCache) {
+            var registration = new FilterRegistrationBean<>(new BearerTokenFilter(tokenVerifier, tokenClaimsCache.getIfAvailable(), FILTER_IGNORE_PATH));
+            registration.addUrlPatterns("/*");
+            registration.setOrder(authProperties.filterOrder());
+            return registration;
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.commonsetting.global.config;
+
+import com.example.commonsetting.global.infra.mail.outbox.MailOutbox;
+import com.example.commonsetting.global.infra.mail.service.MailOutboxStarter;
+import com.example.commonsetting.global.infra.mail.service.SendMailComponent;
+import com.example.commonsetting.global.infra.mail.transport.BulkMailDispatcher;
+import com.example.commonsetting.global.infra.mail.transport.SmtpTransportPool;
+import com.example.commonsetting.global.infra.mail.type.MailProperties;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+
+import java.io.IOException;
+
+/**
+ * spring.mail.host 가 설정된 경우에만 메일 발송 관련 빈을 등록한다.
+ */
+@Configuration
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "spring.mail", name = "host")
+@EnableConfigurationProperties(MailProperties.class)
+public class MailConfiguration {
+    private final MailProperties mailProperties;
+
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(prefix = "mail.outbox", name = "enabled", havingValue = "true")
+    public MailOutbox mailOutbox() throws IOException {
+        return new MailOutbox(mailProperties.outbox());
+    }
+
+    /**
+     * startup.lazy 와 관계없이 기동 시 만들어야 journal 에 남은 메일이 재시작 직후 발송된다.
+     */
+    @Bean
+    @Lazy(false)
+    @ConditionalOnProperty(prefix = "mail.outbox", name = "enabled", havingValue = "true")
+    public MailOutboxStarter mailOutboxStarter(MailOutbox mailOutbox, ObjectProvider<SendMailComponent> sendMailComponentProvider) {
+        return new MailOutboxStarter(mailOutbox, sendMailComponentProvider);
+    }
+
+    @Bean(destroyMethod = "close")
+    public SmtpTransportPool smtpTransportPool(JavaMailSenderImpl javaMailSender) {
+        return new SmtpTransportPool(javaMailSender, mailProperties.bulk());
+    }
+
+    @Bean(destroyMethod = "close")
+    public BulkMailDispatcher bulkMailDispatcher(SmtpTransportPool smtpTransportPool) {
+        return new BulkMailDispatcher(smtpTransportPool, mailProperties.bulk());
+    }
+}
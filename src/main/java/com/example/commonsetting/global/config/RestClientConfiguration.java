@@ -1,200 +1,277 @@
 package com.example.commonsetting.global.config;
 
 import com.example.commonsetting.global.exception.code.RestTemplateResponseErrorHandler;
-import com.google.gson.GsonBuilder;
-import lombok.extern.slf4j.Slf4j;
+import com.example.commonsetting.global.exception.log.RateLimitedErrorLogger;
+import com.example.commonsetting.global.infra.rest.async.AsyncRestClient;
+import com.example.commonsetting.global.infra.rest.cache.ResponseCacheInterceptor;
+import com.example.commonsetting.global.infra.rest.coalescing.CoalescingInterceptor;
+import com.example.commonsetting.global.infra.rest.interceptor.RequestResponseLoggingInterceptor;
+import com.example.commonsetting.global.infra.rest.log.JsonPayloadRedactor;
+import com.example.commonsetting.global.infra.rest.log.RestLogWriter;
+import com.example.commonsetting.global.infra.rest.metrics.LatencyRecorder;
+import com.example.commonsetting.global.infra.rest.pool.ConnectionPoolMetrics;
+import com.example.commonsetting.global.infra.rest.pool.TimedHttpRequestExecutor;
+import com.example.commonsetting.global.infra.rest.pool.TimedPoolingHttpClientConnectionManager;
+import com.example.commonsetting.global.infra.rest.resilience.ResilienceInterceptor;
+import com.example.commonsetting.global.infra.rest.stream.JsonStreamingClient;
+import com.example.commonsetting.global.infra.rest.trace.SpanRecorder;
+import com.example.commonsetting.global.infra.rest.trace.TracePropagationInterceptor;
+import com.example.commonsetting.global.infra.rest.transport.Hc5AsyncClientHttpRequestFactory;
+import com.example.commonsetting.global.infra.rest.type.RestClientProperties;
+import lombok.RequiredArgsConstructor;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.TlsConfig;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.apache.hc.client5.http.impl.async.HttpAsyncClients;
+import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManagerBuilder;
+import org.apache.hc.client5.http.ssl.ClientTlsStrategyBuilder;
+import org.apache.hc.core5.http2.HttpVersionPolicy;
+import org.apache.hc.core5.reactor.IOReactorConfig;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.apache.http.HttpHost;
+import org.apache.http.config.RegistryBuilder;
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.conn.socket.ConnectionSocketFactory;
+import org.apache.http.conn.socket.PlainConnectionSocketFactory;
 import org.apache.http.conn.ssl.NoopHostnameVerifier;
+import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
 import org.apache.http.impl.client.CloseableHttpClient;
 import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.client.IdleConnectionEvictor;
 import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
 import org.apache.http.ssl.SSLContexts;
-import org.slf4j.MDC;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
-import org.springframework.http.HttpRequest;
 import org.springframework.http.client.*;
-import org.springframework.util.ObjectUtils;
-import org.springframework.util.StopWatch;
 import org.springframework.web.client.RestTemplate;
-import org.springframework.web.context.request.RequestContextHolder;
-import org.springframework.web.context.request.ServletRequestAttributes;
 
 import javax.net.ssl.SSLContext;
-import javax.net.ssl.TrustManager;
-import javax.net.ssl.X509TrustManager;
-import java.io.BufferedReader;
-import java.io.IOException;
-import java.io.InputStreamReader;
-import java.nio.charset.StandardCharsets;
 import java.security.KeyManagementException;
 import java.security.KeyStoreException;
 import java.security.NoSuchAlgorithmException;
-import java.security.cert.X509Certificate;
 import java.time.Duration;
-import java.time.format.DateTimeFormatter;
-import java.util.Collections;
-
-import static com.example.commonsetting.global.exception.code.CommonExternalResponseCode.API_EXCHANGE_ERROR;
-import static com.example.commonsetting.global.util.ComUtils.TRACE_ID;
-import static com.example.commonsetting.global.util.SessionConstants.MEMID;
-import static java.time.LocalDateTime.now;
-import static org.apache.commons.lang3.exception.ExceptionUtils.getStackTrace;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
 @Configuration
+@RequiredArgsConstructor
+@EnableConfigurationProperties(RestClientProperties.class)
 public class RestClientConfiguration {
+    private final RestClientProperties restClientProperties;
+    private final RateLimitedErrorLogger rateLimitedErrorLogger;
+
     @Bean
     @Primary
-    public RestTemplate restClient() throws NoSuchAlgorithmException, KeyManagementException, KeyStoreException {
-        return getRestTemplate(30L);
+    public RestTemplate restClient() {
+        return getRestTemplate(30L, restClientProperties.streaming());
     }
 
     @Bean
-    public RestTemplate restClientMin2() throws NoSuchAlgorithmException, KeyManagementException, KeyStoreException {
-        return getRestTemplate(2 * 60L);
-    }
-
-    private RestTemplate getRestTemplate(Long readTimeOut) throws NoSuchAlgorithmException, KeyManagementException, KeyStoreException {
-        // 1) 모든 SSL 인증서를 신뢰하도록 TrustManager 설정
-        TrustManager[] trustAllCerts = new TrustManager[]{new X509TrustManager() {
-            public void checkClientTrusted(X509Certificate[] certs, String authType) {}
-            public void checkServerTrusted(X509Certificate[] certs, String authType) {}
-            public X509Certificate[] getAcceptedIssuers() {
-                return new X509Certificate[0];
-            }
-        }};
-
-        // 2) SSLContext를 설정하여 SSL 인증을 무시
-        SSLContext sslContext = SSLContexts.custom()
-                .loadTrustMaterial(((chain, authType) -> true)) // 모든 인증서를 신뢰
-                .build();
+    public RestTemplate restClientMin2() {
+        return getRestTemplate(2 * 60L, restClientProperties.streaming());
+    }
 
-        PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager();
-        connectionManager.setMaxTotal(50);            // 이전 setMaxConnTotal 대체
-        connectionManager.setDefaultMaxPerRoute(50);  // 이전 setMaxConnPerRoute 대체
+    /**
+     * 큰 JSON 응답을 원소 단위로 읽는 클라이언트. rest-client.streaming 설정과 무관하게 body 를 버퍼링하지 않는다.
+     */
+    @Bean
+    public JsonStreamingClient jsonStreamingClient() {
+        var streaming = new RestClientProperties.Streaming(true, restClientProperties.streaming().captureSize());
+        return new JsonStreamingClient(getRestTemplate(2 * 60L, streaming));
+    }
 
-        // 3) 커넥션 풀 매니저 설정
+    @Bean(destroyMethod = "close")
+    public AsyncRestClient asyncRestClient() {
+        return new AsyncRestClient(restClient(), restClientProperties.async());
+    }
 
-        // 4) HttpClient를 구성
+    private RestTemplate getRestTemplate(Long readTimeOut, RestClientProperties.Streaming streaming) {
+        // 1) HttpClient를 구성 (커넥션 풀은 restClient, restClientMin2 가 공유)
         CloseableHttpClient httpClient = HttpClients.custom()
-                .setConnectionManager(connectionManager)          // 커넥션 풀 적용
-                .setSSLContext(sslContext)                        // SSLContext 적용
-                .setSSLHostnameVerifier(NoopHostnameVerifier.INSTANCE) // 호스트 이름 검증 비활성화
+                .setConnectionManager(restConnectionManager())   // 공유 커넥션 풀 적용
+                .setConnectionManagerShared(true)                 // 풀의 종료는 빈 라이프사이클에서 관리
+                .setRequestExecutor(new TimedHttpRequestExecutor()) // 전송/응답 대기 시간을 span 에 기록
                 .build();
+        // startup.lazy 로 풀을 처음 사용할 때 만드는 경우에도 유휴 커넥션 정리가 함께 시작되도록 한다
+        restConnectionEvictor();
 
-        // 5) HttpComponentsClientHttpRequestFactory 설정
+        // 2) HttpComponentsClientHttpRequestFactory 설정
         HttpComponentsClientHttpRequestFactory httpRequestFactory = new HttpComponentsClientHttpRequestFactory();
         httpRequestFactory.setHttpClient(httpClient);
 
-        // 6) RestTemplate 생성
+        // 스트리밍 모드는 body 를 메모리에 버퍼링하지 않는다
+        httpRequestFactory.setBufferRequestBody(!streaming.enabled());
+        Supplier<ClientHttpRequestFactory> requestFactory = streaming.enabled()
+                ? () -> httpRequestFactory
+                : () -> new BufferingClientHttpRequestFactory(httpRequestFactory);
+
+        // HC5_ASYNC 는 body 를 메모리에 모아 주고받으므로 스트리밍 모드가 아닐 때만 사용한다
+        var transport = restClientProperties.transport();
+        if (transport.type() == RestClientProperties.Transport.Type.HC5_ASYNC && !streaming.enabled()) {
+            var asyncHttpClient = restAsyncHttpClient();
+            requestFactory = () -> new Hc5AsyncClientHttpRequestFactory(asyncHttpClient, transport.compression());
+        }
+
+        // 3) RestTemplate 생성
         RestTemplate restTemplate = new RestTemplateBuilder()
                 .setConnectTimeout(Duration.ofSeconds(10))                     // 연결 타임아웃 설정
                 .setReadTimeout(Duration.ofSeconds(readTimeOut))               // 읽기 타임아웃 설정
-                .requestFactory(() -> new BufferingClientHttpRequestFactory(httpRequestFactory)) // RequestFactory 설정
+                .requestFactory(requestFactory)                                 // RequestFactory 설정
                 .build();
 
-        // 7) Interceptor 및 ErrorHandler 추가
-        restTemplate.setInterceptors(Collections.singletonList(new RequestResponseLoggingInterceptor()));
+        // 4) Interceptor 및 ErrorHandler 추가 (로깅 -> 캐시 -> 요청 병합 -> 서킷 브레이커 -> trace -> 네트워크 순)
+        List<ClientHttpRequestInterceptor> interceptors = new ArrayList<>();
+        var latencyRecorder = restClientProperties.metrics().enabled() ? latencyRecorder() : null;
+        interceptors.add(new RequestResponseLoggingInterceptor(restLogWriter(), streaming, latencyRecorder, rateLimitedErrorLogger));
+        // 응답 캐시, 요청 병합은 body 전체를 메모리에 복사하므로 스트리밍 모드에서는 제외한다
+        if (restClientProperties.cache().enabled() && !streaming.enabled()) {
+            interceptors.add(responseCacheInterceptor());
+        }
+        if (restClientProperties.coalescing().enabled() && !streaming.enabled()) {
+            interceptors.add(coalescingInterceptor());
+        }
+        if (restClientProperties.resilience().enabled()) {
+            interceptors.add(resilienceInterceptor());
+        }
+        var trace = restClientProperties.trace();
+        if (trace.propagate() || trace.record()) {
+            interceptors.add(new TracePropagationInterceptor(trace.propagate(), trace.record() ? spanRecorder() : null));
+        }
+        restTemplate.setInterceptors(interceptors);
         restTemplate.setErrorHandler(new RestTemplateResponseErrorHandler());
 
         return restTemplate;
     }
 
-    @Slf4j
-    private static class RequestResponseLoggingInterceptor implements ClientHttpRequestInterceptor {
-        @Override
-        public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution) throws IOException {
-            var dateTimeFormatter = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss.SSS");
-            var stopWatch = new StopWatch();
-            stopWatch.start();
-            var startedAt = now().format(dateTimeFormatter);
-            var apiRequest = traceRequest(request, body);
-            ClientHttpResponse response = null;
-            try {
-                response = execution.execute(request, body);
-            } catch (IOException e) {
-                log.error(getStackTrace(e));
-                throw new StackExchangeException(API_EXCHANGE_ERROR.getHttpStatus(), API_EXCHANGE_ERROR.getCode(), "API 통신 중 오류가 발생했습니다");
-            } catch (Exception e) {
-                log.error(getStackTrace(e));
-                throw new StackExchangeException(API_EXCHANGE_ERROR.getHttpStatus(), API_EXCHANGE_ERROR.getCode(), "API 통신 중 오류가 발생했습니다.");
-            } finally {
-                stopWatch.stop();
-                var apiResponse = traceResponse(response, stopWatch.getTotalTimeMillis());
-                printRestLog(apiRequest, apiResponse, startedAt);
-            }
-            return response;
-        }
+    @Bean(destroyMethod = "shutdown")
+    public PoolingHttpClientConnectionManager restConnectionManager() {
+        var pool = restClientProperties.pool();
 
-        private void printRestLog(Request request, Response response, String startedAt) {
-            try {
-                var traceId = MDC.get(TRACE_ID);
-                var callerId = getCallerId();
-                response = ObjectUtils.isEmpty(response) ? new Response(null, null, "") : response;
-                var restLog = new RestLog(traceId, startedAt, callerId, request, response);
-                var gson = new GsonBuilder().serializeNulls().create();
-                var logs = gson.toJson(restLog);
-                log.info(logs);
-            } catch (Exception e) {
-                log.error("error");
-            }
-        }
+        // 1) SSLContext를 설정하여 SSL 인증을 무시 (커넥션 매니저를 직접 쓰면 HttpClientBuilder 의 SSL 설정은 무시되므로 registry 에 적용)
+        var socketFactoryRegistry = RegistryBuilder.<ConnectionSocketFactory>create()
+                .register("http", PlainConnectionSocketFactory.getSocketFactory())
+                .register("https", new SSLConnectionSocketFactory(trustAllSslContext(), NoopHostnameVerifier.INSTANCE))
+                .build();
+
+        // 2) 커넥션 풀 매니저 설정 (커넥션 대여 대기 시간을 지연 시간 지표에 따로 기록)
+        var connectionManager = new TimedPoolingHttpClientConnectionManager(socketFactoryRegistry,
+                pool.timeToLive().toMillis(), TimeUnit.MILLISECONDS);
+        connectionManager.setMaxTotal(pool.maxTotal());
+        connectionManager.setDefaultMaxPerRoute(pool.defaultMaxPerRoute());
+        connectionManager.setValidateAfterInactivity((int) pool.validateAfterInactivity().toMillis());
 
-        private static String getCallerId() {
-            try {
-                var attributes = (ServletRequestAttributes) RequestContextHolder.currentRequestAttributes();
-                return (String) attributes.getRequest().getSession().getAttribute(MEMID);
-            } catch (Exception e) {
-                return "";
-            }
+        // 3) 호스트별 최대 커넥션 수
+        for (var route : pool.routes()) {
+            var host = HttpHost.create(route.uri());
+            var secure = "https".equalsIgnoreCase(host.getSchemeName());
+            var port = host.getPort() > 0 ? host.getPort() : (secure ? 443 : 80);
+            var target = new HttpHost(host.getHostName(), port, host.getSchemeName());
+            connectionManager.setMaxPerRoute(new HttpRoute(target, null, secure), route.maxConnections());
         }
+        return connectionManager;
+    }
 
-        private Request traceRequest(HttpRequest request, byte[] body) {
-            var requestBody = new String(body, StandardCharsets.UTF_8);
+    /**
+     * rest-client.transport.type=HC5_ASYNC 일 때 restClient, restClientMin2 가 공유하는 HttpClient 5 async 클라이언트.
+     * 커넥션 수와 수명은 rest-client.pool 설정을 따른다. (routes 는 HC4 에만 적용)
+     */
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(prefix = "rest-client.transport", name = "type", havingValue = "HC5_ASYNC")
+    public CloseableHttpAsyncClient restAsyncHttpClient() {
+        var pool = restClientProperties.pool();
+        var transport = restClientProperties.transport();
 
-            String reqLog = "\n ===========================request begin===========================" +
-                    String.format("%n URI         : %s", request.getURI()) +
-                    String.format("%n PATH        : %s", request.getURI().getPath()) +
-                    String.format("%n QUERY       : %s", request.getURI().getQuery()) +
-                    String.format("%n Method      : %s", request.getMethod()) +
-                    String.format("%n Headers     : %s", request.getHeaders()) +
-                    String.format("%n Request body: %s", requestBody) +
-                    "\n ============================request end============================";
-            log.debug(reqLog);
+        var connectionManager = PoolingAsyncClientConnectionManagerBuilder.create()
+                .setTlsStrategy(ClientTlsStrategyBuilder.create()
+                        .setSslContext(trustAllSslContext())
+                        .setHostnameVerifier(org.apache.hc.client5.http.ssl.NoopHostnameVerifier.INSTANCE)
+                        .build())
+                .setMaxConnTotal(pool.maxTotal())
+                .setMaxConnPerRoute(pool.defaultMaxPerRoute())
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.ofSeconds(10))
+                        .setTimeToLive(TimeValue.ofMilliseconds(pool.timeToLive().toMillis()))
+                        .setValidateAfterInactivity(TimeValue.ofMilliseconds(pool.validateAfterInactivity().toMillis()))
+                        .build())
+                .setDefaultTlsConfig(TlsConfig.custom()
+                        .setVersionPolicy(HttpVersionPolicy.valueOf(transport.versionPolicy().name()))
+                        .build())
+                .build();
 
-            return new Request(request.getURI().getHost(), request.getURI().getPath(), request.getMethod().name(), requestBody, request.getURI().getQuery());
+        var ioReactorConfig = IOReactorConfig.custom();
+        if (transport.ioThreads() > 0) {
+            ioReactorConfig.setIoThreadCount(transport.ioThreads());
         }
 
-        private Response traceResponse(ClientHttpResponse response, Long executionTime) throws IOException {
-            StringBuilder resLog = new StringBuilder();
-            if (null == response) return null;
-            StringBuilder inputStringBuilder = new StringBuilder();
-            try {
-                BufferedReader bufferedReader = new BufferedReader(new InputStreamReader(response.getBody(), StandardCharsets.UTF_8));
-                String line = bufferedReader.readLine();
-                while (line != null) {
-                    inputStringBuilder.append(line);
-                    inputStringBuilder.append('\n');
-                    line = bufferedReader.readLine();
-                }
-            } catch (IOException e) {
-                log.error(getStackTrace(e));
-            }
-
-            resLog.append("\n ==========================response begin===========================");
-            resLog.append(String.format("%n Status code  : %s", response.getStatusCode().value()));
-            resLog.append(String.format("%n Status text  : %s", response.getStatusText()));
-            resLog.append(String.format("%n Headers      : %s", response.getHeaders()));
-            resLog.append(String.format("%n Response body: %s", inputStringBuilder));
-            resLog.append("\n ===========================response end============================");
-            log.debug(resLog.toString());
-
-            return new Response(response.getStatusCode().value(), executionTime, String.valueOf(inputStringBuilder));
-        }
+        var httpClient = HttpAsyncClients.custom()
+                .setConnectionManager(connectionManager)
+                .setIOReactorConfig(ioReactorConfig.build())
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.ofMilliseconds(pool.evictIdleAfter().toMillis()))
+                .build();
+        httpClient.start();
+        return httpClient;
+    }
 
-        record RestLog(String traceId, String timestamp, String callerId, Request request, Response response) {}
-        record Request(String host, String url, String method, String body, String queryString) {}
-        record Response(Integer status, Long duration, String payload) {}
+    @Bean(initMethod = "start", destroyMethod = "shutdown")
+    public IdleConnectionEvictor restConnectionEvictor() {
+        var pool = restClientProperties.pool();
+        return new IdleConnectionEvictor(restConnectionManager(),
+                pool.evictionInterval().toMillis(), TimeUnit.MILLISECONDS,
+                pool.evictIdleAfter().toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @Bean
+    public ConnectionPoolMetrics connectionPoolMetrics() {
+        return new ConnectionPoolMetrics(restConnectionManager());
+    }
+
+    @Bean
+    public LatencyRecorder latencyRecorder() {
+        return new LatencyRecorder(restClientProperties.metrics().maxEndpointsPerHost());
+    }
+
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(prefix = "rest-client.trace", name = "record", havingValue = "true")
+    public SpanRecorder spanRecorder() {
+        return new SpanRecorder(restClientProperties.trace(), rateLimitedErrorLogger);
+    }
+
+    @Bean
+    public ResponseCacheInterceptor responseCacheInterceptor() {
+        return new ResponseCacheInterceptor(restClientProperties.cache());
+    }
+
+    @Bean
+    public CoalescingInterceptor coalescingInterceptor() {
+        return new CoalescingInterceptor(restClientProperties.coalescing());
+    }
+
+    @Bean
+    public ResilienceInterceptor resilienceInterceptor() {
+        return new ResilienceInterceptor(restClientProperties.resilience());
+    }
+
+    @Bean(destroyMethod = "close")
+    public RestLogWriter restLogWriter() {
+        var redaction = restClientProperties.redaction();
+        return new RestLogWriter(restClientProperties.log(), redaction.enabled() ? new JsonPayloadRedactor(redaction) : null);
+    }
+
+    private static SSLContext trustAllSslContext() {
+        try {
+            return SSLContexts.custom()
+                    .loadTrustMaterial(((chain, authType) -> true)) // 모든 인증서를 신뢰
+                    .build();
+        } catch (NoSuchAlgorithmException | KeyManagementException | KeyStoreException e) {
+            throw new IllegalStateException("failed to create ssl context", e);
+        }
     }
 }
@@ -0,0 +1,23 @@
+package com.example.commonsetting.global.config;
+
+import com.example.commonsetting.global.util.ComUtils;
+import com.example.commonsetting.global.util.SecureTokenGenerator;
+import com.example.commonsetting.global.util.type.SecureTokenProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(SecureTokenProperties.class)
+public class SecureTokenConfiguration {
+
+    /**
+     * 빈을 만들면서 prefetch 스레드가 시작되고, ComUtils.createSalt 가 이 생성기를 사용한다.
+     */
+    @Bean(destroyMethod = "close")
+    public SecureTokenGenerator secureTokenGenerator(SecureTokenProperties secureTokenProperties) {
+        var generator = new SecureTokenGenerator(secureTokenProperties.length(), secureTokenProperties.format(), secureTokenProperties.prefetchSize());
+        ComUtils.setSaltGenerator(generator);
+        return generator;
+    }
+}
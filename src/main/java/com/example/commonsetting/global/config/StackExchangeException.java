@@ -3,39 +3,61 @@ package com.example.commonsetting.global.config;
 import lombok.Getter;
 import org.springframework.http.HttpStatus;
 
+import java.util.concurrent.ThreadLocalRandom;
+
 @Getter
 public class StackExchangeException extends RuntimeException {
 
+    /**
+     * stack trace 를 채우는 비율 (1.0 = 항상, 0.0 = 채우지 않음).
+     * 외부 API 장애 시 초당 수천 건씩 생성되는 예외의 fillInStackTrace 비용을 줄이기 위해 낮출 수 있다.
+     */
+    private static volatile double stackTraceSampleRate = 1.0;
+
     private final String code;
     private HttpStatus httpStatus;
 
     public StackExchangeException(String code) {
-        super();
+        super(null, null, true, sampleStackTrace());
         this.code = code;
     }
 
     public StackExchangeException(HttpStatus httpStatus, String code, String message, Throwable cause) {
-        super(message, cause);
+        super(message, cause, true, sampleStackTrace());
         this.httpStatus = httpStatus;
         this.code = code;
     }
 
     public StackExchangeException(HttpStatus httpStatus, String code, String message) {
-        super(message);
+        super(message, null, true, sampleStackTrace());
         this.httpStatus = httpStatus;
         this.code = code;
     }
 
     public StackExchangeException(String code, String message) {
-        super(message);
+        super(message, null, true, sampleStackTrace());
         this.httpStatus = HttpStatus.BAD_REQUEST;
         this.code = code;
     }
 
 
     public StackExchangeException(HttpStatus httpStatus, String message) {
-        super(message);
+        super(message, null, true, sampleStackTrace());
         this.code = String.valueOf(400);;
         this.httpStatus = httpStatus;
     }
+
+    public static void setStackTraceSampleRate(double sampleRate) {
+        stackTraceSampleRate = Math.max(0.0, Math.min(1.0, sampleRate));
+    }
+
+    public static double getStackTraceSampleRate() {
+        return stackTraceSampleRate;
+    }
+
+    private static boolean sampleStackTrace() {
+        var sampleRate = stackTraceSampleRate;
+        if (sampleRate >= 1.0) return true;
+        return sampleRate > 0.0 && ThreadLocalRandom.current().nextDouble() < sampleRate;
+    }
 }
@@ -0,0 +1,29 @@
+package com.example.commonsetting.global.config;
+
+import com.example.commonsetting.global.infra.startup.LazyBeanFactoryPostProcessor;
+import com.example.commonsetting.global.infra.startup.StartupWarmup;
+import com.example.commonsetting.global.infra.startup.type.StartupProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+@Configuration
+@EnableConfigurationProperties(StartupProperties.class)
+public class StartupConfiguration {
+
+    /**
+     * BeanFactoryPostProcessor 는 설정 바인딩보다 먼저 만들어지므로 startup 설정을 직접 바인딩한다.
+     */
+    @Bean
+    public static LazyBeanFactoryPostProcessor lazyBeanFactoryPostProcessor(Environment environment) {
+        var startupProperties = Binder.get(environment).bindOrCreate("startup", StartupProperties.class);
+        return new LazyBeanFactoryPostProcessor(startupProperties.lazy());
+    }
+
+    @Bean
+    public StartupWarmup startupWarmup(StartupProperties startupProperties, LazyBeanFactoryPostProcessor lazyBeanFactoryPostProcessor) {
+        return new StartupWarmup(startupProperties, lazyBeanFactoryPostProcessor);
+    }
+}
@@ -1,24 +1,27 @@
 package com.example.commonsetting.global.exception.code;
 
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 
 import static org.apache.commons.lang3.StringUtils.leftPad;
 import static org.springframework.http.HttpStatus.INTERNAL_SERVER_ERROR;
+import static org.springframework.http.HttpStatus.UNAUTHORIZED;
 
 @Getter
-@RequiredArgsConstructor
 public enum CommonExternalResponseCode implements ResponseCode {
     STACK_UNDEFINED_ERROR("1", INTERNAL_SERVER_ERROR),
     BODY_IS_EMPTY("2", INTERNAL_SERVER_ERROR),
-    API_EXCHANGE_ERROR("3", HttpStatus.SERVICE_UNAVAILABLE)
+    API_EXCHANGE_ERROR("3", HttpStatus.SERVICE_UNAVAILABLE),
+    FAILED_MAILING("4", INTERNAL_SERVER_ERROR),
+    INVALID_TOKEN("5", UNAUTHORIZED)
     ;
 
     private final String code;
     private final HttpStatus httpStatus;
 
-    public String getCode() {
-        return String.format("E-COM-%s", leftPad(code, 4, "0"));
+    CommonExternalResponseCode(String code, HttpStatus httpStatus) {
+        // 호출마다 포맷하지 않도록 생성 시 한 번만 만든다 (E-COM-0001)
+        this.code = "E-COM-" + leftPad(code, 4, "0");
+        this.httpStatus = httpStatus;
     }
-}
\ No newline at end of file
+}
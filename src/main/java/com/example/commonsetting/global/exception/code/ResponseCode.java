@@ -2,6 +2,9 @@ package com.example.commonsetting.global.exception.code;
 
 import org.springframework.http.HttpStatus;
 
+/**
+ * getCode 는 호출마다 문자열을 만들지 않도록 미리 계산된 값을 반환해야 한다. (ResponseCodeRegistry 참고)
+ */
 public interface ResponseCode {
     String getCode();
     HttpStatus getHttpStatus();
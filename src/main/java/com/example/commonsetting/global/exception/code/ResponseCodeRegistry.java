@@ -0,0 +1,41 @@
+package com.example.commonsetting.global.exception.code;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 코드 문자열(E-COM-0003 등) -> ResponseCode 조회.
+ * enum 구현체를 등록하면 각 상수의 getCode 값을 한 번만 읽어 보관하므로, 조회 시 문자열을 새로 만들지 않는다.
+ */
+public final class ResponseCodeRegistry {
+    private static volatile Map<String, ResponseCode> codes = Map.of();
+
+    static {
+        register(CommonExternalResponseCode.class);
+    }
+
+    private ResponseCodeRegistry() {
+    }
+
+    public static synchronized <E extends Enum<E> & ResponseCode> void register(Class<E> type) {
+        Map<String, ResponseCode> registered = new LinkedHashMap<>(codes);
+        for (E constant : type.getEnumConstants()) {
+            var previous = registered.putIfAbsent(constant.getCode(), constant);
+            if (previous != null && previous != constant) {
+                throw new IllegalStateException("duplicate response code " + constant.getCode() + ": " + previous + ", " + constant);
+            }
+        }
+        codes = Collections.unmodifiableMap(registered);
+    }
+
+    public static Optional<ResponseCode> find(String code) {
+        return Optional.ofNullable(codes.get(code));
+    }
+
+    public static Collection<ResponseCode> all() {
+        return codes.values();
+    }
+}
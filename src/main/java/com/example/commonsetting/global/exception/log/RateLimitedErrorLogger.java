@@ -0,0 +1,73 @@
+package com.example.commonsetting.global.exception.log;
+
+import org.slf4j.Logger;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 같은 코드의 오류 로그를 interval 마다 한 번만 남기고, 그 사이의 오류는 개수만 센다.
+ * 다음에 로그를 남길 때 그동안 생략된 개수를 함께 출력한다.
+ */
+public class RateLimitedErrorLogger {
+    private final long intervalNanos;
+    private final Map<String, Window> windows = new ConcurrentHashMap<>();
+
+    private static final class Window {
+        private final AtomicLong nextLogAt = new AtomicLong(Long.MIN_VALUE);
+        private final LongAdder suppressed = new LongAdder();
+    }
+
+    public RateLimitedErrorLogger(Duration interval) {
+        this.intervalNanos = interval.toNanos();
+    }
+
+    /**
+     * @return 실제로 로그를 남겼으면 true
+     */
+    public boolean error(Logger log, String code, String message, Throwable cause) {
+        return error(log, code, message, null, cause);
+    }
+
+    /**
+     * detail(호스트 등)은 로그를 남길 때만 message 뒤에 붙인다. 생략되는 호출에서는 문자열을 만들지 않는다.
+     *
+     * @return 실제로 로그를 남겼으면 true
+     */
+    public boolean error(Logger log, String code, String message, Object detail, Throwable cause) {
+        var window = windows.get(code);
+        if (window == null) {
+            window = windows.computeIfAbsent(code, key -> new Window());
+        }
+
+        var now = System.nanoTime();
+        var nextLogAt = window.nextLogAt.get();
+        if ((nextLogAt != Long.MIN_VALUE && now - nextLogAt < 0) || !window.nextLogAt.compareAndSet(nextLogAt, now + intervalNanos)) {
+            window.suppressed.increment();
+            return false;
+        }
+
+        var suppressed = window.suppressed.sumThenReset();
+        if (detail == null) {
+            if (suppressed > 0) {
+                log.error("[{}] {} (suppressed {} similar error(s))", code, message, suppressed, cause);
+            } else {
+                log.error("[{}] {}", code, message, cause);
+            }
+        } else if (suppressed > 0) {
+            log.error("[{}] {} {} (suppressed {} similar error(s))", code, message, detail, suppressed, cause);
+        } else {
+            log.error("[{}] {} {}", code, message, detail, cause);
+        }
+        return true;
+    }
+
+    public Map<String, Long> suppressedCounts() {
+        Map<String, Long> counts = new ConcurrentHashMap<>();
+        windows.forEach((code, window) -> counts.put(code, window.suppressed.sum()));
+        return counts;
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.commonsetting.global.exception.type;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * @param stackTraceSampleRate StackExchangeException 의 stack trace 를 채우는 비율 (1.0 = 항상)
+ * @param logInterval          같은 코드의 오류 로그를 남기는 최소 간격
+ */
+@ConstructorBinding
+@ConfigurationProperties(prefix = "error-handling")
+public record ErrorHandlingProperties(@DefaultValue("1.0") double stackTraceSampleRate,
+                                      @DefaultValue("10s") Duration logInterval) {
+}
@@ -0,0 +1,15 @@
+package com.example.commonsetting.global.infra.auth;
+
+import java.time.ZonedDateTime;
+import java.util.Map;
+
+/**
+ * 검증된 토큰의 내용. BearerTokenFilter 가 request attribute(CLAIMS_ATTRIBUTE) 로 넘긴다.
+ */
+public record TokenClaims(String subject, ZonedDateTime expiresAt, Map<String, Object> attributes) {
+    public static final String CLAIMS_ATTRIBUTE = TokenClaims.class.getName();
+
+    public TokenClaims {
+        attributes = attributes == null ? Map.of() : Map.copyOf(attributes);
+    }
+}
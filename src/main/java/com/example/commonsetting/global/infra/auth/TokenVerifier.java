@@ -0,0 +1,10 @@
+package com.example.commonsetting.global.infra.auth;
+
+/**
+ * 서명 검증 또는 introspection 호출 등 서비스별 토큰 검증 로직.
+ * 유효하지 않은 토큰이면 StackExchangeException(INVALID_TOKEN) 을 던진다.
+ */
+@FunctionalInterface
+public interface TokenVerifier {
+    TokenClaims verify(String token);
+}
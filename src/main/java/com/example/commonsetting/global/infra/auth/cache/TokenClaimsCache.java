@@ -0,0 +1,124 @@
+package com.example.commonsetting.global.infra.auth.cache;
+
+import com.example.commonsetting.global.infra.auth.TokenClaims;
+import com.example.commonsetting.global.infra.auth.type.AuthProperties;
+import com.example.commonsetting.global.util.ComUtils;
+import com.example.commonsetting.global.util.HashUtils;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 검증된 토큰의 claims 캐시. 원문 토큰 대신 SHA-256 digest 를 키로 보관한다.
+ * 조회 시 토큰이 만료(ComUtils.isExpiresAt)되었거나 maxTtl 이 지났으면 제거하고,
+ * maxEntries 를 넘으면 가장 오래 사용하지 않은 항목부터 제거한다.
+ */
+public class TokenClaimsCache {
+    private final AuthProperties.Cache properties;
+    private final long maxTtlMillis;
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder expirations = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    private record Entry(TokenClaims claims, long cachedUntil) {}
+
+    public TokenClaimsCache(AuthProperties.Cache properties) {
+        this.properties = properties;
+        this.maxTtlMillis = properties.maxTtl().toMillis();
+    }
+
+    public static String key(String token) {
+        return HashUtils.sha256Hex(token);
+    }
+
+    /**
+     * @return 유효한 claims, 없거나 만료되었으면 null
+     */
+    public TokenClaims get(String key) {
+        Entry entry;
+        lock.lock();
+        try {
+            entry = entries.get(key);
+        } finally {
+            lock.unlock();
+        }
+
+        if (entry == null) {
+            misses.increment();
+            return null;
+        }
+        if (System.currentTimeMillis() >= entry.cachedUntil() || ComUtils.isExpiresAt(entry.claims().expiresAt())) {
+            remove(key, entry);
+            expirations.increment();
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return entry.claims();
+    }
+
+    public void put(String key, TokenClaims claims) {
+        // 만료 시각이 없는 토큰은 isExpiresAt 이 항상 true 이므로 캐시하지 않는다
+        if (claims.expiresAt() == null || ComUtils.isExpiresAt(claims.expiresAt())) return;
+
+        var cachedUntil = Math.min(System.currentTimeMillis() + maxTtlMillis, claims.expiresAt().toInstant().toEpochMilli());
+        lock.lock();
+        try {
+            entries.put(key, new Entry(claims, cachedUntil));
+            evictIfNecessary();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void invalidate(String key) {
+        lock.lock();
+        try {
+            entries.remove(key);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public Stats stats() {
+        int size;
+        lock.lock();
+        try {
+            size = entries.size();
+        } finally {
+            lock.unlock();
+        }
+        var hitCount = hits.sum();
+        var missCount = misses.sum();
+        var total = hitCount + missCount;
+        return new Stats(size, hitCount, missCount, total == 0 ? 0 : (double) hitCount / total, expirations.sum(), evictions.sum());
+    }
+
+    private void remove(String key, Entry entry) {
+        lock.lock();
+        try {
+            // 그사이 새로 검증된 항목은 지우지 않는다
+            entries.remove(key, entry);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void evictIfNecessary() {
+        Iterator<Map.Entry<String, Entry>> iterator = entries.entrySet().iterator();
+        while (entries.size() > properties.maxEntries() && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+            evictions.increment();
+        }
+    }
+
+    public record Stats(int entries, long hits, long misses, double hitRate, long expirations, long evictions) {}
+}
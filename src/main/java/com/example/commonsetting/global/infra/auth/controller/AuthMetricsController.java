@@ -0,0 +1,24 @@
+package com.example.commonsetting.global.infra.auth.controller;
+
+import com.example.commonsetting.global.infra.auth.cache.TokenClaimsCache;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/internal/auth")
+public class AuthMetricsController {
+    private final ObjectProvider<TokenClaimsCache> tokenClaimsCacheProvider;
+
+    /**
+     * 필터 또는 캐시가 꺼져 있으면 null (빈 응답)
+     */
+    @GetMapping("/token-cache")
+    public TokenClaimsCache.Stats tokenCache() {
+        var tokenClaimsCache = tokenClaimsCacheProvider.getIfAvailable();
+        return tokenClaimsCache == null ? null : tokenClaimsCache.stats();
+    }
+}
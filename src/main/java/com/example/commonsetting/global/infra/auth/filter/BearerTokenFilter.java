@@ -0,0 +1,124 @@
+package com.example.commonsetting.global.infra.auth.filter;
+
+import com.example.commonsetting.global.config.StackExchangeException;
+import com.example.commonsetting.global.infra.auth.TokenClaims;
+import com.example.commonsetting.global.infra.auth.TokenVerifier;
+import com.example.commonsetting.global.infra.auth.cache.TokenClaimsCache;
+import com.google.gson.JsonObject;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static com.example.commonsetting.global.exception.code.CommonExternalResponseCode.INVALID_TOKEN;
+import static com.example.commonsetting.global.util.ComUtils.resolveToken;
+
+/**
+ * Authorization 헤더의 bearer 토큰을 검증하고 claims 를 request attribute(TokenClaims.CLAIMS_ATTRIBUTE) 에 담는다.
+ * 검증 결과는 TokenClaimsCache 에 보관하여 같은 토큰의 반복 요청은 TokenVerifier 를 호출하지 않는다. (cache 가 null 이면 매번 검증)
+ * ignorePaths(기본 ComUtils.FILTER_IGNORE_PATH) 는 토큰 검사만 건너뛴다. 경로 패턴(/docs/**)도 사용할 수 있다.
+ */
+@Slf4j
+public class BearerTokenFilter extends OncePerRequestFilter {
+    private final TokenVerifier tokenVerifier;
+    private final TokenClaimsCache cache;
+    private final Set<String> ignoreExactPaths = new HashSet<>();
+    private final List<PathPattern> ignorePatterns = new ArrayList<>();
+
+    public BearerTokenFilter(TokenVerifier tokenVerifier, TokenClaimsCache cache, String[] ignorePaths) {
+        this.tokenVerifier = tokenVerifier;
+        this.cache = cache;
+        // 패턴이 아닌 경로는 Set 조회로, 패턴은 미리 파싱해 둔 PathPattern 으로 비교한다
+        for (String path : ignorePaths) {
+            var pattern = PathPatternParser.defaultInstance.parse(path);
+            if (pattern.hasPatternSyntax()) {
+                ignorePatterns.add(pattern);
+            } else {
+                ignoreExactPaths.add(path);
+            }
+        }
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        if (isIgnored(request)) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        var token = resolveToken(request.getHeader(HttpHeaders.AUTHORIZATION));
+        if (token == null) {
+            writeError(response, HttpStatus.UNAUTHORIZED, INVALID_TOKEN.getCode(), "인증 토큰이 없습니다.");
+            return;
+        }
+
+        TokenClaims claims;
+        try {
+            claims = verify(token);
+        } catch (StackExchangeException e) {
+            var status = e.getHttpStatus() != null ? e.getHttpStatus() : HttpStatus.UNAUTHORIZED;
+            log.warn("token verification failed, code={}, message={}", e.getCode(), e.getMessage());
+            writeError(response, status, e.getCode(), e.getMessage());
+            return;
+        }
+        request.setAttribute(TokenClaims.CLAIMS_ATTRIBUTE, claims);
+        filterChain.doFilter(request, response);
+    }
+
+    private TokenClaims verify(String token) {
+        if (cache == null) return verifyWithoutCache(token);
+
+        var key = TokenClaimsCache.key(token);
+        var claims = cache.get(key);
+        if (claims == null) {
+            claims = verifyWithoutCache(token);
+            cache.put(key, claims);
+        }
+        return claims;
+    }
+
+    private TokenClaims verifyWithoutCache(String token) {
+        var claims = tokenVerifier.verify(token);
+        if (claims == null) {
+            throw new StackExchangeException(INVALID_TOKEN.getHttpStatus(), INVALID_TOKEN.getCode(), "유효하지 않은 토큰입니다.");
+        }
+        return claims;
+    }
+
+    private boolean isIgnored(HttpServletRequest request) {
+        var path = request.getRequestURI().substring(request.getContextPath().length());
+        if (ignoreExactPaths.contains(path)) return true;
+        if (ignorePatterns.isEmpty()) return false;
+
+        var pathContainer = PathContainer.parsePath(path);
+        for (PathPattern pattern : ignorePatterns) {
+            if (pattern.matches(pathContainer)) return true;
+        }
+        return false;
+    }
+
+    private static void writeError(HttpServletResponse response, HttpStatus status, String code, String message) throws IOException {
+        var body = new JsonObject();
+        body.addProperty("code", code);
+        body.addProperty("message", message);
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.getWriter().write(body.toString());
+    }
+}
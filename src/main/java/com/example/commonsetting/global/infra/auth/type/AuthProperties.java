@@ -0,0 +1,26 @@
+package com.example.commonsetting.global.infra.auth.type;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * enabled = true 이면 BearerTokenFilter 를 등록한다. (TokenVerifier 빈이 필요하다)
+ */
+@ConstructorBinding
+@ConfigurationProperties(prefix = "auth")
+public record AuthProperties(@DefaultValue("false") boolean enabled,
+                             @DefaultValue("1") int filterOrder,
+                             @DefaultValue Cache cache) {
+
+    /**
+     * 검증된 토큰의 claims 캐시. 토큰 만료 시각과 maxTtl 중 먼저 오는 시점에 무효가 된다.
+     * maxTtl 은 폐기된 토큰을 다시 검증하기까지의 최대 지연이다.
+     */
+    public record Cache(@DefaultValue("true") boolean enabled,
+                        @DefaultValue("10000") int maxEntries,
+                        @DefaultValue("5m") Duration maxTtl) {
+    }
+}
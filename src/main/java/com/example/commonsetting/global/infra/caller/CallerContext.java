@@ -0,0 +1,26 @@
+package com.example.commonsetting.global.infra.caller;
+
+import java.util.List;
+
+/**
+ * 요청을 보낸 사용자 정보. 인바운드 요청마다 세션에서 한 번만 읽어 CallerContextHolder 에 둔다.
+ * SYSTEM 은 인바운드 요청이 없는 스레드(스케줄러, outbox 등), ANONYMOUS 는 세션이 없는 요청이다.
+ */
+public record CallerContext(String memId, String iamId, List<String> groups, boolean system) {
+    public static final CallerContext SYSTEM = new CallerContext(null, null, List.of(), true);
+    public static final CallerContext ANONYMOUS = new CallerContext(null, null, List.of(), false);
+
+    private static final String SYSTEM_CALLER_ID = "system";
+
+    public CallerContext {
+        groups = groups == null ? List.of() : List.copyOf(groups);
+    }
+
+    /**
+     * RestLog 의 callerId. 로그인하지 않은 요청은 빈 문자열이다.
+     */
+    public String callerId() {
+        if (system) return SYSTEM_CALLER_ID;
+        return memId == null ? "" : memId;
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.commonsetting.global.infra.caller;
+
+/**
+ * 현재 스레드의 CallerContext. 설정되지 않은 스레드는 CallerContext.SYSTEM 을 돌려준다.
+ * 작업 스레드로는 MdcTaskDecorator 가 복사한다.
+ */
+public class CallerContextHolder {
+    private static final ThreadLocal<CallerContext> CONTEXT = new ThreadLocal<>();
+
+    private CallerContextHolder() {
+    }
+
+    public static CallerContext get() {
+        var context = CONTEXT.get();
+        return context == null ? CallerContext.SYSTEM : context;
+    }
+
+    /**
+     * @return 설정되어 있던 값 (복원용, 없으면 null)
+     */
+    public static CallerContext set(CallerContext context) {
+        var previous = CONTEXT.get();
+        if (context == null) CONTEXT.remove();
+        else CONTEXT.set(context);
+        return previous;
+    }
+
+    public static void clear() {
+        CONTEXT.remove();
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.commonsetting.global.infra.caller.filter;
+
+import com.example.commonsetting.global.infra.caller.CallerContext;
+import com.example.commonsetting.global.infra.caller.CallerContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import static com.example.commonsetting.global.util.SessionConstants.GROUPS;
+import static com.example.commonsetting.global.util.SessionConstants.IAMID;
+import static com.example.commonsetting.global.util.SessionConstants.MEMID;
+
+/**
+ * 세션의 MEMID, IAMID, GROUPS 를 요청당 한 번 읽어 CallerContextHolder 에 둔다.
+ * getSession(false) 로 조회하므로 세션을 새로 만들지 않는다.
+ */
+public class CallerContextFilter extends OncePerRequestFilter {
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        var previous = CallerContextHolder.set(resolve(request));
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            CallerContextHolder.set(previous);
+        }
+    }
+
+    private static CallerContext resolve(HttpServletRequest request) {
+        var session = request.getSession(false);
+        if (session == null) return CallerContext.ANONYMOUS;
+        try {
+            return new CallerContext(asString(session.getAttribute(MEMID)), asString(session.getAttribute(IAMID)),
+                    asList(session.getAttribute(GROUPS)), false);
+        } catch (IllegalStateException e) {
+            // 요청 처리 중 세션이 무효화된 경우
+            return CallerContext.ANONYMOUS;
+        }
+    }
+
+    private static String asString(Object value) {
+        return value == null ? null : value.toString();
+    }
+
+    private static List<String> asList(Object value) {
+        if (value == null) return List.of();
+        if (value instanceof Collection<?> collection) {
+            List<String> groups = new ArrayList<>(collection.size());
+            collection.forEach(group -> groups.add(String.valueOf(group)));
+            return groups;
+        }
+        if (value instanceof Object[] array) {
+            List<String> groups = new ArrayList<>(array.length);
+            for (Object group : array) {
+                groups.add(String.valueOf(group));
+            }
+            return groups;
+        }
+        // "A,B,C" 형태로 저장된 경우
+        return List.of(value.toString().split(","));
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.commonsetting.global.infra.mail.controller;
+
+import com.example.commonsetting.global.infra.mail.outbox.MailOutbox;
+import com.example.commonsetting.global.infra.mail.template.MailTemplateRenderer;
+import com.example.commonsetting.global.infra.mail.transport.BulkMailDispatcher;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/internal/mail")
+public class MailMetricsController {
+    private final ObjectProvider<MailOutbox> mailOutboxProvider;
+    private final ObjectProvider<BulkMailDispatcher> bulkMailDispatcherProvider;
+    private final ObjectProvider<MailTemplateRenderer> mailTemplateRendererProvider;
+
+    /**
+     * outbox 가 꺼져 있으면 null (빈 응답)
+     */
+    @GetMapping("/outbox")
+    public MailOutbox.Stats outbox() {
+        var mailOutbox = mailOutboxProvider.getIfAvailable();
+        return mailOutbox == null ? null : mailOutbox.stats();
+    }
+
+    @GetMapping("/bulk")
+    public BulkMailDispatcher.Stats bulk() {
+        var bulkMailDispatcher = bulkMailDispatcherProvider.getIfAvailable();
+        return bulkMailDispatcher == null ? null : bulkMailDispatcher.stats();
+    }
+
+    @GetMapping("/template")
+    public MailTemplateRenderer.Stats template() {
+        var mailTemplateRenderer = mailTemplateRendererProvider.getIfAvailable();
+        return mailTemplateRenderer == null ? null : mailTemplateRenderer.stats();
+    }
+}
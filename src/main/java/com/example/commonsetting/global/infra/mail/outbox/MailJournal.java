@@ -0,0 +1,264 @@
+package com.example.commonsetting.global.infra.mail.outbox;
+
+import com.example.commonsetting.global.infra.mail.dto.MailDto;
+import com.google.gson.Gson;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.google.gson.reflect.TypeToken;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Type;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+/**
+ * outbox 의 append-only journal. 파일 전체를 memory-map 하고 아래 형식의 레코드를 순서대로 덧붙인다.
+ * <pre>
+ * [int size][int crc][byte type][long id][long createdAt][payload(UTF-8 JSON, ENQUEUE 만)]
+ * </pre>
+ * size 가 0 이거나 crc 가 맞지 않는 지점을 끝으로 보므로, 기록 중 프로세스가 죽어도 그 앞까지는 복구된다.
+ * 파일이 차면 아직 완료되지 않은 ENQUEUE 만 새 파일로 옮겨 쓴 뒤 교체한다. (남은 레코드가 capacity 를 넘으면 파일을 키운다)
+ */
+class MailJournal implements Closeable {
+    private static final int MAGIC = 0x4D4F4A31; // "MOJ1"
+    private static final int FILE_HEADER_SIZE = 4;
+    private static final int RECORD_HEADER_SIZE = 4 + 4 + 1 + 8 + 8;
+    private static final byte ENQUEUE = 1;
+    private static final byte DONE = 2;
+    private static final Gson GSON = new Gson();
+    private static final Type VARIABLES_TYPE = new TypeToken<Map<String, Object>>() {}.getType();
+    private static final Type ADDRESSES_TYPE = new TypeToken<List<String>>() {}.getType();
+
+    private final Path path;
+    private final int capacity;
+    private final boolean syncOnWrite;
+    private final Map<Long, Record> pending = new LinkedHashMap<>();
+    private final CRC32 crc = new CRC32();
+
+    private MappedByteBuffer buffer;
+    private long nextId = 1;
+    private long compactions;
+
+    record Entry(long id, long createdAt, MailDto mail) {}
+
+    private record Record(long id, long createdAt, byte[] payload) {}
+
+    private MailJournal(Path path, int capacity, boolean syncOnWrite) {
+        this.path = path;
+        this.capacity = capacity;
+        this.syncOnWrite = syncOnWrite;
+    }
+
+    static MailJournal open(Path path, int capacity, boolean syncOnWrite) throws IOException {
+        var journal = new MailJournal(path, capacity, syncOnWrite);
+        if (path.getParent() != null) Files.createDirectories(path.getParent());
+        journal.buffer = map(path, Math.max(capacity, Files.exists(path) ? (int) Files.size(path) : 0));
+        journal.replay();
+        return journal;
+    }
+
+    /**
+     * 재시작 시 다시 발송해야 할 메일 (기록 순서)
+     */
+    synchronized List<Entry> pending() {
+        List<Entry> entries = new ArrayList<>(pending.size());
+        for (Record record : pending.values()) {
+            entries.add(new Entry(record.id(), record.createdAt(), decode(record.payload())));
+        }
+        return entries;
+    }
+
+    synchronized Entry append(MailDto mail) {
+        var record = new Record(nextId++, System.currentTimeMillis(), encode(mail));
+        ensureCapacity(RECORD_HEADER_SIZE + record.payload().length);
+        write(buffer, ENQUEUE, record.id(), record.createdAt(), record.payload());
+        pending.put(record.id(), record);
+        return new Entry(record.id(), record.createdAt(), mail);
+    }
+
+    synchronized void complete(long id) {
+        if (pending.remove(id) == null) return;
+        ensureCapacity(RECORD_HEADER_SIZE);
+        write(buffer, DONE, id, 0L, new byte[0]);
+    }
+
+    synchronized int usedBytes() {
+        return buffer.position();
+    }
+
+    synchronized int capacity() {
+        return buffer.capacity();
+    }
+
+    synchronized long compactions() {
+        return compactions;
+    }
+
+    @Override
+    public synchronized void close() {
+        buffer.force();
+    }
+
+    private void replay() {
+        if (buffer.getInt(0) == 0) {
+            buffer.putInt(0, MAGIC);
+            buffer.position(FILE_HEADER_SIZE);
+            return;
+        }
+        if (buffer.getInt(0) != MAGIC) {
+            throw new IllegalStateException("not a mail outbox journal: " + path);
+        }
+
+        var position = FILE_HEADER_SIZE;
+        while (position + RECORD_HEADER_SIZE <= buffer.capacity()) {
+            var size = buffer.getInt(position);
+            if (size < RECORD_HEADER_SIZE || position + size > buffer.capacity()) break;
+
+            var type = buffer.get(position + 8);
+            var id = buffer.getLong(position + 9);
+            var createdAt = buffer.getLong(position + 17);
+            var payload = new byte[size - RECORD_HEADER_SIZE];
+            buffer.get(position + RECORD_HEADER_SIZE, payload);
+            if (buffer.getInt(position + 4) != checksum(type, id, createdAt, payload)) break;
+
+            if (type == ENQUEUE) {
+                pending.put(id, new Record(id, createdAt, payload));
+            } else {
+                pending.remove(id);
+            }
+            nextId = Math.max(nextId, id + 1);
+            position += size;
+        }
+        // 손상된 레코드 뒤에 남은 유효한 레코드가 새 기록과 이어져 다시 읽히지 않도록 지운다
+        if (position + 4 <= buffer.capacity() && buffer.getInt(position) != 0) {
+            clear(position);
+        }
+        buffer.position(position);
+    }
+
+    private void clear(int from) {
+        var zeros = new byte[8192];
+        for (int position = from; position < buffer.capacity(); position += zeros.length) {
+            buffer.put(position, zeros, 0, Math.min(zeros.length, buffer.capacity() - position));
+        }
+        buffer.force();
+    }
+
+    private void ensureCapacity(int size) {
+        if (buffer.remaining() >= size) return;
+        compact(size);
+    }
+
+    /**
+     * 남은 ENQUEUE 와 다음 레코드(reserve)가 들어갈 크기로 새 파일을 만들어 옮겨 쓴다.
+     * 교체(move)가 끝나기 전에 실패하면 기존 매핑을 그대로 두고 예외를 던진다.
+     */
+    private void compact(int reserve) {
+        long required = FILE_HEADER_SIZE + reserve;
+        for (Record record : pending.values()) {
+            required += RECORD_HEADER_SIZE + record.payload().length;
+        }
+        if (required > Integer.MAX_VALUE) {
+            throw new IllegalStateException("mail outbox journal is full: " + path);
+        }
+
+        var temp = path.resolveSibling(path.getFileName() + ".compact");
+        try {
+            Files.deleteIfExists(temp);
+            var compacted = map(temp, Math.max(capacity, (int) required));
+            compacted.putInt(0, MAGIC);
+            compacted.position(FILE_HEADER_SIZE);
+            for (Record record : pending.values()) {
+                write(compacted, ENQUEUE, record.id(), record.createdAt(), record.payload());
+            }
+            compacted.force();
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            buffer = compacted;
+            compactions++;
+        } catch (IOException e) {
+            deleteQuietly(temp);
+            throw new UncheckedIOException("failed to compact mail outbox journal: " + path, e);
+        }
+    }
+
+    private void write(MappedByteBuffer target, byte type, long id, long createdAt, byte[] payload) {
+        var start = target.position();
+        // size 를 마지막에 기록해야 중간에 죽었을 때 반쯤 쓴 레코드가 유효하게 읽히지 않는다
+        target.position(start + 4);
+        target.putInt(checksum(type, id, createdAt, payload));
+        target.put(type);
+        target.putLong(id);
+        target.putLong(createdAt);
+        target.put(payload);
+        target.putInt(start, RECORD_HEADER_SIZE + payload.length);
+        if (syncOnWrite) target.force();
+    }
+
+    private int checksum(byte type, long id, long createdAt, byte[] payload) {
+        crc.reset();
+        crc.update(type);
+        for (int shift = 56; shift >= 0; shift -= 8) crc.update((int) (id >>> shift));
+        for (int shift = 56; shift >= 0; shift -= 8) crc.update((int) (createdAt >>> shift));
+        crc.update(payload);
+        return (int) crc.getValue();
+    }
+
+    private static void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException ignored) {
+            // 다음 compact 에서 다시 지운다
+        }
+    }
+
+    private static MappedByteBuffer map(Path path, int size) throws IOException {
+        try (var channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            // 매핑은 채널을 닫아도 유지된다
+            return channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+        }
+    }
+
+    /**
+     * Gson 2.9 는 record 를 역직렬화하지 못하므로 직접 JSON 으로 옮긴다.
+     * variables 의 숫자는 복구 시 Double 이 된다.
+     */
+    private static byte[] encode(MailDto mail) {
+        var json = new JsonObject();
+        json.add("to", GSON.toJsonTree(mail.toAddressList(), ADDRESSES_TYPE));
+        json.addProperty("titleMessageCode", mail.titleMessageCode());
+        json.addProperty("service", mail.service());
+        if (mail.content() != null) {
+            json.addProperty("templateHtml", mail.content().templateHtml());
+            json.add("variables", GSON.toJsonTree(mail.content().variables(), VARIABLES_TYPE));
+        }
+        return GSON.toJson(json).getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static MailDto decode(byte[] payload) {
+        var json = JsonParser.parseString(new String(payload, StandardCharsets.UTF_8)).getAsJsonObject();
+        List<String> to = json.has("to") && json.get("to").isJsonArray()
+                ? GSON.fromJson(json.get("to"), ADDRESSES_TYPE)
+                : List.of();
+        MailDto.Content content = json.has("templateHtml")
+                ? new MailDto.Content(string(json, "templateHtml"), GSON.fromJson(json.get("variables"), VARIABLES_TYPE))
+                : null;
+        return new MailDto(to, string(json, "titleMessageCode"), string(json, "service"), content);
+    }
+
+    private static String string(JsonObject json, String name) {
+        var element = json.get(name);
+        return element == null || element.isJsonNull() ? null : element.getAsString();
+    }
+}
@@ -0,0 +1,174 @@
+package com.example.commonsetting.global.infra.mail.outbox;
+
+import com.example.commonsetting.global.config.StackExchangeException;
+import com.example.commonsetting.global.infra.mail.dto.MailDto;
+import com.example.commonsetting.global.infra.mail.type.MailProperties;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+import static com.example.commonsetting.global.exception.code.CommonExternalResponseCode.FAILED_MAILING;
+import static org.apache.commons.lang3.exception.ExceptionUtils.getStackTrace;
+
+/**
+ * 비동기 메일 outbox.
+ * enqueue 는 journal 에 기록한 뒤 바로 반환하고, worker 스레드가 대기열을 꺼내 발송한다.
+ * 실패하면 지수 backoff 로 max-attempts 까지 재시도하며, 재시작 시 journal 에 남은 메일을 다시 발송한다. (at-least-once)
+ */
+@Slf4j
+public class MailOutbox implements Closeable {
+    private final MailProperties.Outbox properties;
+    private final MailJournal journal;
+    private final DelayQueue<Delivery> queue = new DelayQueue<>();
+    private final List<Thread> workers = new ArrayList<>();
+    private final AtomicInteger inflight = new AtomicInteger();
+
+    private final LongAdder enqueued = new LongAdder();
+    private final LongAdder delivered = new LongAdder();
+    private final LongAdder retried = new LongAdder();
+    private final LongAdder dead = new LongAdder();
+    private final LongAdder latencySum = new LongAdder();
+    private final LongAccumulator latencyMax = new LongAccumulator(Math::max, 0L);
+
+    private volatile boolean running;
+
+    public record Stats(int workers, int pending, int inflight, long enqueued, long delivered, long retried, long dead,
+                        long avgLatencyMillis, long maxLatencyMillis, int journalUsedBytes, int journalCapacity, long journalCompactions) {}
+
+    public MailOutbox(MailProperties.Outbox properties) throws IOException {
+        this.properties = properties;
+        this.journal = MailJournal.open(Path.of(properties.journalPath()), (int) properties.journalSize().toBytes(), properties.syncOnWrite());
+    }
+
+    /**
+     * journal 에 남아 있던 메일을 대기열에 올리고 worker 를 시작한다.
+     */
+    public synchronized void start(Consumer<MailDto> sender) {
+        if (running) return;
+        running = true;
+
+        var recovered = journal.pending();
+        for (MailJournal.Entry entry : recovered) {
+            queue.add(new Delivery(entry, 0, System.nanoTime()));
+        }
+        if (!recovered.isEmpty()) log.info("mail outbox recovered {} pending mail(s) from {}", recovered.size(), properties.journalPath());
+
+        for (int i = 0; i < properties.workers(); i++) {
+            var worker = new Thread(() -> work(sender), "mail-outbox-" + i);
+            worker.setDaemon(true);
+            worker.start();
+            workers.add(worker);
+        }
+    }
+
+    public void enqueue(MailDto mail) {
+        MailJournal.Entry entry;
+        try {
+            entry = journal.append(mail);
+        } catch (RuntimeException e) {
+            log.error("mail outbox enqueue error-message \n{}", getStackTrace(e));
+            throw new StackExchangeException(FAILED_MAILING.getHttpStatus(), FAILED_MAILING.getCode(), "메일 발송 대기열에 등록하지 못했습니다.", e);
+        }
+        queue.add(new Delivery(entry, 0, System.nanoTime()));
+        enqueued.increment();
+    }
+
+    public Stats stats() {
+        var count = delivered.sum();
+        return new Stats(workers.size(), queue.size(), inflight.get(), enqueued.sum(), count, retried.sum(), dead.sum(),
+                count == 0 ? 0 : latencySum.sum() / count, latencyMax.get(),
+                journal.usedBytes(), journal.capacity(), journal.compactions());
+    }
+
+    @Override
+    public synchronized void close() {
+        running = false;
+        workers.forEach(Thread::interrupt);
+        for (Thread worker : workers) {
+            try {
+                worker.join(TimeUnit.SECONDS.toMillis(5));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        journal.close();
+    }
+
+    private void work(Consumer<MailDto> sender) {
+        while (running) {
+            Delivery delivery;
+            try {
+                delivery = queue.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+
+            inflight.incrementAndGet();
+            try {
+                sender.accept(delivery.entry().mail());
+                journal.complete(delivery.entry().id());
+                delivered.increment();
+                var latency = System.currentTimeMillis() - delivery.entry().createdAt();
+                latencySum.add(latency);
+                latencyMax.accumulate(latency);
+            } catch (Exception e) {
+                retryOrGiveUp(delivery, e);
+            } finally {
+                inflight.decrementAndGet();
+            }
+        }
+    }
+
+    private void retryOrGiveUp(Delivery delivery, Exception cause) {
+        var attempts = delivery.attempts() + 1;
+        var mail = delivery.entry().mail();
+        if (attempts >= properties.maxAttempts()) {
+            // 더 이상 재시도하지 않으므로 journal 에서도 완료 처리한다
+            journal.complete(delivery.entry().id());
+            dead.increment();
+            log.error("mail outbox gave up after {} attempt(s) => title code: {}, to: {}, cause: {}",
+                    attempts, mail.titleMessageCode(), mail.toAddressList(), cause.getMessage());
+            return;
+        }
+
+        var backoff = backoffNanos(attempts);
+        queue.add(new Delivery(delivery.entry(), attempts, System.nanoTime() + backoff));
+        retried.increment();
+        log.warn("mail outbox retry {}/{} in {}ms => title code: {}, cause: {}",
+                attempts, properties.maxAttempts(), TimeUnit.NANOSECONDS.toMillis(backoff), mail.titleMessageCode(), cause.getMessage());
+    }
+
+    private long backoffNanos(int attempts) {
+        var initial = properties.initialBackoff().toNanos();
+        var max = properties.maxBackoff().toNanos();
+        var backoff = initial << Math.min(attempts - 1, 30);
+        if (backoff <= 0 || backoff > max) backoff = max;
+        // 동시에 실패한 메일이 같은 시점에 몰리지 않도록 ±20% jitter
+        return (long) (backoff * ThreadLocalRandom.current().nextDouble(0.8, 1.2));
+    }
+
+    private record Delivery(MailJournal.Entry entry, int attempts, long dueNanos) implements Delayed {
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(dueNanos - System.nanoTime(), TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            return Long.compare(dueNanos, ((Delivery) other).dueNanos);
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.commonsetting.global.infra.mail.service;
+
+import com.example.commonsetting.global.infra.mail.outbox.MailOutbox;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
+
+/**
+ * 기동 완료 시 outbox worker 를 시작한다.
+ * SendMailComponent 는 첫 발송 시점에 가져오므로, 지연 초기화(startup.lazy)로 아직 만들어지지 않았어도 journal 에 남은 메일이 발송된다.
+ */
+public class MailOutboxStarter implements ApplicationListener<ApplicationReadyEvent> {
+    private final MailOutbox mailOutbox;
+    private final ObjectProvider<SendMailComponent> sendMailComponentProvider;
+
+    public MailOutboxStarter(MailOutbox mailOutbox, ObjectProvider<SendMailComponent> sendMailComponentProvider) {
+        this.mailOutbox = mailOutbox;
+        this.sendMailComponentProvider = sendMailComponentProvider;
+    }
+
+    @Override
+    public void onApplicationEvent(ApplicationReadyEvent event) {
+        mailOutbox.start(mail -> sendMailComponentProvider.getObject().send(mail));
+    }
+}
@@ -1,90 +1,134 @@
 package com.example.commonsetting.global.infra.mail.service;
 
+import com.example.commonsetting.global.config.StackExchangeException;
 import com.example.commonsetting.global.infra.mail.dto.MailDto;
-import ktcloud.gcloud.global.exception.CustomException;
-import ktcloud.gcloud.infra.mail.dto.MailDto;
-import ktcloud.gcloud.infra.mail.type.MailProperties;
+import com.example.commonsetting.global.infra.mail.outbox.MailOutbox;
+import com.example.commonsetting.global.infra.mail.template.MailTemplateRenderer;
+import com.example.commonsetting.global.infra.mail.transport.BulkMailDispatcher;
+import com.example.commonsetting.global.infra.mail.type.MailProperties;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.context.MessageSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.mail.javamail.JavaMailSenderImpl;
 import org.springframework.mail.javamail.MimeMessageHelper;
 import org.springframework.stereotype.Component;
-import org.thymeleaf.context.Context;
-import org.thymeleaf.spring5.SpringTemplateEngine;
 
+import javax.annotation.PostConstruct;
+import javax.mail.Message;
 import javax.mail.MessagingException;
 import javax.mail.internet.AddressException;
 import javax.mail.internet.InternetAddress;
 import javax.mail.internet.MimeMessage;
+import java.io.IOException;
 import java.io.UnsupportedEncodingException;
 import java.util.List;
-import java.util.Locale;
 import java.util.Map;
 
+import static com.example.commonsetting.global.exception.code.CommonExternalResponseCode.FAILED_MAILING;
 import static java.lang.String.join;
 import static javax.mail.internet.InternetAddress.parse;
-import static ktcloud.gcloud.global.exception.code.CommonResponseCode.FAILED_MAILING;
 import static org.apache.commons.lang3.exception.ExceptionUtils.getStackTrace;
-import static org.hibernate.internal.util.collections.CollectionHelper.isNotEmpty;
+import static org.springframework.util.CollectionUtils.isEmpty;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "spring.mail", name = "host")
 public class SendMailComponent {
     private final JavaMailSenderImpl javaMailSender;
-    private final SpringTemplateEngine springTemplateEngine;
+    private final MailTemplateRenderer mailTemplateRenderer;
     private final MailProperties mailProperties;
-    private final MessageSource messageSource;
+    private final ObjectProvider<MailOutbox> mailOutboxProvider;
+    private final BulkMailDispatcher bulkMailDispatcher;
+
+    private MailOutbox mailOutbox;
+
+    @PostConstruct
+    void initOutbox() {
+        // outbox 가 켜져 있으면 sendMail 은 대기열에 넣고 바로 반환하고, 실제 발송은 outbox worker 가 한다 (worker 는 MailOutboxStarter 가 시작)
+        mailOutbox = mailOutboxProvider.getIfAvailable();
+    }
 
     public void sendMail(MailDto info) {
+        if (mailOutbox == null) {
+            send(info);
+            return;
+        }
+        mailOutbox.enqueue(info);
+        log.info("queued mail => title code: {}, to: {}", info.titleMessageCode(), info.toAddressList());
+    }
+
+    /**
+     * 수신자가 많은 공지용. 수신자를 batch 로 나누어 BCC 로 발송하므로 수신자끼리 서로의 주소를 볼 수 없다.
+     * 일부 batch 가 실패해도 예외를 던지지 않고 결과의 failedRecipients 로 알려준다.
+     */
+    public BulkMailDispatcher.BulkResult sendBulk(MailDto info) {
+        var subject = "";
+        BulkMailDispatcher.BulkResult result = null;
+
+        try {
+            subject = getMailTitle(info.titleMessageCode(),info.service());
+
+            MimeMessage mimeMessage = createMimeMessage(info, subject);
+            mimeMessage.setHeader("To", "undisclosed-recipients:;");
+
+            result = bulkMailDispatcher.dispatch(mimeMessage, List.of(getAddressParse(info.toAddressList())));
+            return result;
+
+        } catch (MessagingException | IOException e) {
+            log.error("send bulk mail error-message \n{}", getStackTrace(e));
+            throw new StackExchangeException(FAILED_MAILING.getHttpStatus(), FAILED_MAILING.getCode(), "메일 발송 중 오류가 발생했습니다.", e);
+        } finally {
+            log.info("send bulk mail => subject: {}, result: {}", subject, result);
+        }
+    }
+
+    void send(MailDto info) {
         var isSuccess = false;
         var subject = "";
 
         try {
             subject = getMailTitle(info.titleMessageCode(),info.service());
 
-            MimeMessage mimeMessage = javaMailSender.createMimeMessage();
-            MimeMessageHelper mimeMessageHelper = new MimeMessageHelper(mimeMessage, false, "UTF-8"); // use multipart (true)
-            mimeMessageHelper.setSubject(subject);
-            mimeMessageHelper.setText(getTemplate(info.content().templateHtml(), info.content().variables()), true);
-            mimeMessageHelper.setFrom(new InternetAddress(mailProperties.from().address(), mailProperties.from().name(), "UTF-8"));
-            mimeMessageHelper.setTo(getAddressParse(info.toAddressList()));
+            MimeMessage mimeMessage = createMimeMessage(info, subject);
+            mimeMessage.setRecipients(Message.RecipientType.TO, getAddressParse(info.toAddressList()));
 
             javaMailSender.send(mimeMessage);
             isSuccess = true;
 
         } catch (MessagingException | UnsupportedEncodingException e) {
             log.error("send mail error-message \n{}", getStackTrace(e));
-            throw new CustomException(FAILED_MAILING);
+            throw new StackExchangeException(FAILED_MAILING.getHttpStatus(), FAILED_MAILING.getCode(), "메일 발송 중 오류가 발생했습니다.", e);
         } catch (Exception e) {
             log.error("send mail (exception) error-message \n{}", getStackTrace(e));
-            throw new CustomException(FAILED_MAILING);
+            throw new StackExchangeException(FAILED_MAILING.getHttpStatus(), FAILED_MAILING.getCode(), "메일 발송 중 오류가 발생했습니다.", e);
         } finally {
             log.info("send mail [{}] => subject: {}, to: {}", isSuccess, subject, info.toAddressList());
         }
     }
 
-    private String getTemplate(String fileName, final Map<String, Object> variables) {
-        return springTemplateEngine.process(fileName, addCommonVariable(variables));
+    private MimeMessage createMimeMessage(MailDto info, String subject) throws MessagingException, UnsupportedEncodingException {
+        MimeMessage mimeMessage = javaMailSender.createMimeMessage();
+        MimeMessageHelper mimeMessageHelper = new MimeMessageHelper(mimeMessage, false, "UTF-8"); // use multipart (true)
+        mimeMessageHelper.setSubject(subject);
+        mimeMessageHelper.setText(getTemplate(info.content().templateHtml(), info.content().variables()), true);
+        mimeMessageHelper.setFrom(new InternetAddress(mailProperties.from().address(), mailProperties.from().name(), "UTF-8"));
+        return mimeMessage;
     }
 
-    private Context addCommonVariable(final Map<String, Object> variables) {
-        Context context = new Context();
-        context.setVariables(variables);
-        context.setVariable("imageURL", mailProperties.imageUrl());
-        context.setVariable("ts", System.currentTimeMillis());
-        return context;
+    private String getTemplate(String fileName, final Map<String, Object> variables) {
+        return mailTemplateRenderer.render(fileName, variables);
     }
 
     private InternetAddress[] getAddressParse(List<String> addressList) throws AddressException {
-        if (isNotEmpty(addressList)) {
+        if (!isEmpty(addressList)) {
             return parse(join(",", addressList), true);
         }
         return new InternetAddress[0];
     }
 
     private String getMailTitle(String titleCodeName, String... values) {
-        return messageSource.getMessage(titleCodeName, values, "", Locale.getDefault());
+        return mailTemplateRenderer.title(titleCodeName, values);
     }
-}
\ No newline at end of file
+}
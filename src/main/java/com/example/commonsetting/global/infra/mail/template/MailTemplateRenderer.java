@@ -0,0 +1,145 @@
+package com.example.commonsetting.global.infra.mail.template;
+
+import com.example.commonsetting.global.infra.mail.type.MailDecoration;
+import com.example.commonsetting.global.infra.mail.type.MailProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.MessageSource;
+import org.springframework.stereotype.Component;
+import org.thymeleaf.cache.StandardCache;
+import org.thymeleaf.context.Context;
+import org.thymeleaf.spring5.SpringTemplateEngine;
+import org.thymeleaf.templateresolver.ITemplateResolver;
+
+import javax.annotation.PostConstruct;
+import java.io.Writer;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 메일 본문/제목 렌더러.
+ * 기동 시 모든 MailDecoration 템플릿을 한 번 처리해 Thymeleaf 템플릿 캐시에 파싱 결과를 올려두고,
+ * 제목은 (code, locale, args) 별로 캐시한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "spring.mail", name = "host")
+public class MailTemplateRenderer {
+    private static final int MAX_CACHED_TITLES = 1024;
+
+    private final SpringTemplateEngine springTemplateEngine;
+    private final MessageSource messageSource;
+    private final MailProperties mailProperties;
+
+    private final Map<TitleKey, String> titles = new ConcurrentHashMap<>();
+    private final LongAdder titleHits = new LongAdder();
+    private final LongAdder titleMisses = new LongAdder();
+    private final LongAdder renders = new LongAdder();
+    private final LongAdder renderNanos = new LongAdder();
+    private final LongAccumulator maxRenderNanos = new LongAccumulator(Math::max, 0L);
+    private int warmedTemplates;
+
+    public record Stats(int warmedTemplates, long templateCacheHits, long templateCacheMisses, int cachedTitles, long titleHits,
+                        long titleMisses, long renders, long avgRenderMicros, long maxRenderMicros) {}
+
+    private record TitleKey(String code, Locale locale, List<String> args) {}
+
+    @PostConstruct
+    void warmUp() {
+        for (MailDecoration decoration : MailDecoration.values()) {
+            if (!templateExists(decoration.getTemplateHtml())) {
+                log.warn("mail template not found => {}", decoration.getTemplateHtml());
+                continue;
+            }
+            try {
+                // 변수가 없어 처리 중 실패할 수 있지만, 파싱은 처리 전에 끝나 캐시에 남는다
+                springTemplateEngine.process(decoration.getTemplateHtml(), new Context(), Writer.nullWriter());
+            } catch (RuntimeException e) {
+                log.debug("mail template warm-up => {}: {}", decoration.getTemplateHtml(), e.getMessage());
+            }
+            warmedTemplates++;
+        }
+    }
+
+    public String render(String templatePath, Map<String, Object> variables) {
+        var startedAt = System.nanoTime();
+        try {
+            return springTemplateEngine.process(templatePath, addCommonVariable(variables));
+        } finally {
+            var elapsed = System.nanoTime() - startedAt;
+            renders.increment();
+            renderNanos.add(elapsed);
+            maxRenderNanos.accumulate(elapsed);
+        }
+    }
+
+    /**
+     * 같은 템플릿에 여러 변수 묶음을 여러 코어에 나누어 렌더링한다. 결과 순서는 입력 순서와 같다.
+     */
+    public List<String> renderAll(String templatePath, List<Map<String, Object>> variablesList) {
+        return variablesList.parallelStream().map(variables -> render(templatePath, variables)).toList();
+    }
+
+    public String title(String code, String... args) {
+        return title(code, Locale.getDefault(), args);
+    }
+
+    public String title(String code, Locale locale, String... args) {
+        var key = new TitleKey(code, locale, Arrays.asList(args));
+        var title = titles.get(key);
+        if (title != null) {
+            titleHits.increment();
+            return title;
+        }
+
+        titleMisses.increment();
+        title = messageSource.getMessage(code, args, "", locale);
+        if (titles.size() < MAX_CACHED_TITLES) {
+            titles.putIfAbsent(key, title);
+        }
+        return title;
+    }
+
+    public Stats stats() {
+        var hits = 0L;
+        var misses = 0L;
+        var cacheManager = springTemplateEngine.getCacheManager();
+        if (cacheManager != null && cacheManager.getTemplateCache() instanceof StandardCache<?, ?> templateCache) {
+            hits = templateCache.getHitCount();
+            misses = templateCache.getMissCount();
+        }
+        var count = renders.sum();
+        return new Stats(warmedTemplates, hits, misses, titles.size(), titleHits.sum(), titleMisses.sum(), count,
+                count == 0 ? 0 : TimeUnit.NANOSECONDS.toMicros(renderNanos.sum() / count),
+                TimeUnit.NANOSECONDS.toMicros(maxRenderNanos.get()));
+    }
+
+    private Context addCommonVariable(final Map<String, Object> variables) {
+        Context context = new Context();
+        context.setVariables(variables);
+        context.setVariable("imageURL", mailProperties.imageUrl());
+        context.setVariable("ts", System.currentTimeMillis());
+        return context;
+    }
+
+    /**
+     * TemplateManager 와 같은 순서로 resolver 를 확인한다. (resource 존재 여부를 검증하지 않는 resolver 는 직접 확인)
+     */
+    private boolean templateExists(String template) {
+        var configuration = springTemplateEngine.getConfiguration();
+        for (ITemplateResolver resolver : configuration.getTemplateResolvers()) {
+            var resolution = resolver.resolveTemplate(configuration, null, template, null);
+            if (resolution == null) continue;
+            if (resolution.isTemplateResourceExistenceVerified() || resolution.getTemplateResource().exists()) return true;
+        }
+        return false;
+    }
+}
@@ -0,0 +1,134 @@
+package com.example.commonsetting.global.infra.mail.transport;
+
+import com.example.commonsetting.global.infra.mail.type.MailProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import javax.mail.Address;
+import javax.mail.MessagingException;
+import javax.mail.SendFailedException;
+import javax.mail.Transport;
+import javax.mail.internet.MimeMessage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 한 통의 메일을 많은 수신자에게 보낸다.
+ * 수신자를 batch-size 단위로 나누어 SMTP envelope(RCPT TO)에만 넣으므로 헤더에는 수신자 목록이 남지 않고 (BCC),
+ * 각 batch 는 SmtpTransportPool 의 연결을 빌려 병렬로 발송한다. 발송 속도는 token bucket 으로 제한한다.
+ */
+@Slf4j
+public class BulkMailDispatcher implements Closeable {
+    private final SmtpTransportPool transportPool;
+    private final MailProperties.Bulk properties;
+    private final TokenBucket rateLimiter;
+    private final ThreadPoolTaskExecutor executor;
+
+    private final LongAdder sentBatches = new LongAdder();
+    private final LongAdder failedBatches = new LongAdder();
+
+    public record BulkResult(int recipients, int batches, int failedBatches, List<String> failedRecipients, long elapsedMillis) {
+        public boolean isSuccess() {
+            return failedRecipients.isEmpty();
+        }
+    }
+
+    public record Stats(long sentBatches, long failedBatches, SmtpTransportPool.Stats pool) {}
+
+    public BulkMailDispatcher(SmtpTransportPool transportPool, MailProperties.Bulk properties) {
+        this.transportPool = transportPool;
+        this.properties = properties;
+        this.rateLimiter = new TokenBucket(properties.ratePerSecond(), properties.poolSize());
+
+        this.executor = new ThreadPoolTaskExecutor();
+        this.executor.setCorePoolSize(properties.poolSize());
+        this.executor.setMaxPoolSize(properties.poolSize());
+        this.executor.setThreadNamePrefix("mail-bulk-");
+        this.executor.initialize();
+    }
+
+    /**
+     * message 의 To/Cc/Bcc 헤더는 사용하지 않고 recipients 에게만 발송한다. 모든 batch 가 끝날 때까지 기다린다.
+     */
+    public BulkResult dispatch(MimeMessage message, List<? extends Address> recipients) throws MessagingException, IOException {
+        var startedAt = System.currentTimeMillis();
+        message.saveChanges();
+        // MimeMessage 는 여러 스레드에서 동시에 쓰면 안전하지 않으므로 한 번 직렬화해 두고 batch 마다 복원한다
+        var raw = new ByteArrayOutputStream();
+        message.writeTo(raw);
+        var bytes = raw.toByteArray();
+
+        var batchSize = Math.max(1, properties.batchSize());
+        List<CompletableFuture<List<String>>> futures = new ArrayList<>();
+        for (int from = 0; from < recipients.size(); from += batchSize) {
+            var batch = recipients.subList(from, Math.min(from + batchSize, recipients.size())).toArray(Address[]::new);
+            futures.add(CompletableFuture.supplyAsync(() -> sendBatch(bytes, batch), executor));
+        }
+
+        List<String> failedRecipients = new ArrayList<>();
+        var failed = 0;
+        for (CompletableFuture<List<String>> future : futures) {
+            var failedInBatch = future.join();
+            if (!failedInBatch.isEmpty()) {
+                failed++;
+                failedRecipients.addAll(failedInBatch);
+            }
+        }
+        return new BulkResult(recipients.size(), futures.size(), failed, failedRecipients, System.currentTimeMillis() - startedAt);
+    }
+
+    public Stats stats() {
+        return new Stats(sentBatches.sum(), failedBatches.sum(), transportPool.stats());
+    }
+
+    @Override
+    public void close() {
+        executor.shutdown();
+    }
+
+    private List<String> sendBatch(byte[] message, Address[] batch) {
+        Transport transport = null;
+        var broken = false;
+        try {
+            rateLimiter.acquire();
+            var copy = new MimeMessage(transportPool.session(), new ByteArrayInputStream(message));
+            transport = transportPool.borrow();
+            transport.sendMessage(copy, batch);
+            sentBatches.increment();
+            return List.of();
+        } catch (SendFailedException e) {
+            // 일부 주소만 거절된 경우로, 연결은 계속 사용할 수 있다
+            log.warn("bulk mail batch partially failed => {}", e.getMessage());
+            failedBatches.increment();
+            return addresses(e.getInvalidAddresses(), e.getValidUnsentAddresses());
+        } catch (MessagingException e) {
+            broken = true;
+            log.error("bulk mail batch failed ({} recipient(s)) => {}", batch.length, e.getMessage());
+            failedBatches.increment();
+            return addresses(batch);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            failedBatches.increment();
+            return addresses(batch);
+        } finally {
+            if (transport != null) transportPool.release(transport, broken);
+        }
+    }
+
+    private static List<String> addresses(Address[]... groups) {
+        List<String> result = new ArrayList<>();
+        for (Address[] group : groups) {
+            if (group == null) continue;
+            for (Address address : group) {
+                result.add(address.toString());
+            }
+        }
+        return result;
+    }
+}
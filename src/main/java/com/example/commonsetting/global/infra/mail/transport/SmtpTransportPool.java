@@ -0,0 +1,135 @@
+package com.example.commonsetting.global.infra.mail.transport;
+
+import com.example.commonsetting.global.infra.mail.type.MailProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+
+import javax.mail.MessagingException;
+import javax.mail.Session;
+import javax.mail.Transport;
+import java.io.Closeable;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 인증까지 마친 SMTP Transport 를 재사용하는 pool.
+ * JavaMailSenderImpl.send 는 호출마다 연결/인증/종료를 반복하므로 대량 발송에서는 이 pool 에서 빌려 쓴다.
+ * 최대 pool-size 개까지 필요할 때 연결하고, max-idle 을 넘게 쉬었거나 끊긴 연결은 버리고 새로 연결한다.
+ */
+@Slf4j
+public class SmtpTransportPool implements Closeable {
+    private final JavaMailSenderImpl javaMailSender;
+    private final MailProperties.Bulk properties;
+    private final Semaphore permits;
+    private final ConcurrentLinkedDeque<Idle> idle = new ConcurrentLinkedDeque<>();
+
+    private final LongAdder created = new LongAdder();
+    private final LongAdder reused = new LongAdder();
+    private final LongAdder discarded = new LongAdder();
+
+    private volatile boolean closed;
+
+    public record Stats(int maxSize, int leased, int idle, long created, long reused, long discarded) {}
+
+    private record Idle(Transport transport, long releasedAt) {}
+
+    public SmtpTransportPool(JavaMailSenderImpl javaMailSender, MailProperties.Bulk properties) {
+        this.javaMailSender = javaMailSender;
+        this.properties = properties;
+        this.permits = new Semaphore(properties.poolSize(), true);
+    }
+
+    /**
+     * 연결된 Transport 를 빌린다. 사용 후 반드시 release 해야 한다.
+     */
+    public Transport borrow() throws MessagingException, InterruptedException {
+        if (closed) throw new IllegalStateException("smtp transport pool is closed");
+        if (!permits.tryAcquire(properties.borrowTimeout().toMillis(), TimeUnit.MILLISECONDS)) {
+            throw new MessagingException("smtp transport pool exhausted (waited " + properties.borrowTimeout() + ")");
+        }
+
+        try {
+            Idle candidate;
+            while ((candidate = idle.pollFirst()) != null) {
+                if (isReusable(candidate)) {
+                    reused.increment();
+                    return candidate.transport();
+                }
+                discard(candidate.transport());
+            }
+            return connect();
+        } catch (MessagingException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    /**
+     * @param broken 발송 중 연결 오류가 있었으면 true (pool 에 돌려놓지 않고 닫는다)
+     */
+    public void release(Transport transport, boolean broken) {
+        try {
+            if (broken || closed) {
+                discard(transport);
+            } else {
+                // 마지막에 쓴 연결을 먼저 꺼내도록 앞쪽에 넣는다
+                idle.offerFirst(new Idle(transport, System.nanoTime()));
+            }
+        } finally {
+            permits.release();
+        }
+    }
+
+    public Session session() {
+        return javaMailSender.getSession();
+    }
+
+    public Stats stats() {
+        var idleCount = idle.size();
+        return new Stats(properties.poolSize(), properties.poolSize() - permits.availablePermits(), idleCount,
+                created.sum(), reused.sum(), discarded.sum());
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        Idle candidate;
+        while ((candidate = idle.pollFirst()) != null) {
+            discard(candidate.transport());
+        }
+    }
+
+    private boolean isReusable(Idle candidate) {
+        if (System.nanoTime() - candidate.releasedAt() > properties.maxIdle().toNanos()) return false;
+        // SMTPTransport.isConnected 는 서버에 NOOP 을 보내 연결 상태를 확인한다
+        return candidate.transport().isConnected();
+    }
+
+    private Transport connect() throws MessagingException {
+        // JavaMailSenderImpl 과 같이 protocol 이 없으면 session 의 mail.transport.protocol, 그다음 smtp 를 쓴다
+        var session = javaMailSender.getSession();
+        var protocol = javaMailSender.getProtocol();
+        if (protocol == null) protocol = session.getProperty("mail.transport.protocol");
+        if (protocol == null) protocol = "smtp";
+        var transport = session.getTransport(protocol);
+        var username = javaMailSender.getUsername();
+        var password = javaMailSender.getPassword();
+        if ("".equals(username)) username = null;
+        if ("".equals(password)) password = null;
+
+        transport.connect(javaMailSender.getHost(), javaMailSender.getPort(), username, password);
+        created.increment();
+        return transport;
+    }
+
+    private void discard(Transport transport) {
+        discarded.increment();
+        try {
+            transport.close();
+        } catch (MessagingException e) {
+            log.debug("smtp transport close error => {}", e.getMessage());
+        }
+    }
+}
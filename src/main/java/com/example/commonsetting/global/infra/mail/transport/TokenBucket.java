@@ -0,0 +1,36 @@
+package com.example.commonsetting.global.infra.mail.transport;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 초당 permitsPerSecond 개를 채우고 최대 burst 개까지 쌓아두는 token bucket.
+ * 토큰이 없으면 다음 토큰을 미리 예약한 뒤 그만큼만 기다리므로, 여러 스레드가 동시에 호출해도 순서대로 간격이 벌어진다.
+ */
+class TokenBucket {
+    private final double permitsPerNano;
+    private final double burst;
+
+    private double tokens;
+    private long refilledAt;
+
+    TokenBucket(double permitsPerSecond, double burst) {
+        if (permitsPerSecond <= 0) throw new IllegalArgumentException("permitsPerSecond must be positive: " + permitsPerSecond);
+        this.permitsPerNano = permitsPerSecond / TimeUnit.SECONDS.toNanos(1);
+        this.burst = Math.max(1, burst);
+        this.tokens = this.burst;
+        this.refilledAt = System.nanoTime();
+    }
+
+    void acquire() throws InterruptedException {
+        var waitNanos = reserve();
+        if (waitNanos > 0) TimeUnit.NANOSECONDS.sleep(waitNanos);
+    }
+
+    private synchronized long reserve() {
+        var now = System.nanoTime();
+        tokens = Math.min(burst, tokens + (now - refilledAt) * permitsPerNano);
+        refilledAt = now;
+        tokens -= 1;
+        return tokens >= 0 ? 0 : (long) (-tokens / permitsPerNano);
+    }
+}
@@ -2,10 +2,38 @@ package com.example.commonsetting.global.infra.mail.type;
 
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.boot.context.properties.ConstructorBinding;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
 
 @ConstructorBinding
 @ConfigurationProperties(prefix = "mail")
-public record MailProperties(String imageUrl, From from) {
+public record MailProperties(String imageUrl, From from, @DefaultValue Outbox outbox, @DefaultValue Bulk bulk) {
     public record From(String address, String name) {
     }
-}
\ No newline at end of file
+
+    /**
+     * 비동기 발송 outbox. 대기 중인 메일은 journal-path 파일(memory-mapped)에 기록되어 재시작 후 다시 발송된다.
+     */
+    public record Outbox(@DefaultValue("false") boolean enabled,
+                         @DefaultValue("2") int workers,
+                         @DefaultValue("./data/mail-outbox.journal") String journalPath,
+                         @DefaultValue("16MB") DataSize journalSize,
+                         @DefaultValue("false") boolean syncOnWrite,
+                         @DefaultValue("5") int maxAttempts,
+                         @DefaultValue("1s") Duration initialBackoff,
+                         @DefaultValue("5m") Duration maxBackoff) {
+    }
+
+    /**
+     * 대량 발송. 수신자를 batch-size 단위로 나누어(각 batch 는 BCC 로 발송) pool-size 개의 SMTP 연결에서 병렬로 보내고,
+     * 전체 발송 속도는 초당 rate-per-second 건(batch 기준)으로 제한한다.
+     */
+    public record Bulk(@DefaultValue("4") int poolSize,
+                       @DefaultValue("50") int batchSize,
+                       @DefaultValue("10") double ratePerSecond,
+                       @DefaultValue("30s") Duration borrowTimeout,
+                       @DefaultValue("1m") Duration maxIdle) {
+    }
+}
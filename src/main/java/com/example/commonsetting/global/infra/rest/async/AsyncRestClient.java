@@ -0,0 +1,131 @@
+package com.example.commonsetting.global.infra.rest.async;
+
+import com.example.commonsetting.global.config.StackExchangeException;
+import com.example.commonsetting.global.infra.rest.type.RestClientProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.Closeable;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+
+import static com.example.commonsetting.global.exception.code.CommonExternalResponseCode.API_EXCHANGE_ERROR;
+
+/**
+ * RestTemplate 호출을 전용 실행기에서 비동기로 수행한다.
+ * 인터셉터/ErrorHandler 는 감싼 RestTemplate 의 것을 그대로 사용하고, MDC 는 작업 스레드로 전파된다.
+ */
+@Slf4j
+public class AsyncRestClient implements Closeable {
+    private final RestTemplate restTemplate;
+    private final ThreadPoolTaskExecutor executor;
+    private final Duration defaultDeadline;
+
+    public AsyncRestClient(RestTemplate restTemplate, RestClientProperties.Async properties) {
+        this.restTemplate = restTemplate;
+        this.defaultDeadline = properties.defaultDeadline();
+        this.executor = new ThreadPoolTaskExecutor();
+        this.executor.setCorePoolSize(properties.corePoolSize());
+        this.executor.setMaxPoolSize(properties.maxPoolSize());
+        this.executor.setQueueCapacity(properties.queueCapacity());
+        this.executor.setThreadNamePrefix("async-rest-");
+        this.executor.setTaskDecorator(new MdcTaskDecorator());
+        this.executor.initialize();
+    }
+
+    public <T> CompletableFuture<T> submit(Function<RestTemplate, T> call) {
+        try {
+            return CompletableFuture.supplyAsync(() -> call.apply(restTemplate), executor);
+        } catch (RejectedExecutionException e) {
+            log.warn("async rest executor is saturated, active={}, queued={}", executor.getActiveCount(), executor.getThreadPoolExecutor().getQueue().size());
+            return CompletableFuture.failedFuture(
+                    new StackExchangeException(API_EXCHANGE_ERROR.getHttpStatus(), API_EXCHANGE_ERROR.getCode(), "API 비동기 호출 대기열이 가득 찼습니다.", e));
+        }
+    }
+
+    public <T> CompletableFuture<T> getForObject(String url, Class<T> responseType, Object... uriVariables) {
+        return submit(rest -> rest.getForObject(url, responseType, uriVariables));
+    }
+
+    public <T> CompletableFuture<ResponseEntity<T>> exchange(String url, HttpMethod method, HttpEntity<?> requestEntity,
+                                                             Class<T> responseType, Object... uriVariables) {
+        return submit(rest -> rest.exchange(url, method, requestEntity, responseType, uriVariables));
+    }
+
+    public <T> CompletableFuture<ResponseEntity<T>> exchange(String url, HttpMethod method, HttpEntity<?> requestEntity,
+                                                             ParameterizedTypeReference<T> responseType, Object... uriVariables) {
+        return submit(rest -> rest.exchange(url, method, requestEntity, responseType, uriVariables));
+    }
+
+    public <T> List<T> fanOut(List<Function<RestTemplate, T>> calls) {
+        return fanOut(calls, defaultDeadline);
+    }
+
+    /**
+     * calls 를 병렬로 호출하고 deadline 안에 모두 모아서 요청 순서대로 반환한다.
+     * 하나라도 실패하거나 deadline 을 넘기면 남은 호출을 취소하고 StackExchangeException 을 던진다.
+     */
+    public <T> List<T> fanOut(List<Function<RestTemplate, T>> calls, Duration deadline) {
+        List<CompletableFuture<T>> futures = new ArrayList<>(calls.size());
+        for (Function<RestTemplate, T> call : calls) {
+            futures.add(submit(call));
+        }
+        return gather(futures, deadline);
+    }
+
+    public <T> List<T> gather(List<CompletableFuture<T>> futures, Duration deadline) {
+        var all = CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new));
+        // allOf 는 모두 끝나야 완료되므로, 첫 실패에서 바로 깨어나도록 따로 기다린다
+        var firstFailure = new CompletableFuture<Void>();
+        futures.forEach(future -> future.whenComplete((result, failure) -> {
+            if (failure != null) firstFailure.completeExceptionally(failure);
+        }));
+        try {
+            CompletableFuture.anyOf(all, firstFailure).get(deadline.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            futures.forEach(future -> future.cancel(false));
+            throw new StackExchangeException(API_EXCHANGE_ERROR.getHttpStatus(), API_EXCHANGE_ERROR.getCode(), "API 응답 대기 시간을 초과했습니다.", e);
+        } catch (ExecutionException e) {
+            futures.forEach(future -> future.cancel(false));
+            throw unwrap(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            futures.forEach(future -> future.cancel(false));
+            throw new StackExchangeException(API_EXCHANGE_ERROR.getHttpStatus(), API_EXCHANGE_ERROR.getCode(), "API 통신 중 오류가 발생했습니다.", e);
+        }
+
+        List<T> results = new ArrayList<>(futures.size());
+        for (CompletableFuture<T> future : futures) {
+            results.add(future.join());
+        }
+        return results;
+    }
+
+    @Override
+    public void close() {
+        executor.shutdown();
+    }
+
+    private static RuntimeException unwrap(Throwable cause) {
+        while (cause instanceof CompletionException && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        if (cause instanceof StackExchangeException stackExchangeException) {
+            return stackExchangeException;
+        }
+        return new StackExchangeException(API_EXCHANGE_ERROR.getHttpStatus(), API_EXCHANGE_ERROR.getCode(), "API 통신 중 오류가 발생했습니다.", cause);
+    }
+}
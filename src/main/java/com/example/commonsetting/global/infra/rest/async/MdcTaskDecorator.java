@@ -0,0 +1,30 @@
+package com.example.commonsetting.global.infra.rest.async;
+
+import com.example.commonsetting.global.infra.caller.CallerContextHolder;
+import org.slf4j.MDC;
+import org.springframework.core.task.TaskDecorator;
+
+/**
+ * 호출 스레드의 MDC(traceId 등)와 CallerContext 를 작업 스레드로 복사한다.
+ */
+public class MdcTaskDecorator implements TaskDecorator {
+
+    @Override
+    public Runnable decorate(Runnable runnable) {
+        var contextMap = MDC.getCopyOfContextMap();
+        var callerContext = CallerContextHolder.get();
+        return () -> {
+            var previous = MDC.getCopyOfContextMap();
+            var previousCaller = CallerContextHolder.set(callerContext);
+            if (contextMap == null) MDC.clear();
+            else MDC.setContextMap(contextMap);
+            try {
+                runnable.run();
+            } finally {
+                if (previous == null) MDC.clear();
+                else MDC.setContextMap(previous);
+                CallerContextHolder.set(previousCaller);
+            }
+        };
+    }
+}
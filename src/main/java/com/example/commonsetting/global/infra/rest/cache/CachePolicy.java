@@ -0,0 +1,55 @@
+package com.example.commonsetting.global.infra.rest.cache;
+
+import org.springframework.http.HttpHeaders;
+
+/**
+ * 응답 헤더(Cache-Control, Expires, Date)로부터 저장 가능 여부와 만료 시각을 계산한다.
+ */
+record CachePolicy(boolean noStore, boolean noCache, long expiresAt) {
+
+    static CachePolicy of(HttpHeaders headers, long now) {
+        var noStore = false;
+        var noCache = false;
+        long maxAge = -1;
+
+        for (String value : headers.getOrEmpty(HttpHeaders.CACHE_CONTROL)) {
+            for (String directive : value.split(",")) {
+                var token = directive.trim().toLowerCase();
+                if (token.equals("no-store")) {
+                    noStore = true;
+                } else if (token.equals("no-cache") || token.startsWith("no-cache=")) {
+                    noCache = true;
+                } else if (token.startsWith("max-age=")) {
+                    maxAge = parseSeconds(token.substring("max-age=".length()));
+                }
+            }
+        }
+
+        long expiresAt;
+        if (maxAge >= 0) {
+            expiresAt = now + maxAge * 1000;
+        } else {
+            var expires = headers.getExpires();
+            var date = headers.getDate();
+            // Date 가 있으면 서버 기준 수명(Expires - Date)을 사용해 시계 오차를 줄인다
+            expiresAt = expires <= 0 ? now : (date > 0 ? now + (expires - date) : expires);
+        }
+        return new CachePolicy(noStore, noCache, expiresAt);
+    }
+
+    boolean isFresh(long now) {
+        return !noCache && now < expiresAt;
+    }
+
+    private static long parseSeconds(String value) {
+        var seconds = 0L;
+        for (int i = 0; i < value.length(); i++) {
+            var c = value.charAt(i);
+            if (c == '"') continue;
+            if (c < '0' || c > '9') return 0;
+            seconds = seconds * 10 + (c - '0');
+            if (seconds > Integer.MAX_VALUE) return Integer.MAX_VALUE;
+        }
+        return seconds;
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.commonsetting.global.infra.rest.cache;
+
+import com.example.commonsetting.global.infra.rest.interceptor.ByteArrayClientHttpResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.client.ClientHttpResponse;
+
+/**
+ * 캐시에 저장된 응답. body 는 공유하고 응답을 꺼낼 때마다 새로운 스트림을 만든다.
+ */
+record CachedResponse(int status, String statusText, HttpHeaders headers, byte[] body,
+                      long expiresAt, boolean mustRevalidate, String eTag, String lastModified) {
+
+    boolean isFresh(long now) {
+        return !mustRevalidate && now < expiresAt;
+    }
+
+    boolean hasValidators() {
+        return eTag != null || lastModified != null;
+    }
+
+    CachedResponse refresh(HttpHeaders notModifiedHeaders, long now) {
+        var policy = CachePolicy.of(notModifiedHeaders, now);
+        var merged = new HttpHeaders();
+        merged.putAll(headers);
+        notModifiedHeaders.forEach((name, values) -> {
+            if (!HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name)) merged.put(name, values);
+        });
+        var newETag = notModifiedHeaders.getETag() != null ? notModifiedHeaders.getETag() : eTag;
+        var newLastModified = notModifiedHeaders.getFirst(HttpHeaders.LAST_MODIFIED) != null
+                ? notModifiedHeaders.getFirst(HttpHeaders.LAST_MODIFIED) : lastModified;
+        return new CachedResponse(status, statusText, HttpHeaders.readOnlyHttpHeaders(merged), body,
+                policy.expiresAt(), policy.noCache(), newETag, newLastModified);
+    }
+
+    int weight() {
+        return body.length;
+    }
+
+    ClientHttpResponse toResponse() {
+        return new ByteArrayClientHttpResponse(status, statusText, headers, body);
+    }
+}
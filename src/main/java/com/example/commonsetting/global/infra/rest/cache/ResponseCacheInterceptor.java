@@ -0,0 +1,203 @@
+package com.example.commonsetting.global.infra.rest.cache;
+
+import com.example.commonsetting.global.infra.rest.type.RestClientProperties;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.http.client.support.HttpRequestWrapper;
+import org.springframework.util.StreamUtils;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * GET 응답 캐시 인터셉터.
+ * 신선한 항목은 네트워크 없이 돌려주고, 만료된 항목은 If-None-Match/If-Modified-Since 로 재검증한다.
+ * 항목 수와 전체 body 크기로 메모리를 제한하며 LRU 순서로 제거한다.
+ * 사용자별 응답이 섞이지 않도록 인증 헤더(Authorization, Cookie, keyHeaders)를 키에 포함하고,
+ * 키에 없는 요청 헤더로 Vary 하는 응답은 저장하지 않는다.
+ */
+public class ResponseCacheInterceptor implements ClientHttpRequestInterceptor {
+    private static final List<String> DEFAULT_KEY_HEADERS = List.of(HttpHeaders.ACCEPT, HttpHeaders.ACCEPT_LANGUAGE,
+            HttpHeaders.ACCEPT_ENCODING, HttpHeaders.AUTHORIZATION, HttpHeaders.PROXY_AUTHORIZATION, HttpHeaders.COOKIE);
+
+    private final RestClientProperties.Cache properties;
+    private final List<String> keyHeaders = new ArrayList<>();
+    private final Set<String> keyHeaderNames = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+    private final LinkedHashMap<String, CachedResponse> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final ReentrantLock lock = new ReentrantLock();
+    private long totalBytes;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder revalidations = new LongAdder();
+    private final LongAdder notModified = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public ResponseCacheInterceptor(RestClientProperties.Cache properties) {
+        this.properties = properties;
+        DEFAULT_KEY_HEADERS.forEach(this::addKeyHeader);
+        properties.keyHeaders().forEach(this::addKeyHeader);
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution) throws IOException {
+        if (!isCacheable(request)) {
+            return execution.execute(request, body);
+        }
+
+        var key = cacheKey(request);
+        var cached = get(key);
+        var now = System.currentTimeMillis();
+        if (cached != null && cached.isFresh(now)) {
+            hits.increment();
+            return cached.toResponse();
+        }
+
+        HttpRequest target = request;
+        if (cached != null && cached.hasValidators()) {
+            revalidations.increment();
+            target = conditionalRequest(request, cached);
+        } else {
+            misses.increment();
+        }
+
+        var response = execution.execute(target, body);
+        if (cached != null && response.getRawStatusCode() == 304) {
+            notModified.increment();
+            var refreshed = cached.refresh(response.getHeaders(), System.currentTimeMillis());
+            response.close();
+            put(key, refreshed);
+            return refreshed.toResponse();
+        }
+        return store(key, response);
+    }
+
+    public Stats stats() {
+        lock.lock();
+        try {
+            return new Stats(entries.size(), totalBytes, hits.sum(), misses.sum(), revalidations.sum(), notModified.sum(), evictions.sum());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private ClientHttpResponse store(String key, ClientHttpResponse response) throws IOException {
+        if (response.getRawStatusCode() != 200) return response;
+
+        var headers = response.getHeaders();
+        var now = System.currentTimeMillis();
+        var policy = CachePolicy.of(headers, now);
+        var eTag = headers.getETag();
+        var lastModified = headers.getFirst(HttpHeaders.LAST_MODIFIED);
+        var maxEntrySize = properties.maxEntrySize().toBytes();
+        if (policy.noStore() || !isVaryCoveredByKey(headers) || headers.getContentLength() > maxEntrySize) {
+            return response;
+        }
+        if (!policy.isFresh(now) && eTag == null && lastModified == null) {
+            // 재검증 수단 없이 바로 만료되는 응답은 저장해도 쓸 일이 없다
+            return response;
+        }
+
+        try (response) {
+            var body = StreamUtils.copyToByteArray(response.getBody());
+            var entry = new CachedResponse(response.getRawStatusCode(), response.getStatusText(),
+                    HttpHeaders.readOnlyHttpHeaders(headers), body, policy.expiresAt(), policy.noCache(), eTag, lastModified);
+            if (body.length <= maxEntrySize) {
+                put(key, entry);
+            }
+            return entry.toResponse();
+        }
+    }
+
+    private CachedResponse get(String key) {
+        lock.lock();
+        try {
+            return entries.get(key);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void put(String key, CachedResponse entry) {
+        lock.lock();
+        try {
+            var previous = entries.put(key, entry);
+            totalBytes += entry.weight() - (previous == null ? 0 : previous.weight());
+            evictIfNecessary();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void evictIfNecessary() {
+        var maxBytes = properties.maxSize().toBytes();
+        Iterator<Map.Entry<String, CachedResponse>> iterator = entries.entrySet().iterator();
+        while ((entries.size() > properties.maxEntries() || totalBytes > maxBytes) && iterator.hasNext()) {
+            totalBytes -= iterator.next().getValue().weight();
+            iterator.remove();
+            evictions.increment();
+        }
+    }
+
+    private static boolean isCacheable(HttpRequest request) {
+        if (request.getMethod() != HttpMethod.GET) return false;
+        var cacheControl = request.getHeaders().getCacheControl();
+        return cacheControl == null || !(cacheControl.contains("no-store") || cacheControl.contains("no-cache"));
+    }
+
+    private String cacheKey(HttpRequest request) {
+        var headers = request.getHeaders();
+        var key = new StringBuilder(request.getURI().toString());
+        for (String name : keyHeaders) {
+            key.append('\n');
+            var values = headers.get(name);
+            if (values != null) key.append(String.join(",", values));
+        }
+        return key.toString();
+    }
+
+    /**
+     * Vary 에 나온 헤더가 모두 캐시 키에 포함되어 있어야 같은 키의 요청에 그대로 돌려줄 수 있다.
+     */
+    private boolean isVaryCoveredByKey(HttpHeaders headers) {
+        for (String value : headers.getOrEmpty(HttpHeaders.VARY)) {
+            for (String name : value.split(",")) {
+                var trimmed = name.trim();
+                if (trimmed.isEmpty()) continue;
+                if (trimmed.equals("*") || !keyHeaderNames.contains(trimmed)) return false;
+            }
+        }
+        return true;
+    }
+
+    private void addKeyHeader(String name) {
+        if (keyHeaderNames.add(name)) keyHeaders.add(name);
+    }
+
+    private static HttpRequest conditionalRequest(HttpRequest request, CachedResponse cached) {
+        var headers = new HttpHeaders();
+        headers.putAll(request.getHeaders());
+        if (cached.eTag() != null) headers.set(HttpHeaders.IF_NONE_MATCH, cached.eTag());
+        if (cached.lastModified() != null) headers.set(HttpHeaders.IF_MODIFIED_SINCE, cached.lastModified());
+        return new HttpRequestWrapper(request) {
+            @Override
+            public HttpHeaders getHeaders() {
+                return headers;
+            }
+        };
+    }
+
+    public record Stats(int entries, long bytes, long hits, long misses, long revalidations, long notModified, long evictions) {}
+}
@@ -0,0 +1,115 @@
+package com.example.commonsetting.global.infra.rest.coalescing;
+
+import com.example.commonsetting.global.config.StackExchangeException;
+import com.example.commonsetting.global.infra.rest.interceptor.ByteArrayClientHttpResponse;
+import com.example.commonsetting.global.infra.rest.interceptor.ExchangeContext;
+import com.example.commonsetting.global.infra.rest.type.RestClientProperties;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.util.StreamUtils;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 동일한 GET/HEAD 요청(URI + 헤더)이 동시에 들어오면 하나만 실제로 호출하고 나머지는 그 결과를 나눠 받는다.
+ * 응답 body 는 한 번 버퍼링한 뒤 선행 호출자와 대기자마다 별도의 응답 객체로 돌려준다.
+ * 선행 호출이 실패하면 대기자마다 그 예외를 cause 로 하는 새 예외를 던진다.
+ */
+public class CoalescingInterceptor implements ClientHttpRequestInterceptor {
+    private final RestClientProperties.Coalescing properties;
+    private final Map<String, CompletableFuture<SharedResponse>> inflight = new ConcurrentHashMap<>();
+
+    private final LongAdder leaders = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+    private final LongAdder fallbacks = new LongAdder();
+
+    public CoalescingInterceptor(RestClientProperties.Coalescing properties) {
+        this.properties = properties;
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution) throws IOException {
+        if (request.getMethod() != HttpMethod.GET && request.getMethod() != HttpMethod.HEAD) {
+            return execution.execute(request, body);
+        }
+
+        var key = flightKey(request);
+        var flight = new CompletableFuture<SharedResponse>();
+        var existing = inflight.putIfAbsent(key, flight);
+        if (existing == null) {
+            leaders.increment();
+            return lead(key, flight, request, body, execution);
+        }
+
+        try {
+            var shared = existing.get(properties.maxWait().toNanos(), TimeUnit.NANOSECONDS);
+            coalesced.increment();
+            ExchangeContext.current().markCoalesced();
+            return shared.toResponse();
+        } catch (TimeoutException e) {
+            // 선행 호출이 너무 오래 걸리면 직접 호출한다
+            fallbacks.increment();
+            return execution.execute(request, body);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("interrupted while waiting for coalesced response", e);
+        } catch (ExecutionException e) {
+            coalesced.increment();
+            ExchangeContext.current().markCoalesced();
+            // 같은 예외 객체를 여러 스레드에서 던지지 않도록 대기자마다 새로 만든다 (StackExchangeException 은 코드와 상태 유지)
+            if (e.getCause() instanceof StackExchangeException cause) {
+                throw new StackExchangeException(cause.getHttpStatus(), cause.getCode(), cause.getMessage(), cause);
+            }
+            throw new IOException("coalesced request failed: " + e.getCause().getMessage(), e.getCause());
+        }
+    }
+
+    public Stats stats() {
+        return new Stats(inflight.size(), leaders.sum(), coalesced.sum(), fallbacks.sum());
+    }
+
+    private ClientHttpResponse lead(String key, CompletableFuture<SharedResponse> flight,
+                                    HttpRequest request, byte[] body, ClientHttpRequestExecution execution) throws IOException {
+        try (var response = execution.execute(request, body)) {
+            var shared = new SharedResponse(response.getRawStatusCode(), response.getStatusText(),
+                    HttpHeaders.readOnlyHttpHeaders(response.getHeaders()), StreamUtils.copyToByteArray(response.getBody()));
+            flight.complete(shared);
+            return shared.toResponse();
+        } catch (IOException | RuntimeException e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inflight.remove(key, flight);
+        }
+    }
+
+    private static String flightKey(HttpRequest request) {
+        var key = new StringBuilder(128).append(request.getMethod()).append(' ').append(request.getURI());
+        // 헤더 순서가 달라도 같은 요청으로 본다
+        new TreeMap<>(request.getHeaders()).forEach((name, values) -> key.append('\n').append(name.toLowerCase()).append(':').append(values));
+        return key.toString();
+    }
+
+    /**
+     * 선행 호출의 응답. body 는 공유하고 호출자마다 새 응답 객체를 만든다.
+     */
+    private record SharedResponse(int status, String statusText, HttpHeaders headers, byte[] body) {
+        ClientHttpResponse toResponse() {
+            return new ByteArrayClientHttpResponse(status, statusText, headers, body);
+        }
+    }
+
+    public record Stats(int inflight, long leaders, long coalesced, long fallbacks) {}
+}
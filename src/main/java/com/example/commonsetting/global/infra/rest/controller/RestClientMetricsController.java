@@ -0,0 +1,76 @@
+package com.example.commonsetting.global.infra.rest.controller;
+
+import com.example.commonsetting.global.exception.log.RateLimitedErrorLogger;
+import com.example.commonsetting.global.infra.rest.cache.ResponseCacheInterceptor;
+import com.example.commonsetting.global.infra.rest.coalescing.CoalescingInterceptor;
+import com.example.commonsetting.global.infra.rest.log.RestLogWriter;
+import com.example.commonsetting.global.infra.rest.metrics.LatencyRecorder;
+import com.example.commonsetting.global.infra.rest.pool.ConnectionPoolMetrics;
+import com.example.commonsetting.global.infra.rest.resilience.ResilienceInterceptor;
+import com.example.commonsetting.global.infra.rest.trace.SpanRecorder;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.Map;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/internal/rest-client")
+public class RestClientMetricsController {
+    private final ConnectionPoolMetrics connectionPoolMetrics;
+    private final RestLogWriter restLogWriter;
+    private final ResponseCacheInterceptor responseCacheInterceptor;
+    private final ResilienceInterceptor resilienceInterceptor;
+    private final CoalescingInterceptor coalescingInterceptor;
+    private final LatencyRecorder latencyRecorder;
+    private final RateLimitedErrorLogger rateLimitedErrorLogger;
+    private final ObjectProvider<SpanRecorder> spanRecorderProvider;
+
+    @GetMapping("/pool")
+    public ConnectionPoolMetrics.PoolStats pool() {
+        return connectionPoolMetrics.snapshot();
+    }
+
+    @GetMapping("/log")
+    public RestLogWriter.Stats log() {
+        return restLogWriter.stats();
+    }
+
+    @GetMapping("/cache")
+    public ResponseCacheInterceptor.Stats cache() {
+        return responseCacheInterceptor.stats();
+    }
+
+    @GetMapping("/resilience")
+    public Map<String, ResilienceInterceptor.HostStats> resilience() {
+        return resilienceInterceptor.stats();
+    }
+
+    @GetMapping("/coalescing")
+    public CoalescingInterceptor.Stats coalescing() {
+        return coalescingInterceptor.stats();
+    }
+
+    @GetMapping("/latency")
+    public List<LatencyRecorder.Stats> latency() {
+        return latencyRecorder.stats();
+    }
+
+    /**
+     * span 기록이 꺼져 있으면 null (빈 응답)
+     */
+    @GetMapping("/spans")
+    public SpanRecorder.Stats spans() {
+        var spanRecorder = spanRecorderProvider.getIfAvailable();
+        return spanRecorder == null ? null : spanRecorder.stats();
+    }
+
+    @GetMapping("/errors")
+    public Map<String, Long> errors() {
+        return rateLimitedErrorLogger.suppressedCounts();
+    }
+}
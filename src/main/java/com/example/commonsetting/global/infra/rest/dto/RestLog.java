@@ -0,0 +1,13 @@
+package com.example.commonsetting.global.infra.rest.dto;
+
+public record RestLog(String traceId, String timestamp, String callerId, Request request, Response response) {
+    /**
+     * 스트리밍 모드에서 captureSize 만큼만 캡처한 payload 뒤에 붙는 표시. ("...(truncated, {전체 크기} bytes)")
+     */
+    public static final String TRUNCATED_MARKER = "...(truncated, ";
+
+    public record Request(String host, String url, String method, String body, String queryString) {}
+
+    public record Response(Integer status, Long duration, String payload, boolean coalesced) {}
+
+}
@@ -0,0 +1,55 @@
+package com.example.commonsetting.global.infra.rest.interceptor;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpResponse;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+
+/**
+ * 메모리에 보관된 응답을 다시 돌려줄 때 사용한다. (캐시, 요청 병합)
+ * body 배열은 공유하고 getBody 마다 새로운 스트림을 만든다.
+ */
+public class ByteArrayClientHttpResponse implements ClientHttpResponse {
+    private final int status;
+    private final String statusText;
+    private final HttpHeaders headers;
+    private final byte[] body;
+
+    public ByteArrayClientHttpResponse(int status, String statusText, HttpHeaders headers, byte[] body) {
+        this.status = status;
+        this.statusText = statusText;
+        this.headers = headers;
+        this.body = body;
+    }
+
+    @Override
+    public HttpStatus getStatusCode() {
+        return HttpStatus.valueOf(status);
+    }
+
+    @Override
+    public int getRawStatusCode() {
+        return status;
+    }
+
+    @Override
+    public String getStatusText() {
+        return statusText;
+    }
+
+    @Override
+    public void close() {
+    }
+
+    @Override
+    public InputStream getBody() {
+        return new ByteArrayInputStream(body);
+    }
+
+    @Override
+    public HttpHeaders getHeaders() {
+        return headers;
+    }
+}
@@ -0,0 +1,141 @@
+package com.example.commonsetting.global.infra.rest.interceptor;
+
+import com.example.commonsetting.global.infra.rest.dto.RestLog;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpResponse;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+
+/**
+ * 스트리밍 모드 응답 래퍼.
+ * body 는 호출자에게 그대로 전달하고, 읽히는 앞부분(captureSize)만 스레드별로 재사용하는 고정 크기 버퍼에 복사한다.
+ * close 시점에 캡처된 내용을 onClose 로 넘긴다.
+ */
+class CapturingClientHttpResponse implements ClientHttpResponse {
+    private static final ThreadLocal<CaptureBuffer> BUFFERS = new ThreadLocal<>();
+
+    private final ClientHttpResponse delegate;
+    private final Consumer<String> onClose;
+    private final CaptureBuffer captureBuffer;
+
+    private int captured;
+    private long total;
+    private InputStream body;
+    private boolean closed;
+
+    CapturingClientHttpResponse(ClientHttpResponse delegate, int captureSize, Consumer<String> onClose) {
+        this.delegate = delegate;
+        this.onClose = onClose;
+        this.captureBuffer = acquire(captureSize);
+    }
+
+    @Override
+    public InputStream getBody() throws IOException {
+        if (body == null) {
+            body = new TeeInputStream(delegate.getBody());
+        }
+        return body;
+    }
+
+    @Override
+    public HttpHeaders getHeaders() {
+        return delegate.getHeaders();
+    }
+
+    @Override
+    public HttpStatus getStatusCode() throws IOException {
+        return delegate.getStatusCode();
+    }
+
+    @Override
+    public int getRawStatusCode() throws IOException {
+        return delegate.getRawStatusCode();
+    }
+
+    @Override
+    public String getStatusText() throws IOException {
+        return delegate.getStatusText();
+    }
+
+    @Override
+    public void close() {
+        if (closed) return;
+        closed = true;
+        try {
+            delegate.close();
+        } finally {
+            var payload = new String(captureBuffer.bytes, 0, captured, StandardCharsets.UTF_8);
+            captureBuffer.release();
+            onClose.accept(total > captured ? payload + RestLog.TRUNCATED_MARKER + total + " bytes)" : payload);
+        }
+    }
+
+    private static CaptureBuffer acquire(int captureSize) {
+        var buffer = BUFFERS.get();
+        if (buffer == null || buffer.bytes.length != captureSize) {
+            buffer = new CaptureBuffer(new byte[captureSize]);
+            BUFFERS.set(buffer);
+        }
+        // 같은 스레드에서 응답이 중첩으로 열려 있으면 1회성 버퍼를 사용한다
+        return buffer.inUse ? new CaptureBuffer(new byte[captureSize]) : buffer.acquire();
+    }
+
+    private void capture(byte[] b, int off, int len) {
+        total += len;
+        var writable = Math.min(len, captureBuffer.bytes.length - captured);
+        if (writable > 0) {
+            System.arraycopy(b, off, captureBuffer.bytes, captured, writable);
+            captured += writable;
+        }
+    }
+
+    private class TeeInputStream extends FilterInputStream {
+        TeeInputStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            var b = super.read();
+            if (b != -1) {
+                total++;
+                if (captured < captureBuffer.bytes.length) {
+                    captureBuffer.bytes[captured++] = (byte) b;
+                }
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            var read = super.read(b, off, len);
+            if (read > 0) {
+                capture(b, off, read);
+            }
+            return read;
+        }
+    }
+
+    private static final class CaptureBuffer {
+        private final byte[] bytes;
+        private volatile boolean inUse;
+
+        private CaptureBuffer(byte[] bytes) {
+            this.bytes = bytes;
+        }
+
+        private CaptureBuffer acquire() {
+            inUse = true;
+            return this;
+        }
+
+        private void release() {
+            inUse = false;
+        }
+    }
+}
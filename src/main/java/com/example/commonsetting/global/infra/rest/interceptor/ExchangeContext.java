@@ -0,0 +1,69 @@
+package com.example.commonsetting.global.infra.rest.interceptor;
+
+/**
+ * 한 번의 외부 호출 동안 하위 인터셉터가 로깅 인터셉터에 넘겨주는 정보.
+ * 스레드별로 하나의 인스턴스를 재사용하며, 로깅 인터셉터가 호출 시작 시 reset 한다.
+ */
+public final class ExchangeContext {
+    private static final ThreadLocal<ExchangeContext> CURRENT = ThreadLocal.withInitial(ExchangeContext::new);
+
+    private boolean coalesced;
+    private long leaseNanos;
+    private long sendNanos;
+    private long waitNanos;
+
+    private ExchangeContext() {
+    }
+
+    public static ExchangeContext current() {
+        return CURRENT.get();
+    }
+
+    public void reset() {
+        coalesced = false;
+        leaseNanos = 0L;
+        sendNanos = 0L;
+        waitNanos = 0L;
+    }
+
+    public boolean isCoalesced() {
+        return coalesced;
+    }
+
+    public void markCoalesced() {
+        coalesced = true;
+    }
+
+    /**
+     * 커넥션 풀에서 커넥션을 빌리기까지 기다린 시간 (재시도 등으로 여러 번 빌리면 합산)
+     */
+    public long getLeaseNanos() {
+        return leaseNanos;
+    }
+
+    public void addLeaseNanos(long nanos) {
+        leaseNanos += nanos;
+    }
+
+    /**
+     * 요청 헤더와 body 를 소켓에 쓰는 데 걸린 시간
+     */
+    public long getSendNanos() {
+        return sendNanos;
+    }
+
+    public void addSendNanos(long nanos) {
+        sendNanos += nanos;
+    }
+
+    /**
+     * 요청을 보낸 뒤 응답 헤더를 받기까지 기다린 시간 (time to first byte)
+     */
+    public long getWaitNanos() {
+        return waitNanos;
+    }
+
+    public void addWaitNanos(long nanos) {
+        waitNanos += nanos;
+    }
+}
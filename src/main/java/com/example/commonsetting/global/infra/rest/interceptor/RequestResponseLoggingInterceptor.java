@@ -0,0 +1,180 @@
+package com.example.commonsetting.global.infra.rest.interceptor;
+
+import com.example.commonsetting.global.config.StackExchangeException;
+import com.example.commonsetting.global.exception.log.RateLimitedErrorLogger;
+import com.example.commonsetting.global.infra.caller.CallerContextHolder;
+import com.example.commonsetting.global.infra.rest.dto.RestLog;
+import com.example.commonsetting.global.infra.rest.dto.RestLog.Request;
+import com.example.commonsetting.global.infra.rest.dto.RestLog.Response;
+import com.example.commonsetting.global.infra.rest.log.RestLogWriter;
+import com.example.commonsetting.global.infra.rest.metrics.LatencyRecorder;
+import com.example.commonsetting.global.infra.rest.type.RestClientProperties;
+import com.example.commonsetting.global.util.TraceUtils;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.MDC;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.util.ObjectUtils;
+import org.springframework.util.StreamUtils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.TimeUnit;
+
+import static com.example.commonsetting.global.exception.code.CommonExternalResponseCode.API_EXCHANGE_ERROR;
+import static com.example.commonsetting.global.util.ComUtils.TRACE_ID;
+import static java.time.LocalDateTime.now;
+
+@Slf4j
+@RequiredArgsConstructor
+public class RequestResponseLoggingInterceptor implements ClientHttpRequestInterceptor {
+    private static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss.SSS");
+
+    private final RestLogWriter restLogWriter;
+    private final RestClientProperties.Streaming streaming;
+    private final LatencyRecorder latencyRecorder; // metrics 비활성화 시 null
+    private final RateLimitedErrorLogger errorLogger;
+
+    /**
+     * 요청 밖의 스레드처럼 MDC 에 traceId 가 없으면 하나를 만들어 호출 동안 MDC 에 둔다.
+     * 하위의 TracePropagationInterceptor 가 같은 값을 헤더로 보내므로 로그와 헤더의 traceId 가 일치한다.
+     */
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution) throws IOException {
+        var traceId = MDC.get(TRACE_ID);
+        if (traceId != null) {
+            return exchange(request, body, execution, traceId);
+        }
+
+        traceId = TraceUtils.newId();
+        MDC.put(TRACE_ID, traceId);
+        try {
+            return exchange(request, body, execution, traceId);
+        } finally {
+            MDC.remove(TRACE_ID);
+        }
+    }
+
+    private ClientHttpResponse exchange(HttpRequest request, byte[] body, ClientHttpRequestExecution execution, String traceId) throws IOException {
+        var startedNanos = System.nanoTime();
+        var startedAt = now().format(DATE_TIME_FORMATTER);
+        var apiRequest = traceRequest(request, body);
+        var exchangeContext = ExchangeContext.current();
+        exchangeContext.reset();
+        ClientHttpResponse response = null;
+        long executionNanos;
+        try {
+            response = execution.execute(request, body);
+        } catch (StackExchangeException e) {
+            // 하위 인터셉터(서킷 브레이커 등)가 이미 원인을 담아 던진 예외는 그대로 전달한다
+            errorLogger.error(log, e.getCode(), e.getMessage(), null);
+            throw e;
+        } catch (IOException e) {
+            errorLogger.error(log, API_EXCHANGE_ERROR.getCode(), "API 통신 중 오류가 발생했습니다", request.getURI().getHost(), e);
+            throw new StackExchangeException(API_EXCHANGE_ERROR.getHttpStatus(), API_EXCHANGE_ERROR.getCode(), "API 통신 중 오류가 발생했습니다", e);
+        } catch (Exception e) {
+            errorLogger.error(log, API_EXCHANGE_ERROR.getCode(), "API 통신 중 오류가 발생했습니다", request.getURI().getHost(), e);
+            throw new StackExchangeException(API_EXCHANGE_ERROR.getHttpStatus(), API_EXCHANGE_ERROR.getCode(), "API 통신 중 오류가 발생했습니다.", e);
+        } finally {
+            executionNanos = System.nanoTime() - startedNanos;
+            recordLatency(request, response, executionNanos, exchangeContext.getLeaseNanos());
+            if (response == null || !streaming.enabled()) {
+                var apiResponse = traceResponse(response, TimeUnit.NANOSECONDS.toMillis(executionNanos), exchangeContext.isCoalesced());
+                printRestLog(traceId, apiRequest, apiResponse, startedAt);
+            }
+        }
+
+        if (streaming.enabled()) {
+            // 스트리밍 모드는 body 를 호출자가 다 읽고 닫은 뒤에 로그를 남긴다
+            var executionTime = TimeUnit.NANOSECONDS.toMillis(executionNanos);
+            var coalesced = exchangeContext.isCoalesced();
+            var streamingResponse = response;
+            return new CapturingClientHttpResponse(response, (int) streaming.captureSize().toBytes(),
+                    captured -> printRestLog(traceId, apiRequest, traceResponse(streamingResponse, executionTime, captured, coalesced), startedAt));
+        }
+        return response;
+    }
+
+    /**
+     * 커넥션 대여 대기 시간은 호출 시간에서 빼서 따로 기록한다.
+     */
+    private void recordLatency(HttpRequest request, ClientHttpResponse response, long executionNanos, long leaseNanos) {
+        if (latencyRecorder == null) return;
+        var status = 0;
+        try {
+            if (response != null) status = response.getRawStatusCode();
+        } catch (IOException e) {
+            // 상태 코드를 읽지 못하면 오류로 분류한다
+        }
+        var uri = request.getURI();
+        latencyRecorder.record(uri.getHost(), uri.getRawPath(), request.getMethod(), status,
+                TimeUnit.NANOSECONDS.toMicros(executionNanos - leaseNanos), TimeUnit.NANOSECONDS.toMicros(leaseNanos));
+    }
+
+    private void printRestLog(String traceId, Request request, Response response, String startedAt) {
+        try {
+            var callerId = getCallerId();
+            response = ObjectUtils.isEmpty(response) ? new Response(null, null, "", false) : response;
+            restLogWriter.write(new RestLog(traceId, startedAt, callerId, request, response));
+        } catch (Exception e) {
+            log.error("error");
+        }
+    }
+
+    private static String getCallerId() {
+        // 세션은 CallerContextFilter 가 요청당 한 번만 읽는다 (요청 밖의 스레드는 system)
+        return CallerContextHolder.get().callerId();
+    }
+
+    private Request traceRequest(HttpRequest request, byte[] body) {
+        var requestBody = new String(body, StandardCharsets.UTF_8);
+
+        if (log.isDebugEnabled()) {
+            String reqLog = "\n ===========================request begin===========================" +
+                    "\n URI         : " + request.getURI() +
+                    "\n PATH        : " + request.getURI().getPath() +
+                    "\n QUERY       : " + request.getURI().getQuery() +
+                    "\n Method      : " + request.getMethod() +
+                    "\n Headers     : " + request.getHeaders() +
+                    "\n Request body: " + requestBody +
+                    "\n ============================request end============================";
+            log.debug(reqLog);
+        }
+
+        return new Request(request.getURI().getHost(), request.getURI().getPath(), request.getMethod().name(), requestBody, request.getURI().getQuery());
+    }
+
+    private Response traceResponse(ClientHttpResponse response, Long executionTime, boolean coalesced) throws IOException {
+        if (null == response) return null;
+        var responseBody = "";
+        try {
+            responseBody = StreamUtils.copyToString(response.getBody(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            errorLogger.error(log, API_EXCHANGE_ERROR.getCode(), "응답을 읽는 중 오류가 발생했습니다", e);
+        }
+        return traceResponse(response, executionTime, responseBody, coalesced);
+    }
+
+    private Response traceResponse(ClientHttpResponse response, Long executionTime, String responseBody, boolean coalesced) {
+        try {
+            if (log.isDebugEnabled()) {
+                String resLog = "\n ==========================response begin===========================" +
+                        "\n Status code  : " + response.getStatusCode().value() +
+                        "\n Status text  : " + response.getStatusText() +
+                        "\n Headers      : " + response.getHeaders() +
+                        "\n Response body: " + responseBody +
+                        "\n ===========================response end============================";
+                log.debug(resLog);
+            }
+
+            return new Response(response.getStatusCode().value(), executionTime, responseBody, coalesced);
+        } catch (IOException e) {
+            errorLogger.error(log, API_EXCHANGE_ERROR.getCode(), "응답을 읽는 중 오류가 발생했습니다", e);
+            return new Response(null, executionTime, responseBody, coalesced);
+        }
+    }
+}
@@ -0,0 +1,204 @@
+package com.example.commonsetting.global.infra.rest.log;
+
+import com.example.commonsetting.global.infra.rest.dto.RestLog;
+import com.example.commonsetting.global.infra.rest.type.RestClientProperties;
+import com.example.commonsetting.global.util.MaskingUtils;
+import com.example.commonsetting.global.util.MaskingUtils.MaskType;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.Writer;
+import java.util.Map;
+
+/**
+ * RestLog 의 request body / response payload 에서 설정된 필드 값을 MaskingUtils 규칙으로 가린다.
+ * Gson JsonReader -> JsonWriter 로 토큰을 한 번씩만 옮기며 DOM 을 만들지 않는다.
+ * 필드 값이 객체/배열이면 그 안의 모든 문자열/숫자를 같은 규칙으로 가린다.
+ * <p>
+ * max-payload-size, max-depth, max-tokens 를 넘거나 JSON 이 깨져 있으면 원문 대신 안내 문구를 남기고,
+ * JSON 이 아닌 본문({ 또는 [ 로 시작하지 않는 경우)은 그대로 둔다.
+ * 스트리밍 모드에서 잘린 앞부분(RestLog.TRUNCATED_MARKER 가 붙은 payload 또는 중간에 끝나는 JSON)은 끝까지 가린 내용에 잘림 표시를 붙인다.
+ * 잘린 위치에 걸친 값은 남기지 않는다.
+ */
+public class JsonPayloadRedactor {
+    private static final String TRUNCATED = "...(truncated)";
+
+    private final Map<String, MaskType> fields;
+    private final int maxPayloadChars;
+    private final int maxDepth;
+    private final int maxTokens;
+    private final ThreadLocal<StringBuilder> buffers = ThreadLocal.withInitial(() -> new StringBuilder(1024));
+
+    public JsonPayloadRedactor(RestClientProperties.Redaction properties) {
+        this.fields = Map.copyOf(properties.fields());
+        this.maxPayloadChars = (int) Math.min(Integer.MAX_VALUE, properties.maxPayloadSize().toBytes());
+        this.maxDepth = properties.maxDepth();
+        this.maxTokens = properties.maxTokens();
+    }
+
+    public RestLog redact(RestLog restLog) {
+        var request = restLog.request();
+        var response = restLog.response();
+        if (request != null) {
+            request = new RestLog.Request(request.host(), request.url(), request.method(), redact(request.body()), request.queryString());
+        }
+        if (response != null) {
+            response = new RestLog.Response(response.status(), response.duration(), redact(response.payload()), response.coalesced());
+        }
+        return new RestLog(restLog.traceId(), restLog.timestamp(), restLog.callerId(), request, response);
+    }
+
+    public String redact(String payload) {
+        if (payload == null || !isJson(payload)) return payload;
+        if (payload.length() > maxPayloadChars) {
+            return "(redaction skipped: payload too large, " + payload.length() + " chars)";
+        }
+
+        var truncatedAt = payload.lastIndexOf(RestLog.TRUNCATED_MARKER);
+        var json = truncatedAt < 0 ? payload : payload.substring(0, truncatedAt);
+        var buffer = buffers.get();
+        buffer.setLength(0);
+        try {
+            redact(new JsonReader(new StringReader(json)), new JsonWriter(new StringBuilderWriter(buffer)));
+            return truncatedAt < 0 ? buffer.toString() : buffer.append(payload, truncatedAt, payload.length()).toString();
+        } catch (LimitExceededException e) {
+            return "(redaction skipped: " + e.getMessage() + ", " + payload.length() + " chars)";
+        } catch (EOFException e) {
+            // 값 경계에서 잘린 앞부분: 지금까지 가린 내용만 남긴다
+            return truncatedAt < 0 ? buffer.append(TRUNCATED).toString() : buffer.append(payload, truncatedAt, payload.length()).toString();
+        } catch (IOException | RuntimeException e) {
+            // 잘린 캡처는 값 중간에서 끊겨 있을 수 있다 (따옴표가 닫히지 않은 문자열 등)
+            if (truncatedAt >= 0) return buffer.append(payload, truncatedAt, payload.length()).toString();
+            return "(redaction skipped: malformed json, " + payload.length() + " chars)";
+        } finally {
+            if (buffer.capacity() > maxPayloadChars * 2) buffers.remove();
+        }
+    }
+
+    private void redact(JsonReader reader, JsonWriter writer) throws IOException {
+        // depth 별로 상위 필드에서 물려받은 마스킹 규칙 (redacted 필드 하위의 모든 값에 적용)
+        var inherited = new MaskType[maxDepth + 1];
+        MaskType pending = null;
+        var depth = 0;
+        var tokens = 0;
+
+        while (true) {
+            var token = reader.peek();
+            if (++tokens > maxTokens) throw new LimitExceededException("too many tokens");
+
+            switch (token) {
+                case BEGIN_OBJECT, BEGIN_ARRAY -> {
+                    if (depth == maxDepth) throw new LimitExceededException("too deep");
+                    inherited[depth + 1] = pending != null ? pending : inherited[depth];
+                    pending = null;
+                    depth++;
+                    if (token == JsonToken.BEGIN_OBJECT) {
+                        reader.beginObject();
+                        writer.beginObject();
+                    } else {
+                        reader.beginArray();
+                        writer.beginArray();
+                    }
+                }
+                case END_OBJECT -> {
+                    reader.endObject();
+                    writer.endObject();
+                    depth--;
+                }
+                case END_ARRAY -> {
+                    reader.endArray();
+                    writer.endArray();
+                    depth--;
+                }
+                case NAME -> {
+                    var name = reader.nextName();
+                    writer.name(name);
+                    pending = fields.get(name);
+                }
+                case STRING, NUMBER -> {
+                    var value = reader.nextString();
+                    var mask = pending != null ? pending : inherited[depth];
+                    if (mask != null) {
+                        writer.value(MaskingUtils.mask(value, mask));
+                    } else if (token == JsonToken.NUMBER) {
+                        writer.jsonValue(value);
+                    } else {
+                        writer.value(value);
+                    }
+                    pending = null;
+                }
+                case BOOLEAN -> {
+                    writer.value(reader.nextBoolean());
+                    pending = null;
+                }
+                case NULL -> {
+                    reader.nextNull();
+                    writer.nullValue();
+                    pending = null;
+                }
+                case END_DOCUMENT -> {
+                    writer.flush();
+                    return;
+                }
+            }
+        }
+    }
+
+    private static boolean isJson(String payload) {
+        for (int i = 0; i < payload.length(); i++) {
+            var c = payload.charAt(i);
+            if (!Character.isWhitespace(c)) return c == '{' || c == '[';
+        }
+        return false;
+    }
+
+    private static final class LimitExceededException extends RuntimeException {
+        private LimitExceededException(String message) {
+            super(message, null, false, false);
+        }
+    }
+
+    /**
+     * JsonWriter 가 재사용 버퍼에 바로 쓰도록 하는 Writer (StringWriter 는 동기화된 StringBuffer 를 쓴다)
+     */
+    private static final class StringBuilderWriter extends Writer {
+        private final StringBuilder buffer;
+
+        private StringBuilderWriter(StringBuilder buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public void write(char[] chars, int offset, int length) {
+            buffer.append(chars, offset, length);
+        }
+
+        @Override
+        public void write(int c) {
+            buffer.append((char) c);
+        }
+
+        @Override
+        public void write(String text, int offset, int length) {
+            buffer.append(text, offset, offset + length);
+        }
+
+        @Override
+        public Writer append(CharSequence text) {
+            buffer.append(text);
+            return this;
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package com.example.commonsetting.global.infra.rest.log;
+
+import com.example.commonsetting.global.infra.rest.dto.RestLog;
+import com.example.commonsetting.global.infra.rest.type.RestClientProperties;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import static com.example.commonsetting.global.infra.rest.type.RestClientProperties.OverflowPolicy.BLOCK;
+import static org.apache.commons.lang3.exception.ExceptionUtils.getStackTrace;
+
+/**
+ * RestLog 출력기.
+ * sync 모드는 호출 스레드에서 바로 출력하고, async 모드는 고정 크기 링버퍼(ArrayBlockingQueue)에 적재한 뒤
+ * 전용 consumer 스레드가 배치 단위로 직렬화하여 출력한다.
+ */
+@Slf4j
+public class RestLogWriter implements Closeable {
+    private static final Gson GSON = new GsonBuilder().serializeNulls().create();
+
+    private final RestClientProperties.Log properties;
+    private final JsonPayloadRedactor redactor; // redaction 비활성화 시 null
+    private final ArrayBlockingQueue<RestLog> buffer;
+    private final Thread consumer;
+
+    private final LongAdder queued = new LongAdder();
+    private final LongAdder written = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+
+    private volatile boolean running = true;
+
+    public RestLogWriter(RestClientProperties.Log properties) {
+        this(properties, null);
+    }
+
+    public RestLogWriter(RestClientProperties.Log properties, JsonPayloadRedactor redactor) {
+        this.properties = properties;
+        this.redactor = redactor;
+        if (properties.async()) {
+            this.buffer = new ArrayBlockingQueue<>(properties.bufferSize());
+            this.consumer = new Thread(this::consume, "rest-log-writer");
+            this.consumer.setDaemon(true);
+            this.consumer.start();
+        } else {
+            this.buffer = null;
+            this.consumer = null;
+        }
+    }
+
+    public void write(RestLog restLog) {
+        if (buffer == null) {
+            print(restLog);
+            return;
+        }
+
+        if (enqueue(restLog)) {
+            queued.increment();
+        } else {
+            dropped.increment();
+        }
+    }
+
+    public Stats stats() {
+        var capacity = buffer == null ? 0 : properties.bufferSize();
+        var pending = buffer == null ? 0 : buffer.size();
+        return new Stats(properties.async(), capacity, pending, queued.sum(), written.sum(), dropped.sum());
+    }
+
+    @Override
+    public void close() {
+        if (consumer == null) return;
+        running = false;
+        consumer.interrupt();
+        try {
+            consumer.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private boolean enqueue(RestLog restLog) {
+        if (properties.overflowPolicy() != BLOCK) {
+            return buffer.offer(restLog);
+        }
+        try {
+            return buffer.offer(restLog, properties.blockTimeout().toNanos(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void consume() {
+        List<RestLog> batch = new ArrayList<>(properties.batchSize());
+        var sb = new StringBuilder(1024);
+        while (running || !buffer.isEmpty()) {
+            try {
+                var first = running ? buffer.poll(1, TimeUnit.SECONDS) : buffer.poll();
+                if (first == null) continue;
+                batch.add(first);
+                buffer.drainTo(batch, properties.batchSize() - 1);
+                for (RestLog restLog : batch) {
+                    sb.setLength(0);
+                    print(restLog, sb);
+                }
+            } catch (InterruptedException e) {
+                // close() 에 의한 interrupt, 남은 로그는 루프에서 모두 비운다
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void print(RestLog restLog) {
+        try {
+            log.info(GSON.toJson(redact(restLog)));
+            written.increment();
+        } catch (Exception e) {
+            log.error("rest log write error {}", getStackTrace(e));
+        }
+    }
+
+    private void print(RestLog restLog, StringBuilder sb) {
+        try {
+            GSON.toJson(redact(restLog), sb);
+            log.info(sb.toString());
+            written.increment();
+        } catch (Exception e) {
+            log.error("rest log write error {}", getStackTrace(e));
+        }
+    }
+
+    private RestLog redact(RestLog restLog) {
+        return redactor == null ? restLog : redactor.redact(restLog);
+    }
+
+    public record Stats(boolean async, int capacity, int pending, long queued, long written, long dropped) {}
+}
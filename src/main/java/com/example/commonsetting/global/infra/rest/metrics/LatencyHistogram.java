@@ -0,0 +1,77 @@
+package com.example.commonsetting.global.infra.rest.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * HdrHistogram 방식의 log-linear 지연 시간 히스토그램 (마이크로초 단위).
+ * 2의 거듭제곱 구간마다 32개의 하위 구간을 두어 상대 오차가 약 3% 이내이며, 약 71분(2^32us)까지 기록한다.
+ * 기록은 lock 없이 AtomicLongArray 의 한 칸을 증가시키며 객체를 만들지 않는다.
+ */
+public class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int MAX_MAGNITUDE = 32;
+    private static final long MAX_VALUE = (1L << MAX_MAGNITUDE) - 1;
+    private static final int BUCKET_COUNT = index(MAX_VALUE) + 1;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sum = new LongAdder();
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0L);
+    private final long createdAt = System.nanoTime();
+
+    public record Snapshot(long count, double throughputPerSecond, long meanMicros, long p50Micros, long p90Micros,
+                           long p95Micros, long p99Micros, long p999Micros, long maxMicros) {}
+
+    public void record(long micros) {
+        var value = Math.min(Math.max(micros, 0L), MAX_VALUE);
+        counts.incrementAndGet(index(value));
+        count.increment();
+        sum.add(value);
+        max.accumulate(value);
+    }
+
+    public Snapshot snapshot() {
+        var buckets = new long[BUCKET_COUNT];
+        var total = 0L;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            buckets[i] = counts.get(i);
+            total += buckets[i];
+        }
+
+        var elapsedSeconds = Math.max(1e-3, (System.nanoTime() - createdAt) / 1e9);
+        return new Snapshot(total, total / elapsedSeconds, total == 0 ? 0 : sum.sum() / total,
+                percentile(buckets, total, 0.50), percentile(buckets, total, 0.90), percentile(buckets, total, 0.95),
+                percentile(buckets, total, 0.99), percentile(buckets, total, 0.999), max.get());
+    }
+
+    static int index(long value) {
+        if (value < SUB_BUCKET_COUNT) return (int) value;
+        var shift = 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+        var subBucket = (int) (value >>> shift) - SUB_BUCKET_COUNT;
+        return SUB_BUCKET_COUNT + shift * SUB_BUCKET_COUNT + subBucket;
+    }
+
+    /**
+     * index 구간에 속하는 가장 큰 값
+     */
+    static long highestValue(int index) {
+        if (index < SUB_BUCKET_COUNT) return index;
+        var shift = (index - SUB_BUCKET_COUNT) / SUB_BUCKET_COUNT;
+        var subBucket = (index - SUB_BUCKET_COUNT) % SUB_BUCKET_COUNT;
+        return ((long) (SUB_BUCKET_COUNT + subBucket + 1) << shift) - 1;
+    }
+
+    private long percentile(long[] buckets, long total, double quantile) {
+        if (total == 0) return 0;
+        var rank = (long) Math.ceil(total * quantile);
+        var seen = 0L;
+        for (int i = 0; i < buckets.length; i++) {
+            seen += buckets[i];
+            if (seen >= rank) return Math.min(highestValue(i), max.get());
+        }
+        return max.get();
+    }
+}
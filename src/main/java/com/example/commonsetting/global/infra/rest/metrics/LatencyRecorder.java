@@ -0,0 +1,260 @@
+package com.example.commonsetting.global.infra.rest.metrics;
+
+import org.springframework.http.HttpMethod;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 외부 호출 지연 시간을 host / path 템플릿 / method / status class 별 히스토그램으로 기록한다.
+ * path 의 숫자, UUID, 긴 hex 세그먼트는 {id} 로 정규화한다. (/members/123 -> /members/{id})
+ * 처음 보는 key 일 때만 객체를 만들고, 이후 기록은 원본 path 를 그대로 훑어 찾으므로 할당이 없다.
+ */
+public class LatencyRecorder {
+    private static final String ID = "{id}";
+    private static final String OTHER = "{other}";
+    private static final HttpMethod[] METHODS = HttpMethod.values();
+    private static final int STATUS_CLASSES = 6; // 0: 응답 없음(예외), 1~5: 1xx~5xx
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private final int maxEndpointsPerHost;
+    private final Map<String, Host> hosts = new ConcurrentHashMap<>();
+
+    public record Stats(String host, String path, String method, String status, LatencyHistogram.Snapshot exchange,
+                        LatencyHistogram.Snapshot leaseWait) {}
+
+    public LatencyRecorder(int maxEndpointsPerHost) {
+        this.maxEndpointsPerHost = maxEndpointsPerHost;
+    }
+
+    /**
+     * @param status         HTTP status (응답이 없으면 0)
+     * @param exchangeMicros 커넥션 대여 대기를 뺀 호출 시간
+     * @param leaseMicros    커넥션 풀에서 커넥션을 빌리기까지 기다린 시간
+     */
+    public void record(String host, String rawPath, HttpMethod method, int status, long exchangeMicros, long leaseMicros) {
+        var hostKey = host == null ? "" : host;
+        var hostMetrics = hosts.get(hostKey);
+        if (hostMetrics == null) {
+            hostMetrics = hosts.computeIfAbsent(hostKey, key -> new Host(maxEndpointsPerHost));
+        }
+
+        var slot = hostMetrics.find(rawPath == null ? "" : rawPath)
+                .slot(method == null ? 0 : method.ordinal(), status < 100 || status >= 600 ? 0 : status / 100);
+        slot.exchange().record(exchangeMicros);
+        slot.leaseWait().record(leaseMicros);
+    }
+
+    public List<Stats> stats() {
+        List<Stats> stats = new ArrayList<>();
+        hosts.forEach((host, hostMetrics) -> {
+            for (Endpoint endpoint : hostMetrics.endpoints()) {
+                for (int i = 0; i < endpoint.slots.length(); i++) {
+                    var slot = endpoint.slots.get(i);
+                    if (slot == null) continue;
+                    var statusClass = i % STATUS_CLASSES;
+                    stats.add(new Stats(host, endpoint.template, METHODS[i / STATUS_CLASSES].name(),
+                            statusClass == 0 ? "ERROR" : statusClass + "xx", slot.exchange().snapshot(), slot.leaseWait().snapshot()));
+                }
+            }
+        });
+        stats.sort(Comparator.comparing(Stats::host).thenComparing(Stats::path).thenComparing(Stats::method).thenComparing(Stats::status));
+        return stats;
+    }
+
+    private record Slot(LatencyHistogram exchange, LatencyHistogram leaseWait) {}
+
+    private static final class Endpoint {
+        private final long hash;
+        private final String template;
+        private final AtomicReferenceArray<Slot> slots = new AtomicReferenceArray<>(METHODS.length * STATUS_CLASSES);
+
+        private Endpoint(long hash, String template) {
+            this.hash = hash;
+            this.template = template;
+        }
+
+        private Slot slot(int method, int statusClass) {
+            var index = method * STATUS_CLASSES + statusClass;
+            var slot = slots.get(index);
+            if (slot == null) {
+                slots.compareAndSet(index, null, new Slot(new LatencyHistogram(), new LatencyHistogram()));
+                slot = slots.get(index);
+            }
+            return slot;
+        }
+    }
+
+    /**
+     * host 별 endpoint 표. 읽기는 lock 없이 open addressing 으로 찾고, 추가만 synchronized 로 한다.
+     */
+    private static final class Host {
+        private final int maxEndpoints;
+        private volatile Endpoint[] table = new Endpoint[16];
+        private int size;
+        private Endpoint other;
+
+        private Host(int maxEndpoints) {
+            this.maxEndpoints = maxEndpoints;
+        }
+
+        private Endpoint find(String rawPath) {
+            var hash = templateHash(rawPath);
+            var endpoint = lookup(table, rawPath, hash);
+            if (endpoint != null) return endpoint;
+            var overflow = other;
+            return overflow != null ? overflow : add(rawPath, hash);
+        }
+
+        private synchronized Endpoint add(String rawPath, long hash) {
+            var current = table;
+            var endpoint = lookup(current, rawPath, hash);
+            if (endpoint != null) return endpoint;
+
+            if (size >= maxEndpoints) {
+                // path 종류가 너무 많으면 (정규화되지 않는 id 등) 하나로 모은다
+                if (other == null) other = new Endpoint(0L, OTHER);
+                return other;
+            }
+
+            endpoint = new Endpoint(hash, toTemplate(rawPath));
+            if ((size + 1) * 2 > current.length) {
+                var resized = new Endpoint[current.length * 2];
+                for (Endpoint existing : current) {
+                    if (existing != null) insert(resized, existing);
+                }
+                current = resized;
+            }
+            insert(current, endpoint);
+            size++;
+            table = current;
+            return endpoint;
+        }
+
+        private List<Endpoint> endpoints() {
+            List<Endpoint> endpoints = new ArrayList<>();
+            for (Endpoint endpoint : table) {
+                if (endpoint != null) endpoints.add(endpoint);
+            }
+            if (other != null) endpoints.add(other);
+            return endpoints;
+        }
+
+        private static Endpoint lookup(Endpoint[] table, String rawPath, long hash) {
+            var mask = table.length - 1;
+            for (int i = (int) hash & mask; ; i = (i + 1) & mask) {
+                var endpoint = table[i];
+                if (endpoint == null) return null;
+                if (endpoint.hash == hash && matches(endpoint.template, rawPath)) return endpoint;
+            }
+        }
+
+        private static void insert(Endpoint[] table, Endpoint endpoint) {
+            var mask = table.length - 1;
+            var i = (int) endpoint.hash & mask;
+            while (table[i] != null) i = (i + 1) & mask;
+            table[i] = endpoint;
+        }
+    }
+
+    static String toTemplate(String rawPath) {
+        var template = new StringBuilder(rawPath.length());
+        var start = 0;
+        while (true) {
+            var end = segmentEnd(rawPath, start);
+            if (isIdSegment(rawPath, start, end)) {
+                template.append(ID);
+            } else {
+                template.append(rawPath, start, end);
+            }
+            if (end == rawPath.length()) return template.toString();
+            template.append('/');
+            start = end + 1;
+        }
+    }
+
+    static long templateHash(String rawPath) {
+        var hash = FNV_OFFSET;
+        var start = 0;
+        while (true) {
+            var end = segmentEnd(rawPath, start);
+            if (isIdSegment(rawPath, start, end)) {
+                hash = hash(hash, ID, 0, ID.length());
+            } else {
+                hash = hash(hash, rawPath, start, end);
+            }
+            if (end == rawPath.length()) return hash;
+            hash = (hash ^ '/') * FNV_PRIME;
+            start = end + 1;
+        }
+    }
+
+    /**
+     * template 이 rawPath 를 정규화한 결과와 같은지 문자열을 만들지 않고 비교한다.
+     */
+    static boolean matches(String template, String rawPath) {
+        var pathStart = 0;
+        var templateStart = 0;
+        while (true) {
+            var pathEnd = segmentEnd(rawPath, pathStart);
+            var templateEnd = segmentEnd(template, templateStart);
+            var length = templateEnd - templateStart;
+            if (isIdSegment(rawPath, pathStart, pathEnd)) {
+                if (length != ID.length() || !template.startsWith(ID, templateStart)) return false;
+            } else if (length != pathEnd - pathStart || !rawPath.regionMatches(pathStart, template, templateStart, length)) {
+                return false;
+            }
+            if (pathEnd == rawPath.length() || templateEnd == template.length()) {
+                return pathEnd == rawPath.length() && templateEnd == template.length();
+            }
+            pathStart = pathEnd + 1;
+            templateStart = templateEnd + 1;
+        }
+    }
+
+    private static int segmentEnd(String path, int start) {
+        var end = path.indexOf('/', start);
+        return end < 0 ? path.length() : end;
+    }
+
+    private static boolean isIdSegment(String path, int start, int end) {
+        var length = end - start;
+        if (length == 0) return false;
+
+        var digits = true;
+        var hex = true;
+        var hasDigit = false;
+        var dashes = 0;
+        for (int i = start; i < end; i++) {
+            var c = path.charAt(i);
+            var isDigit = c >= '0' && c <= '9';
+            hasDigit |= isDigit;
+            digits &= isDigit;
+            if (c == '-') {
+                dashes++;
+            } else {
+                hex &= isDigit || (c >= 'a' && c <= 'f') || (c >= 'A' && c <= 'F');
+            }
+        }
+        if (!hex) return false;
+        if (digits) return true;
+        if (dashes > 0) {
+            // UUID (8-4-4-4-12)
+            return length == 36 && dashes == 4 && path.charAt(start + 8) == '-' && path.charAt(start + 13) == '-'
+                    && path.charAt(start + 18) == '-' && path.charAt(start + 23) == '-';
+        }
+        return hasDigit && length >= 16;
+    }
+
+    private static long hash(long hash, String value, int start, int end) {
+        for (int i = start; i < end; i++) {
+            hash = (hash ^ value.charAt(i)) * FNV_PRIME;
+        }
+        return hash;
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.commonsetting.global.infra.rest.pool;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+@RequiredArgsConstructor
+public class ConnectionPoolMetrics {
+    private final PoolingHttpClientConnectionManager connectionManager;
+
+    public PoolStats snapshot() {
+        var total = connectionManager.getTotalStats();
+        Map<String, RouteStats> routes = new TreeMap<>();
+        for (HttpRoute route : connectionManager.getRoutes()) {
+            var stats = connectionManager.getStats(route);
+            routes.put(route.getTargetHost().toURI(), new RouteStats(stats.getLeased(), stats.getPending(), stats.getAvailable(), stats.getMax()));
+        }
+        return new PoolStats(total.getLeased(), total.getPending(), total.getAvailable(), total.getMax(), routes);
+    }
+
+    public record PoolStats(int leased, int pending, int available, int max, Map<String, RouteStats> routes) {}
+
+    public record RouteStats(int leased, int pending, int available, int max) {}
+}
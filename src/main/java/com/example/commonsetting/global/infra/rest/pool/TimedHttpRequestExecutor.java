@@ -0,0 +1,38 @@
+package com.example.commonsetting.global.infra.rest.pool;
+
+import com.example.commonsetting.global.infra.rest.interceptor.ExchangeContext;
+import org.apache.http.HttpClientConnection;
+import org.apache.http.HttpException;
+import org.apache.http.HttpRequest;
+import org.apache.http.HttpResponse;
+import org.apache.http.protocol.HttpContext;
+import org.apache.http.protocol.HttpRequestExecutor;
+
+import java.io.IOException;
+
+/**
+ * 요청 전송 시간과 응답 헤더 대기 시간을 호출 스레드의 ExchangeContext 에 기록하는 HttpRequestExecutor.
+ * TimedPoolingHttpClientConnectionManager 와 마찬가지로 HttpClient(classic) 의 호출 스레드에서 실행된다.
+ */
+public class TimedHttpRequestExecutor extends HttpRequestExecutor {
+
+    @Override
+    protected HttpResponse doSendRequest(HttpRequest request, HttpClientConnection conn, HttpContext context) throws IOException, HttpException {
+        var startedAt = System.nanoTime();
+        try {
+            return super.doSendRequest(request, conn, context);
+        } finally {
+            ExchangeContext.current().addSendNanos(System.nanoTime() - startedAt);
+        }
+    }
+
+    @Override
+    protected HttpResponse doReceiveResponse(HttpRequest request, HttpClientConnection conn, HttpContext context) throws HttpException, IOException {
+        var startedAt = System.nanoTime();
+        try {
+            return super.doReceiveResponse(request, conn, context);
+        } finally {
+            ExchangeContext.current().addWaitNanos(System.nanoTime() - startedAt);
+        }
+    }
+}
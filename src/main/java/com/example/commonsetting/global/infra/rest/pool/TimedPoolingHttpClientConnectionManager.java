@@ -0,0 +1,45 @@
+package com.example.commonsetting.global.infra.rest.pool;
+
+import com.example.commonsetting.global.infra.rest.interceptor.ExchangeContext;
+import org.apache.http.HttpClientConnection;
+import org.apache.http.config.Registry;
+import org.apache.http.conn.ConnectionPoolTimeoutException;
+import org.apache.http.conn.ConnectionRequest;
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.conn.socket.ConnectionSocketFactory;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 커넥션을 빌리기까지 기다린 시간을 호출 스레드의 ExchangeContext 에 기록하는 커넥션 매니저.
+ * HttpClient(classic) 는 호출 스레드에서 ConnectionRequest.get 을 부르므로 로깅 인터셉터와 같은 스레드에서 측정된다.
+ */
+public class TimedPoolingHttpClientConnectionManager extends PoolingHttpClientConnectionManager {
+
+    public TimedPoolingHttpClientConnectionManager(Registry<ConnectionSocketFactory> socketFactoryRegistry, long timeToLive, TimeUnit timeUnit) {
+        super(socketFactoryRegistry, null, null, null, timeToLive, timeUnit);
+    }
+
+    @Override
+    public ConnectionRequest requestConnection(HttpRoute route, Object state) {
+        var request = super.requestConnection(route, state);
+        return new ConnectionRequest() {
+            @Override
+            public HttpClientConnection get(long timeout, TimeUnit timeUnit) throws InterruptedException, ExecutionException, ConnectionPoolTimeoutException {
+                var startedAt = System.nanoTime();
+                try {
+                    return request.get(timeout, timeUnit);
+                } finally {
+                    ExchangeContext.current().addLeaseNanos(System.nanoTime() - startedAt);
+                }
+            }
+
+            @Override
+            public boolean cancel() {
+                return request.cancel();
+            }
+        };
+    }
+}
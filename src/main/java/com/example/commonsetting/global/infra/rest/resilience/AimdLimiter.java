@@ -0,0 +1,51 @@
+package com.example.commonsetting.global.infra.rest.resilience;
+
+import com.example.commonsetting.global.infra.rest.type.RestClientProperties;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * AIMD(additive increase / multiplicative decrease) 동시 호출 제한.
+ */
+class AimdLimiter {
+    private final RestClientProperties.Resilience properties;
+    private final AtomicInteger inflight = new AtomicInteger();
+    private volatile int limit;
+
+    AimdLimiter(RestClientProperties.Resilience properties) {
+        this.properties = properties;
+        this.limit = properties.initialLimit();
+    }
+
+    boolean tryAcquire() {
+        while (true) {
+            var current = inflight.get();
+            if (current >= limit) return false;
+            if (inflight.compareAndSet(current, current + 1)) return true;
+        }
+    }
+
+    void release() {
+        inflight.decrementAndGet();
+    }
+
+    void onResult(long latencyNanos, boolean failed) {
+        var current = inflight.getAndDecrement();
+        synchronized (this) {
+            if (failed || latencyNanos > properties.slowCallDuration().toNanos()) {
+                limit = Math.max(properties.minLimit(), (int) (limit * properties.backoffRatio()));
+            } else if (current * 2 >= limit) {
+                // 여유가 있을 때는 늘리지 않는다 (사용하지 않는 limit 이 무한히 커지는 것을 방지)
+                limit = Math.min(properties.maxLimit(), limit + 1);
+            }
+        }
+    }
+
+    int limit() {
+        return limit;
+    }
+
+    int inflight() {
+        return inflight.get();
+    }
+}
@@ -0,0 +1,86 @@
+package com.example.commonsetting.global.infra.rest.resilience;
+
+import com.example.commonsetting.global.infra.rest.type.RestClientProperties;
+
+/**
+ * 최근 windowSize 건의 결과로 실패율을 계산하는 count 기반 서킷 브레이커.
+ * OPEN 은 openDuration 이 지나면 HALF_OPEN 으로 바뀌고, halfOpenCalls 건이 모두 성공하면 CLOSED 로 돌아간다.
+ */
+class CircuitBreaker {
+    enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private final RestClientProperties.Resilience properties;
+    private final boolean[] window;
+    private int index;
+    private int recorded;
+    private int failures;
+
+    private State state = State.CLOSED;
+    private long openedAt;
+    private int halfOpenPermits;
+    private int halfOpenSuccesses;
+
+    CircuitBreaker(RestClientProperties.Resilience properties) {
+        this.properties = properties;
+        this.window = new boolean[properties.windowSize()];
+    }
+
+    synchronized boolean tryAcquire(long now) {
+        if (state == State.OPEN) {
+            if (now - openedAt < properties.openDuration().toNanos()) return false;
+            state = State.HALF_OPEN;
+            halfOpenPermits = 0;
+            halfOpenSuccesses = 0;
+        }
+        if (state == State.HALF_OPEN) {
+            if (halfOpenPermits >= properties.halfOpenCalls()) return false;
+            halfOpenPermits++;
+        }
+        return true;
+    }
+
+    synchronized void onResult(boolean failed, long now) {
+        if (state == State.HALF_OPEN) {
+            if (failed) {
+                open(now);
+            } else if (++halfOpenSuccesses >= properties.halfOpenCalls()) {
+                reset();
+            }
+            return;
+        }
+        if (state == State.OPEN) return;
+
+        if (recorded == window.length) {
+            if (window[index]) failures--;
+        } else {
+            recorded++;
+        }
+        window[index] = failed;
+        if (failed) failures++;
+        index = (index + 1) % window.length;
+
+        if (recorded >= properties.minimumCalls() && failures * 100 >= properties.failureRateThreshold() * recorded) {
+            open(now);
+        }
+    }
+
+    synchronized State state() {
+        return state;
+    }
+
+    synchronized int failureRate() {
+        return recorded == 0 ? 0 : failures * 100 / recorded;
+    }
+
+    private void open(long now) {
+        state = State.OPEN;
+        openedAt = now;
+    }
+
+    private void reset() {
+        state = State.CLOSED;
+        index = 0;
+        recorded = 0;
+        failures = 0;
+    }
+}
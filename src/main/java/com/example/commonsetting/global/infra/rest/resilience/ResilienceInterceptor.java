@@ -0,0 +1,89 @@
+package com.example.commonsetting.global.infra.rest.resilience;
+
+import com.example.commonsetting.global.config.StackExchangeException;
+import com.example.commonsetting.global.infra.rest.type.RestClientProperties;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import static com.example.commonsetting.global.exception.code.CommonExternalResponseCode.API_EXCHANGE_ERROR;
+
+/**
+ * 호스트별 서킷 브레이커 + 동시 호출 제한.
+ * 브레이커가 열려 있거나 limit 을 넘으면 네트워크 호출 없이 바로 API_EXCHANGE_ERROR 로 실패시킨다.
+ * IOException, RuntimeException, 5xx 응답을 실패로 본다.
+ * 차단은 로그를 남기지 않는다. (로깅 인터셉터가 RateLimitedErrorLogger 로 남긴다)
+ */
+public class ResilienceInterceptor implements ClientHttpRequestInterceptor {
+    private final RestClientProperties.Resilience properties;
+    private final Map<String, HostGuard> guards = new ConcurrentHashMap<>();
+
+    public ResilienceInterceptor(RestClientProperties.Resilience properties) {
+        this.properties = properties;
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution) throws IOException {
+        var host = request.getURI().getHost();
+        var guard = guards.computeIfAbsent(host == null ? "" : host, key -> new HostGuard(properties, key));
+
+        if (!guard.limiter.tryAcquire()) {
+            guard.rejectedByLimit.increment();
+            throw reject(guard.limitRejectedMessage);
+        }
+        var startedAt = System.nanoTime();
+        if (!guard.breaker.tryAcquire(startedAt)) {
+            guard.limiter.release();
+            guard.rejectedByBreaker.increment();
+            throw reject(guard.breakerRejectedMessage);
+        }
+
+        var failed = true;
+        try {
+            var response = execution.execute(request, body);
+            failed = response.getRawStatusCode() >= 500;
+            return response;
+        } finally {
+            var now = System.nanoTime();
+            guard.limiter.onResult(now - startedAt, failed);
+            guard.breaker.onResult(failed, now);
+        }
+    }
+
+    public Map<String, HostStats> stats() {
+        Map<String, HostStats> stats = new TreeMap<>();
+        guards.forEach((host, guard) -> stats.put(host, new HostStats(guard.breaker.state().name(), guard.breaker.failureRate(),
+                guard.limiter.limit(), guard.limiter.inflight(), guard.rejectedByBreaker.sum(), guard.rejectedByLimit.sum())));
+        return stats;
+    }
+
+    private static StackExchangeException reject(String message) {
+        return new StackExchangeException(API_EXCHANGE_ERROR.getHttpStatus(), API_EXCHANGE_ERROR.getCode(), message);
+    }
+
+    private static final class HostGuard {
+        private final CircuitBreaker breaker;
+        private final AimdLimiter limiter;
+        private final LongAdder rejectedByBreaker = new LongAdder();
+        private final LongAdder rejectedByLimit = new LongAdder();
+        // 차단할 때마다 메시지를 만들지 않도록 호스트별로 미리 만들어 둔다
+        private final String limitRejectedMessage;
+        private final String breakerRejectedMessage;
+
+        private HostGuard(RestClientProperties.Resilience properties, String host) {
+            this.breaker = new CircuitBreaker(properties);
+            this.limiter = new AimdLimiter(properties);
+            this.limitRejectedMessage = "API 호출이 차단되었습니다. (동시 호출 제한: " + host + ")";
+            this.breakerRejectedMessage = "API 호출이 차단되었습니다. (circuit open: " + host + ")";
+        }
+    }
+
+    public record HostStats(String state, int failureRate, int limit, int inflight, long rejectedByBreaker, long rejectedByLimit) {}
+}
@@ -0,0 +1,57 @@
+package com.example.commonsetting.global.infra.rest.stream;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * reader 가 배열 시작([) 직전에 있을 때 원소를 하나씩 읽는다. 배열 전체를 메모리에 올리지 않는다.
+ */
+class JsonArrayIterator<T> implements Iterator<T> {
+    private final JsonReader reader;
+    private final TypeAdapter<T> adapter;
+    private boolean started;
+    private boolean finished;
+    private long count;
+
+    JsonArrayIterator(JsonReader reader, TypeAdapter<T> adapter) {
+        this.reader = reader;
+        this.adapter = adapter;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (finished) return false;
+        try {
+            if (!started) {
+                reader.beginArray();
+                started = true;
+            }
+            if (reader.hasNext()) return true;
+            reader.endArray();
+            finished = true;
+            return false;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) throw new NoSuchElementException();
+        try {
+            count++;
+            return adapter.read(reader);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    long count() {
+        return count;
+    }
+}
@@ -0,0 +1,179 @@
+package com.example.commonsetting.global.infra.rest.stream;
+
+import com.example.commonsetting.global.config.StackExchangeException;
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.web.client.RequestCallback;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PushbackInputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import static com.example.commonsetting.global.exception.code.CommonExternalResponseCode.API_EXCHANGE_ERROR;
+
+/**
+ * 응답 body 를 String 으로 만들지 않고 Gson JsonReader 로 바로 읽어 타입 객체로 변환한다.
+ * JSON 배열은 원소 단위로 읽어 Stream / 콜백으로 넘기므로 원소 수와 무관하게 메모리 사용량이 일정하다.
+ * <p>
+ * Stream 은 커넥션이 열려 있는 handler 안에서만 사용할 수 있다. (handler 가 반환되면 응답을 닫는다)
+ * 중간에 멈추면 남은 body 는 커넥션 재사용을 위해 읽고 버린다.
+ * Gson 2.9 는 record 를 역직렬화하지 못하므로 대상 타입은 일반 클래스여야 한다.
+ */
+public class JsonStreamingClient {
+    private final RestTemplate restTemplate;
+    private final Gson gson;
+
+    public JsonStreamingClient(RestTemplate restTemplate) {
+        this(restTemplate, new Gson());
+    }
+
+    public JsonStreamingClient(RestTemplate restTemplate, Gson gson) {
+        this.restTemplate = restTemplate;
+        this.gson = gson;
+    }
+
+    /**
+     * GET 응답 전체를 type 으로 변환한다. body 가 비어 있으면 null.
+     */
+    public <T> T extract(String url, Class<T> type, Object... uriVariables) {
+        return extract(url, HttpMethod.GET, null, TypeToken.get(type), uriVariables);
+    }
+
+    public <T> T extract(String url, HttpMethod method, HttpEntity<?> requestEntity, TypeToken<T> type, Object... uriVariables) {
+        var adapter = gson.getAdapter(type);
+        return execute(url, method, requestEntity, null, false, () -> null, adapter::read, uriVariables);
+    }
+
+    /**
+     * GET 응답의 최상위 배열을 원소 단위 Stream 으로 handler 에 넘긴다.
+     */
+    public <T, R> R stream(String url, Class<T> elementType, Function<? super Stream<T>, R> handler, Object... uriVariables) {
+        return stream(url, HttpMethod.GET, null, null, TypeToken.get(elementType), handler, uriVariables);
+    }
+
+    /**
+     * arrayPath 는 배열까지의 필드 경로다. (예: "data.items", null 이면 최상위 배열)
+     */
+    public <T, R> R stream(String url, HttpMethod method, HttpEntity<?> requestEntity, String arrayPath,
+                           TypeToken<T> elementType, Function<? super Stream<T>, R> handler, Object... uriVariables) {
+        var adapter = gson.getAdapter(elementType);
+        return execute(url, method, requestEntity, arrayPath, true, () -> handler.apply(Stream.empty()), reader -> {
+            var iterator = new JsonArrayIterator<>(reader, adapter);
+            try (var elements = StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED), false)) {
+                return handler.apply(elements);
+            }
+        }, uriVariables);
+    }
+
+    /**
+     * GET 응답의 최상위 배열 원소를 하나씩 action 에 넘기고 처리한 원소 수를 반환한다.
+     */
+    public <T> long forEach(String url, Class<T> elementType, Consumer<? super T> action, Object... uriVariables) {
+        return forEach(url, HttpMethod.GET, null, null, TypeToken.get(elementType), action, uriVariables);
+    }
+
+    public <T> long forEach(String url, HttpMethod method, HttpEntity<?> requestEntity, String arrayPath,
+                            TypeToken<T> elementType, Consumer<? super T> action, Object... uriVariables) {
+        var adapter = gson.getAdapter(elementType);
+        return execute(url, method, requestEntity, arrayPath, true, () -> 0L, reader -> {
+            var iterator = new JsonArrayIterator<>(reader, adapter);
+            iterator.forEachRemaining(action);
+            return iterator.count();
+        }, uriVariables);
+    }
+
+    /**
+     * @param array       true 면 arrayPath 위치의 값이 배열이어야 한다
+     * @param emptyResult body 가 비어 있을 때의 결과
+     */
+    private <R> R execute(String url, HttpMethod method, HttpEntity<?> requestEntity, String arrayPath, boolean array,
+                          Supplier<R> emptyResult, JsonHandler<R> handler, Object[] uriVariables) {
+        try {
+            return restTemplate.execute(url, method, requestCallback(requestEntity),
+                    response -> read(response, arrayPath, array, emptyResult, handler), uriVariables);
+        } catch (UncheckedIOException | ResourceAccessException | JsonParseException e) {
+            throw new StackExchangeException(API_EXCHANGE_ERROR.getHttpStatus(), API_EXCHANGE_ERROR.getCode(), "API 응답을 읽는 중 오류가 발생했습니다.", e);
+        }
+    }
+
+    private RequestCallback requestCallback(HttpEntity<?> requestEntity) {
+        var entityCallback = restTemplate.httpEntityCallback(requestEntity);
+        return request -> {
+            entityCallback.doWithRequest(request);
+            if (request.getHeaders().getAccept().isEmpty()) {
+                request.getHeaders().setAccept(List.of(MediaType.APPLICATION_JSON));
+            }
+        };
+    }
+
+    private static <R> R read(ClientHttpResponse response, String arrayPath, boolean array,
+                              Supplier<R> emptyResult, JsonHandler<R> handler) throws IOException {
+        var body = new PushbackInputStream(response.getBody(), 1);
+        var first = body.read();
+        if (first == -1) return emptyResult.get();
+        body.unread(first);
+
+        var reader = new JsonReader(new InputStreamReader(body, charset(response)));
+        if (arrayPath != null && !arrayPath.isEmpty()) {
+            moveTo(reader, arrayPath);
+        }
+        if (array && reader.peek() != JsonToken.BEGIN_ARRAY) {
+            throw new JsonSyntaxException("expected array but was " + reader.peek() + " at " + reader.getPath());
+        }
+        return handler.handle(reader);
+    }
+
+    /**
+     * "a.b.c" 경로의 값 직전까지 reader 를 이동한다. 다른 필드는 읽고 버린다.
+     */
+    private static void moveTo(JsonReader reader, String path) throws IOException {
+        for (String name : path.split("\\.")) {
+            if (reader.peek() != JsonToken.BEGIN_OBJECT) {
+                throw new JsonSyntaxException("expected object for '" + name + "' but was " + reader.peek() + " at " + reader.getPath());
+            }
+            reader.beginObject();
+            var found = false;
+            while (reader.hasNext()) {
+                if (reader.nextName().equals(name)) {
+                    found = true;
+                    break;
+                }
+                reader.skipValue();
+            }
+            if (!found) {
+                throw new JsonSyntaxException("field '" + name + "' not found at " + reader.getPath());
+            }
+        }
+    }
+
+    private static Charset charset(ClientHttpResponse response) {
+        var contentType = response.getHeaders().getContentType();
+        return contentType != null && contentType.getCharset() != null ? contentType.getCharset() : StandardCharsets.UTF_8;
+    }
+
+    @FunctionalInterface
+    private interface JsonHandler<R> {
+        R handle(JsonReader reader) throws IOException;
+    }
+}
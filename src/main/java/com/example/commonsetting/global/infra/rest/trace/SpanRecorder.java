@@ -0,0 +1,275 @@
+package com.example.commonsetting.global.infra.rest.trace;
+
+import com.example.commonsetting.global.exception.log.RateLimitedErrorLogger;
+import com.example.commonsetting.global.infra.rest.type.RestClientProperties;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 외부 호출 span 을 미리 할당한 링버퍼(필드별 배열)에 기록하고, 전용 스레드가 배치 단위로 NDJSON 파일에 쓴다.
+ * 호출 스레드는 슬롯 번호를 CAS 로 얻어 값을 채울 뿐 객체를 만들거나 I/O 를 하지 않는다.
+ * 버퍼가 가득 차면 기다리지 않고 버린다. (dropped) 파일에 쓰지 못한 배치도 다시 시도하지 않고 버린다. (failed)
+ * <p>
+ * 한 줄 형식: {"ts":시작(epoch us),"trace":..,"span":..,"parent":..,"host":..,"method":..,"path":..,"status":..,
+ * "lease":..,"send":..,"ttfb":..,"read":..,"total":..} (시간 단위 us, status -1 은 I/O 오류)
+ */
+@Slf4j
+public class SpanRecorder implements Closeable {
+    private static final String WRITE_ERROR = "REST_SPAN_WRITE";
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private final RestClientProperties.Trace properties;
+    private final RateLimitedErrorLogger errorLogger;
+    private final int mask;
+    private final int capacity;
+
+    // 슬롯별 필드 (struct of arrays)
+    private final String[] traceIds;
+    private final String[] spanIds;
+    private final String[] parentSpanIds;
+    private final String[] hosts;
+    private final String[] methods;
+    private final String[] paths;
+    private final int[] statuses;
+    private final long[] startedAtMicros;
+    private final long[] leaseNanos;
+    private final long[] sendNanos;
+    private final long[] waitNanos;
+    private final long[] readNanos;
+    private final long[] totalNanos;
+    // 슬롯에 sequence + 1 이 기록되면 consumer 가 읽을 수 있다
+    private final AtomicLongArray published;
+
+    private final AtomicLong tail = new AtomicLong();
+    private volatile long head;
+
+    private final LongAdder recorded = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder flushed = new LongAdder();
+    private final LongAdder rotations = new LongAdder();
+
+    private final Thread flusher;
+    private final StringBuilder line = new StringBuilder(512);
+    private Writer writer;
+    private long fileSize;
+    private volatile boolean running = true;
+
+    public SpanRecorder(RestClientProperties.Trace properties, RateLimitedErrorLogger errorLogger) {
+        this.properties = properties;
+        this.errorLogger = errorLogger;
+        this.capacity = Integer.highestOneBit(Math.max(2, properties.bufferSize() - 1)) << 1;
+        this.mask = capacity - 1;
+        this.traceIds = new String[capacity];
+        this.spanIds = new String[capacity];
+        this.parentSpanIds = new String[capacity];
+        this.hosts = new String[capacity];
+        this.methods = new String[capacity];
+        this.paths = new String[capacity];
+        this.statuses = new int[capacity];
+        this.startedAtMicros = new long[capacity];
+        this.leaseNanos = new long[capacity];
+        this.sendNanos = new long[capacity];
+        this.waitNanos = new long[capacity];
+        this.readNanos = new long[capacity];
+        this.totalNanos = new long[capacity];
+        this.published = new AtomicLongArray(capacity);
+
+        this.flusher = new Thread(this::flushLoop, "rest-span-flusher");
+        this.flusher.setDaemon(true);
+        this.flusher.start();
+    }
+
+    /**
+     * @return 버퍼가 가득 차서 버렸으면 false
+     */
+    public boolean record(String traceId, String spanId, String parentSpanId, String host, String method, String path, int status,
+                          long startedAtMicros, long leaseNanos, long sendNanos, long waitNanos, long readNanos, long totalNanos) {
+        long sequence;
+        do {
+            sequence = tail.get();
+            if (sequence - head >= capacity) {
+                dropped.increment();
+                return false;
+            }
+        } while (!tail.compareAndSet(sequence, sequence + 1));
+
+        var index = (int) (sequence & mask);
+        this.traceIds[index] = traceId;
+        this.spanIds[index] = spanId;
+        this.parentSpanIds[index] = parentSpanId;
+        this.hosts[index] = host;
+        this.methods[index] = method;
+        this.paths[index] = path;
+        this.statuses[index] = status;
+        this.startedAtMicros[index] = startedAtMicros;
+        this.leaseNanos[index] = leaseNanos;
+        this.sendNanos[index] = sendNanos;
+        this.waitNanos[index] = waitNanos;
+        this.readNanos[index] = readNanos;
+        this.totalNanos[index] = totalNanos;
+        published.set(index, sequence + 1);
+        recorded.increment();
+
+        if (sequence - head + 1 == properties.batchSize()) {
+            LockSupport.unpark(flusher);
+        }
+        return true;
+    }
+
+    public Stats stats() {
+        return new Stats(capacity, (int) (tail.get() - head), recorded.sum(), flushed.sum(), dropped.sum(), failed.sum(), rotations.sum());
+    }
+
+    @Override
+    public void close() {
+        running = false;
+        LockSupport.unpark(flusher);
+        try {
+            flusher.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void flushLoop() {
+        var intervalNanos = properties.flushInterval().toNanos();
+        while (running) {
+            LockSupport.parkNanos(this, intervalNanos);
+            drain();
+        }
+        drain();
+        closeWriter();
+    }
+
+    private void drain() {
+        var sequence = head;
+        var count = 0;
+        try {
+            while (published.get((int) (sequence & mask)) == sequence + 1) {
+                var index = (int) (sequence & mask);
+                writeLine(index);
+                release(index);
+                sequence++;
+                count++;
+                if (count % properties.batchSize() == 0) {
+                    head = sequence;
+                }
+            }
+            if (count > 0) {
+                writer.flush();
+                flushed.add(count);
+            }
+        } catch (IOException e) {
+            // 경로에 쓸 수 없으면 같은 배치를 계속 재시도하게 되므로, 아직 flush 하지 않은 span 과 남은 span 을 버린다
+            while (published.get((int) (sequence & mask)) == sequence + 1) {
+                release((int) (sequence & mask));
+                sequence++;
+                count++;
+            }
+            failed.add(count);
+            errorLogger.error(log, WRITE_ERROR, "failed to write rest spans, dropped " + count + " span(s)", properties.path(), e);
+            closeWriter();
+        } finally {
+            head = sequence;
+        }
+    }
+
+    /**
+     * 문자열 참조를 풀어 GC 가 회수할 수 있게 한다
+     */
+    private void release(int index) {
+        traceIds[index] = spanIds[index] = parentSpanIds[index] = hosts[index] = methods[index] = paths[index] = null;
+    }
+
+    private void writeLine(int index) throws IOException {
+        var sb = line;
+        sb.setLength(0);
+        sb.append("{\"ts\":").append(startedAtMicros[index]);
+        appendString(sb.append(",\"trace\":"), traceIds[index]);
+        appendString(sb.append(",\"span\":"), spanIds[index]);
+        appendString(sb.append(",\"parent\":"), parentSpanIds[index]);
+        appendString(sb.append(",\"host\":"), hosts[index]);
+        appendString(sb.append(",\"method\":"), methods[index]);
+        appendString(sb.append(",\"path\":"), paths[index]);
+        sb.append(",\"status\":").append(statuses[index]);
+        sb.append(",\"lease\":").append(TimeUnit.NANOSECONDS.toMicros(leaseNanos[index]));
+        sb.append(",\"send\":").append(TimeUnit.NANOSECONDS.toMicros(sendNanos[index]));
+        sb.append(",\"ttfb\":").append(TimeUnit.NANOSECONDS.toMicros(waitNanos[index]));
+        sb.append(",\"read\":").append(TimeUnit.NANOSECONDS.toMicros(readNanos[index]));
+        sb.append(",\"total\":").append(TimeUnit.NANOSECONDS.toMicros(totalNanos[index]));
+        sb.append("}\n");
+
+        var out = writer();
+        out.append(sb);
+        fileSize += sb.length();
+        if (fileSize >= properties.maxFileSize().toBytes()) {
+            rotate();
+        }
+    }
+
+    private Writer writer() throws IOException {
+        if (writer == null) {
+            var path = Path.of(properties.path());
+            if (path.getParent() != null) Files.createDirectories(path.getParent());
+            writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            fileSize = Files.size(path);
+        }
+        return writer;
+    }
+
+    /**
+     * 현재 파일을 {path}.1 로 옮기고 새 파일에 이어 쓴다. (이전 .1 파일은 덮어쓴다)
+     */
+    private void rotate() throws IOException {
+        closeWriter();
+        var path = Path.of(properties.path());
+        Files.move(path, Path.of(properties.path() + ".1"), StandardCopyOption.REPLACE_EXISTING);
+        rotations.increment();
+    }
+
+    private void closeWriter() {
+        if (writer == null) return;
+        try {
+            writer.close();
+        } catch (IOException e) {
+            log.warn("failed to close rest span file: {}", e.getMessage());
+        } finally {
+            writer = null;
+        }
+    }
+
+    private static void appendString(StringBuilder sb, String value) {
+        if (value == null) {
+            sb.append("null");
+            return;
+        }
+        sb.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            var c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                sb.append('\\').append(c);
+            } else if (c < 0x20) {
+                sb.append("\\u00").append(HEX[c >> 4]).append(HEX[c & 0xF]);
+            } else {
+                sb.append(c);
+            }
+        }
+        sb.append('"');
+    }
+
+    public record Stats(int capacity, int pending, long recorded, long flushed, long dropped, long failed, long rotations) {}
+}
@@ -0,0 +1,201 @@
+package com.example.commonsetting.global.infra.rest.trace;
+
+import com.example.commonsetting.global.infra.rest.interceptor.ExchangeContext;
+import com.example.commonsetting.global.util.TraceUtils;
+import org.slf4j.MDC;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.http.client.support.HttpRequestWrapper;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.TimeUnit;
+
+import static com.example.commonsetting.global.util.ComUtils.TRACE_ID;
+
+/**
+ * 외부 호출에 X-Trace-Id / X-Span-Id 헤더를 붙이고, spanRecorder 가 있으면 구간별 시간을 span 으로 기록한다.
+ * traceId 는 MDC 의 값(TraceContextFilter, 요청 밖의 스레드는 로깅 인터셉터가 설정)을 이어 쓰고, 없으면 새로 만든다.
+ * <p>
+ * 네트워크 바로 앞(인터셉터 체인의 마지막)에 두어야 한다. 캐시/요청 병합으로 처리된 호출은 span 을 남기지 않고,
+ * 호출마다 다른 헤더가 요청 병합 키에 섞이지 않는다.
+ * lease, send, ttfb 는 HC4 커넥션 매니저와 TimedHttpRequestExecutor 가 ExchangeContext 에 남긴 값이다. (HC5_ASYNC 는 0)
+ * read 는 body 의 read 호출에 걸린 시간의 합이며 span 은 응답을 닫을 때 기록된다.
+ */
+public class TracePropagationInterceptor implements ClientHttpRequestInterceptor {
+    private final boolean propagate;
+    private final SpanRecorder spanRecorder; // 기록 비활성화 시 null
+
+    public TracePropagationInterceptor(boolean propagate, SpanRecorder spanRecorder) {
+        this.propagate = propagate;
+        this.spanRecorder = spanRecorder;
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution) throws IOException {
+        var traceId = MDC.get(TRACE_ID);
+        if (!TraceUtils.isValidId(traceId)) traceId = TraceUtils.newId();
+        var spanId = TraceUtils.newId();
+        var target = propagate ? withTraceHeaders(request, traceId, spanId) : request;
+        if (spanRecorder == null) {
+            return execution.execute(target, body);
+        }
+
+        var exchangeContext = ExchangeContext.current();
+        var leaseBefore = exchangeContext.getLeaseNanos();
+        var sendBefore = exchangeContext.getSendNanos();
+        var waitBefore = exchangeContext.getWaitNanos();
+        var startedAtMicros = TimeUnit.MILLISECONDS.toMicros(System.currentTimeMillis());
+        var startedNanos = System.nanoTime();
+        var span = new Span(traceId, spanId, MDC.get(TraceUtils.SPAN_ID), request, startedAtMicros, startedNanos);
+        try {
+            var response = execution.execute(target, body);
+            span.exchanged(exchangeContext.getLeaseNanos() - leaseBefore, exchangeContext.getSendNanos() - sendBefore,
+                    exchangeContext.getWaitNanos() - waitBefore);
+            return new SpanRecordingResponse(response, span);
+        } catch (IOException | RuntimeException e) {
+            span.exchanged(exchangeContext.getLeaseNanos() - leaseBefore, exchangeContext.getSendNanos() - sendBefore,
+                    exchangeContext.getWaitNanos() - waitBefore);
+            span.finish(-1);
+            throw e;
+        }
+    }
+
+    private static HttpRequest withTraceHeaders(HttpRequest request, String traceId, String spanId) {
+        var headers = new HttpHeaders();
+        headers.putAll(request.getHeaders());
+        headers.set(TraceUtils.TRACE_ID_HEADER, traceId);
+        headers.set(TraceUtils.SPAN_ID_HEADER, spanId);
+        return new HttpRequestWrapper(request) {
+            @Override
+            public HttpHeaders getHeaders() {
+                return headers;
+            }
+        };
+    }
+
+    private final class Span {
+        private final String traceId;
+        private final String spanId;
+        private final String parentSpanId;
+        private final HttpRequest request;
+        private final long startedAtMicros;
+        private final long startedNanos;
+        private long leaseNanos;
+        private long sendNanos;
+        private long waitNanos;
+        private long readNanos;
+        private boolean finished;
+
+        private Span(String traceId, String spanId, String parentSpanId, HttpRequest request, long startedAtMicros, long startedNanos) {
+            this.traceId = traceId;
+            this.spanId = spanId;
+            this.parentSpanId = parentSpanId;
+            this.request = request;
+            this.startedAtMicros = startedAtMicros;
+            this.startedNanos = startedNanos;
+        }
+
+        private void exchanged(long leaseNanos, long sendNanos, long waitNanos) {
+            this.leaseNanos = leaseNanos;
+            this.sendNanos = sendNanos;
+            this.waitNanos = waitNanos;
+        }
+
+        private void finish(int status) {
+            if (finished) return;
+            finished = true;
+            var uri = request.getURI();
+            spanRecorder.record(traceId, spanId, parentSpanId, uri.getHost(), request.getMethodValue(), uri.getRawPath(), status,
+                    startedAtMicros, leaseNanos, sendNanos, waitNanos, readNanos, System.nanoTime() - startedNanos);
+        }
+    }
+
+    private static final class SpanRecordingResponse implements ClientHttpResponse {
+        private final ClientHttpResponse delegate;
+        private final Span span;
+        private InputStream body;
+
+        private SpanRecordingResponse(ClientHttpResponse delegate, Span span) {
+            this.delegate = delegate;
+            this.span = span;
+        }
+
+        @Override
+        public InputStream getBody() throws IOException {
+            if (body == null) {
+                body = new TimedInputStream(delegate.getBody(), span);
+            }
+            return body;
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return delegate.getHeaders();
+        }
+
+        @Override
+        public HttpStatus getStatusCode() throws IOException {
+            return delegate.getStatusCode();
+        }
+
+        @Override
+        public int getRawStatusCode() throws IOException {
+            return delegate.getRawStatusCode();
+        }
+
+        @Override
+        public String getStatusText() throws IOException {
+            return delegate.getStatusText();
+        }
+
+        @Override
+        public void close() {
+            var status = -1;
+            try {
+                status = delegate.getRawStatusCode();
+            } catch (IOException e) {
+                // 상태 코드를 읽지 못하면 오류로 기록한다
+            }
+            try {
+                delegate.close();
+            } finally {
+                span.finish(status);
+            }
+        }
+    }
+
+    private static final class TimedInputStream extends FilterInputStream {
+        private final Span span;
+
+        private TimedInputStream(InputStream in, Span span) {
+            super(in);
+            this.span = span;
+        }
+
+        @Override
+        public int read() throws IOException {
+            var startedAt = System.nanoTime();
+            try {
+                return super.read();
+            } finally {
+                span.readNanos += System.nanoTime() - startedAt;
+            }
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            var startedAt = System.nanoTime();
+            try {
+                return super.read(b, off, len);
+            } finally {
+                span.readNanos += System.nanoTime() - startedAt;
+            }
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.example.commonsetting.global.infra.rest.transport;
+
+import org.apache.hc.client5.http.async.methods.SimpleHttpRequest;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.apache.hc.core5.http.ContentType;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.client.AbstractClientHttpRequest;
+import org.springframework.http.client.ClientHttpResponse;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.net.URI;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * 호출 스레드는 응답이 올 때까지 기다리지만, 소켓 I/O 는 I/O reactor 스레드가 처리한다.
+ * HTTP/2 커넥션에서는 여러 호출 스레드의 요청이 하나의 커넥션에 다중화된다.
+ * 요청 body 는 메모리에 모았다가 한 번에 보낸다.
+ */
+class Hc5AsyncClientHttpRequest extends AbstractClientHttpRequest {
+    // HttpClient 가 직접 관리하거나 HTTP/2 에서 허용되지 않는 헤더
+    private static final Set<String> SKIPPED_HEADERS = Set.of("content-length", "transfer-encoding", "content-type",
+            "connection", "keep-alive", "proxy-connection", "upgrade", "host");
+    private static final String ACCEPT_ENCODING = "gzip, deflate";
+
+    private final CloseableHttpAsyncClient httpClient;
+    private final RequestConfig requestConfig;
+    private final boolean compression;
+    private final HttpMethod method;
+    private final URI uri;
+    private final ByteArrayOutputStream bufferedOutput = new ByteArrayOutputStream(1024);
+
+    Hc5AsyncClientHttpRequest(CloseableHttpAsyncClient httpClient, RequestConfig requestConfig, boolean compression, HttpMethod method, URI uri) {
+        this.httpClient = httpClient;
+        this.requestConfig = requestConfig;
+        this.compression = compression;
+        this.method = method;
+        this.uri = uri;
+    }
+
+    @Override
+    public HttpMethod getMethod() {
+        return method;
+    }
+
+    @Override
+    public String getMethodValue() {
+        return method.name();
+    }
+
+    @Override
+    public URI getURI() {
+        return uri;
+    }
+
+    @Override
+    protected OutputStream getBodyInternal(HttpHeaders headers) {
+        return bufferedOutput;
+    }
+
+    @Override
+    protected ClientHttpResponse executeInternal(HttpHeaders headers) throws IOException {
+        var body = bufferedOutput.toByteArray();
+        var request = new SimpleHttpRequest(method.name(), uri);
+        request.setConfig(requestConfig);
+        headers.forEach((name, values) -> {
+            if (SKIPPED_HEADERS.contains(name.toLowerCase())) return;
+            for (String value : values) {
+                request.addHeader(name, value);
+            }
+        });
+        if (compression && !headers.containsKey(HttpHeaders.ACCEPT_ENCODING)) {
+            request.setHeader(HttpHeaders.ACCEPT_ENCODING, ACCEPT_ENCODING);
+        }
+        if (body.length > 0) {
+            var contentType = headers.getContentType();
+            request.setBody(body, contentType != null ? ContentType.parse(contentType.toString()) : null);
+        }
+
+        var future = httpClient.execute(request, null);
+        try {
+            return new Hc5AsyncClientHttpResponse(future.get(), compression);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            var interrupted = new InterruptedIOException("interrupted while waiting for " + uri);
+            interrupted.initCause(e);
+            throw interrupted;
+        } catch (ExecutionException e) {
+            var cause = e.getCause();
+            if (cause instanceof IOException ioException) throw ioException;
+            throw new IOException("failed to execute " + method + " " + uri, cause);
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.commonsetting.global.infra.rest.transport;
+
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.client.ClientHttpRequest;
+import org.springframework.http.client.ClientHttpRequestFactory;
+
+import java.net.URI;
+
+/**
+ * HttpClient 5 async I/O 를 사용하는 ClientHttpRequestFactory. (Spring 5.3 에는 HttpClient 5 용 구현이 없다)
+ * 요청/응답 body 는 메모리에 모아서 주고받으므로 BufferingClientHttpRequestFactory 로 감쌀 필요가 없다.
+ * <p>
+ * setConnectTimeout / setReadTimeout 은 RestTemplateBuilder 가 reflection 으로 호출한다.
+ */
+public class Hc5AsyncClientHttpRequestFactory implements ClientHttpRequestFactory {
+    private final CloseableHttpAsyncClient httpClient;
+    private final boolean compression;
+    private RequestConfig requestConfig = RequestConfig.DEFAULT;
+
+    public Hc5AsyncClientHttpRequestFactory(CloseableHttpAsyncClient httpClient, boolean compression) {
+        this.httpClient = httpClient;
+        this.compression = compression;
+    }
+
+    @SuppressWarnings("deprecation") // 풀 전체 설정(ConnectionConfig) 대신 RestTemplate 별 연결 타임아웃을 적용한다
+    public void setConnectTimeout(int timeout) {
+        requestConfig = RequestConfig.copy(requestConfig)
+                .setConnectTimeout(Timeout.ofMilliseconds(timeout))
+                .setConnectionRequestTimeout(Timeout.ofMilliseconds(timeout))
+                .build();
+    }
+
+    public void setReadTimeout(int timeout) {
+        requestConfig = RequestConfig.copy(requestConfig).setResponseTimeout(Timeout.ofMilliseconds(timeout)).build();
+    }
+
+    @Override
+    public ClientHttpRequest createRequest(URI uri, HttpMethod httpMethod) {
+        return new Hc5AsyncClientHttpRequest(httpClient, requestConfig, compression, httpMethod, uri);
+    }
+}
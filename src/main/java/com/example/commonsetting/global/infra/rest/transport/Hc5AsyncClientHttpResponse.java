@@ -0,0 +1,109 @@
+package com.example.commonsetting.global.infra.rest.transport;
+
+import org.apache.hc.client5.http.async.methods.SimpleHttpResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.client.AbstractClientHttpResponse;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * 응답 body 는 이미 메모리에 있으므로 getBody 마다 새로운 스트림을 만든다. (로그 인터셉터가 body 를 먼저 읽어도 된다)
+ * compression 이 켜져 있으면 gzip/deflate body 를 풀고 Content-Encoding, Content-Length 헤더를 제거한다.
+ * deflate 에 쓴 Inflater 의 native 메모리는 close 에서 해제한다.
+ */
+class Hc5AsyncClientHttpResponse extends AbstractClientHttpResponse {
+    private final SimpleHttpResponse response;
+    private final boolean compression;
+    private HttpHeaders headers;
+    private byte[] body;
+    private Inflater inflater;
+
+    Hc5AsyncClientHttpResponse(SimpleHttpResponse response, boolean compression) {
+        this.response = response;
+        this.compression = compression;
+    }
+
+    @Override
+    public int getRawStatusCode() {
+        return response.getCode();
+    }
+
+    @Override
+    public String getStatusText() {
+        var reasonPhrase = response.getReasonPhrase();
+        return reasonPhrase != null ? reasonPhrase : "";
+    }
+
+    @Override
+    public HttpHeaders getHeaders() {
+        if (headers == null) {
+            var contentEncoding = contentEncoding();
+            var decoded = contentEncoding != null;
+            headers = new HttpHeaders();
+            for (var header : response.getHeaders()) {
+                if (decoded && (HttpHeaders.CONTENT_ENCODING.equalsIgnoreCase(header.getName())
+                        || HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(header.getName()))) {
+                    continue;
+                }
+                headers.add(header.getName(), header.getValue());
+            }
+        }
+        return headers;
+    }
+
+    @Override
+    public InputStream getBody() throws IOException {
+        if (body == null) {
+            body = decode(response.getBodyBytes());
+        }
+        return new ByteArrayInputStream(body);
+    }
+
+    @Override
+    public void close() {
+        if (inflater != null) {
+            inflater.end();
+            inflater = null;
+        }
+    }
+
+    private byte[] decode(byte[] raw) throws IOException {
+        if (raw == null) return new byte[0];
+        var contentEncoding = contentEncoding();
+        if (contentEncoding == null || raw.length == 0) return raw;
+
+        try (var in = "deflate".equals(contentEncoding) ? inflate(raw) : new GZIPInputStream(new ByteArrayInputStream(raw))) {
+            return in.readAllBytes();
+        }
+    }
+
+    /**
+     * 서버에 따라 deflate 를 zlib 형식(RFC 1950) 또는 raw deflate 로 보내므로 첫 바이트로 구분한다.
+     */
+    private InputStream inflate(byte[] raw) {
+        var zlibWrapped = raw.length > 1 && (raw[0] & 0x0f) == 8 && ((raw[0] & 0xff) << 8 | (raw[1] & 0xff)) % 31 == 0;
+        // InflaterInputStream.close 는 직접 넘긴 Inflater 를 end 하지 않는다
+        inflater = new Inflater(!zlibWrapped);
+        return new InflaterInputStream(new ByteArrayInputStream(raw), inflater);
+    }
+
+    /**
+     * 풀어야 하는 인코딩(gzip, x-gzip, deflate)이면 그 이름을, 아니면 null 을 반환한다.
+     */
+    private String contentEncoding() {
+        if (!compression) return null;
+        var header = response.getFirstHeader(HttpHeaders.CONTENT_ENCODING);
+        if (header == null) return null;
+        var value = header.getValue().trim().toLowerCase();
+        return switch (value) {
+            case "gzip", "x-gzip" -> "gzip";
+            case "deflate" -> "deflate";
+            default -> null;
+        };
+    }
+}
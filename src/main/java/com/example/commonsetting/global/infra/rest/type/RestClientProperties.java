@@ -0,0 +1,170 @@
+package com.example.commonsetting.global.infra.rest.type;
+
+import com.example.commonsetting.global.util.MaskingUtils;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+@ConstructorBinding
+@ConfigurationProperties(prefix = "rest-client")
+public record RestClientProperties(@DefaultValue Log log,
+                                   @DefaultValue Streaming streaming,
+                                   @DefaultValue Pool pool,
+                                   @DefaultValue Async async,
+                                   @DefaultValue Cache cache,
+                                   @DefaultValue Resilience resilience,
+                                   @DefaultValue Coalescing coalescing,
+                                   @DefaultValue Metrics metrics,
+                                   @DefaultValue Redaction redaction,
+                                   @DefaultValue Transport transport,
+                                   @DefaultValue Trace trace) {
+
+    /**
+     * async = true 이면 RestLog 를 링버퍼에 담고 전용 스레드에서 직렬화/출력한다.
+     */
+    public record Log(@DefaultValue("false") boolean async,
+                      @DefaultValue("8192") int bufferSize,
+                      @DefaultValue("256") int batchSize,
+                      @DefaultValue("DROP") OverflowPolicy overflowPolicy,
+                      @DefaultValue("100ms") Duration blockTimeout) {
+    }
+
+    /**
+     * enabled = true 이면 요청/응답 body 를 버퍼링하지 않고 호출자에게 그대로 흘려보낸다.
+     * 로그에는 응답 body 의 앞부분(captureSize)만 남긴다. 응답 캐시와 요청 병합은 body 전체를 복사하므로 함께 적용하지 않는다.
+     */
+    public record Streaming(@DefaultValue("false") boolean enabled,
+                            @DefaultValue("8KB") DataSize captureSize) {
+    }
+
+    /**
+     * restClient, restClientMin2 가 공유하는 커넥션 풀 설정.
+     * routes 로 호스트별 최대 커넥션 수를 따로 지정할 수 있다. (uri 예: https://api.example.com)
+     */
+    public record Pool(@DefaultValue("50") int maxTotal,
+                       @DefaultValue("50") int defaultMaxPerRoute,
+                       @DefaultValue("5m") Duration timeToLive,
+                       @DefaultValue("2s") Duration validateAfterInactivity,
+                       @DefaultValue("30s") Duration evictIdleAfter,
+                       @DefaultValue("5s") Duration evictionInterval,
+                       List<Route> routes) {
+        public Pool {
+            routes = routes == null ? List.of() : List.copyOf(routes);
+        }
+
+        public record Route(String uri, int maxConnections) {
+        }
+    }
+
+    /**
+     * AsyncRestClient 전용 실행기 설정. 큐가 가득 차면 즉시 실패(API_EXCHANGE_ERROR)한다.
+     */
+    public record Async(@DefaultValue("8") int corePoolSize,
+                        @DefaultValue("32") int maxPoolSize,
+                        @DefaultValue("256") int queueCapacity,
+                        @DefaultValue("10s") Duration defaultDeadline) {
+    }
+
+    /**
+     * GET 응답 캐시. Cache-Control/Expires 를 따르고 ETag/Last-Modified 로 재검증한다.
+     * maxEntries, maxSize 를 넘으면 가장 오래 사용하지 않은 항목부터 제거한다.
+     * 캐시 키에는 URI, Accept 계열 헤더, Authorization/Cookie 와 keyHeaders(API key 등 별도 인증 헤더)가 들어간다.
+     */
+    public record Cache(@DefaultValue("false") boolean enabled,
+                        @DefaultValue("1000") int maxEntries,
+                        @DefaultValue("16MB") DataSize maxSize,
+                        @DefaultValue("1MB") DataSize maxEntrySize,
+                        @DefaultValue("X-API-Key") List<String> keyHeaders) {
+    }
+
+    /**
+     * 호스트별 서킷 브레이커(최근 windowSize 건 기준 실패율)와 AIMD 동시 호출 제한.
+     * 실패 또는 slowCallDuration 을 넘는 호출이 나오면 limit 을 backoffRatio 만큼 줄이고, 여유가 없을 때 성공하면 1 씩 늘린다.
+     */
+    public record Resilience(@DefaultValue("false") boolean enabled,
+                             @DefaultValue("50") int windowSize,
+                             @DefaultValue("20") int minimumCalls,
+                             @DefaultValue("50") int failureRateThreshold,
+                             @DefaultValue("30s") Duration openDuration,
+                             @DefaultValue("5") int halfOpenCalls,
+                             @DefaultValue("20") int initialLimit,
+                             @DefaultValue("2") int minLimit,
+                             @DefaultValue("50") int maxLimit,
+                             @DefaultValue("0.9") double backoffRatio,
+                             @DefaultValue("5s") Duration slowCallDuration) {
+    }
+
+    /**
+     * 동일한 GET/HEAD 요청을 동시에 하나로 병합한다. maxWait 이 지나도 선행 호출이 끝나지 않으면 직접 호출한다.
+     */
+    public record Coalescing(@DefaultValue("false") boolean enabled,
+                             @DefaultValue("30s") Duration maxWait) {
+    }
+
+    /**
+     * host / path 템플릿 / method / status class 별 지연 시간 히스토그램.
+     * host 마다 max-endpoints-per-host 개를 넘는 path 템플릿은 {other} 로 모은다.
+     */
+    public record Metrics(@DefaultValue("true") boolean enabled,
+                          @DefaultValue("256") int maxEndpointsPerHost) {
+    }
+
+    /**
+     * RestLog 의 body/payload 에서 fields 에 지정한 필드 값을 마스킹한다. (예: email: ID, name: NAME, password: ALL)
+     */
+    public record Redaction(@DefaultValue("false") boolean enabled,
+                            Map<String, MaskingUtils.MaskType> fields,
+                            @DefaultValue("256KB") DataSize maxPayloadSize,
+                            @DefaultValue("32") int maxDepth,
+                            @DefaultValue("100000") int maxTokens) {
+        public Redaction {
+            fields = fields == null ? Map.of() : Map.copyOf(fields);
+        }
+    }
+
+    /**
+     * HC4: 호출마다 스레드와 커넥션을 점유하는 HttpClient 4 커넥션 풀 (기본값)
+     * HC5_ASYNC: HttpClient 5 async I/O. HTTP/2 에서는 요청을 하나의 커넥션에 다중화하고 compression 이 켜져 있으면 gzip/deflate 응답을 푼다.
+     * HC5_ASYNC 는 응답을 메모리에 모아 받으므로 streaming 모드에서는 HC4 를 사용한다.
+     * ioThreads 가 0 이면 HttpClient 기본값(코어 수)을 사용한다.
+     */
+    public record Transport(@DefaultValue("HC4") Type type,
+                            @DefaultValue("NEGOTIATE") VersionPolicy versionPolicy,
+                            @DefaultValue("0") int ioThreads,
+                            @DefaultValue("true") boolean compression) {
+        public enum Type {
+            HC4,
+            HC5_ASYNC
+        }
+
+        public enum VersionPolicy {
+            NEGOTIATE,      // TLS(ALPN) 로 HTTP/2 를 협상하고, 평문 http 는 HTTP/1.1 을 사용한다
+            FORCE_HTTP_1,
+            FORCE_HTTP_2    // 평문 http 도 HTTP/2(h2c, prior knowledge) 로 호출한다
+        }
+    }
+
+    /**
+     * propagate = true 이면 외부 호출에 X-Trace-Id / X-Span-Id 헤더를 붙인다.
+     * record = true 이면 호출 구간별 시간(lease, send, ttfb, read)을 링버퍼에 모아 path 에 NDJSON 으로 기록한다.
+     * 파일이 maxFileSize 를 넘으면 {path}.1 로 옮기고 새로 쓴다.
+     */
+    public record Trace(@DefaultValue("true") boolean propagate,
+                        @DefaultValue("false") boolean record,
+                        @DefaultValue("./logs/rest-spans.ndjson") String path,
+                        @DefaultValue("8192") int bufferSize,
+                        @DefaultValue("512") int batchSize,
+                        @DefaultValue("1s") Duration flushInterval,
+                        @DefaultValue("64MB") DataSize maxFileSize) {
+    }
+
+    public enum OverflowPolicy {
+        DROP,   // 버퍼가 가득 차면 즉시 버린다
+        BLOCK   // blockTimeout 만큼 대기 후에도 자리가 없으면 버린다
+    }
+}
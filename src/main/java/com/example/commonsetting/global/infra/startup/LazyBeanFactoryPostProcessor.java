@@ -0,0 +1,64 @@
+package com.example.commonsetting.global.infra.startup;
+
+import com.example.commonsetting.global.infra.startup.type.StartupProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.beans.factory.support.AbstractBeanDefinition;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * startup.lazy.includes 에 해당하는 빈을 lazy-init 으로 바꾼다.
+ * 빈의 클래스 이름, @Bean 메서드로 만드는 빈은 그 메서드가 있는 설정 클래스 이름으로 판단한다.
+ * 명시적으로 @Lazy(false) 인 빈과 excludes 의 빈은 그대로 둔다.
+ * <p>
+ * 다른 eager 빈이 주입받으면 기동 시 함께 만들어지므로, 주입받는 쪽(컨트롤러 등)도 includes 에 포함되어야 효과가 있다.
+ */
+@Slf4j
+public class LazyBeanFactoryPostProcessor implements BeanFactoryPostProcessor {
+    private final StartupProperties.Lazy properties;
+    private final List<String> lazyBeanNames = new ArrayList<>();
+
+    public LazyBeanFactoryPostProcessor(StartupProperties.Lazy properties) {
+        this.properties = properties;
+    }
+
+    @Override
+    public void postProcessBeanFactory(ConfigurableListableBeanFactory beanFactory) {
+        if (!properties.enabled()) return;
+
+        for (String beanName : beanFactory.getBeanDefinitionNames()) {
+            var beanDefinition = beanFactory.getBeanDefinition(beanName);
+            if (beanDefinition.isAbstract() || !beanDefinition.isSingleton() || beanDefinition.isLazyInit()) continue;
+            if (beanDefinition instanceof AbstractBeanDefinition definition && Boolean.FALSE.equals(definition.getLazyInit())) continue;
+            if (properties.excludes().contains(beanName) || !isIncluded(beanFactory, beanDefinition)) continue;
+
+            beanDefinition.setLazyInit(true);
+            lazyBeanNames.add(beanName);
+        }
+        log.info("lazy-init beans: {}", lazyBeanNames.size());
+    }
+
+    /**
+     * lazy-init 으로 바꾼 빈 이름 (등록 순서)
+     */
+    public List<String> lazyBeanNames() {
+        return Collections.unmodifiableList(lazyBeanNames);
+    }
+
+    private boolean isIncluded(ConfigurableListableBeanFactory beanFactory, BeanDefinition beanDefinition) {
+        var className = beanDefinition.getFactoryBeanName() != null && beanFactory.containsBeanDefinition(beanDefinition.getFactoryBeanName())
+                ? beanFactory.getBeanDefinition(beanDefinition.getFactoryBeanName()).getBeanClassName()
+                : beanDefinition.getBeanClassName();
+        if (className == null) return false;
+
+        for (String include : properties.includes()) {
+            if (className.startsWith(include)) return true;
+        }
+        return false;
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.commonsetting.global.infra.startup;
+
+import com.example.commonsetting.global.infra.startup.type.StartupProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.ApplicationListener;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 기동 완료 후 지연 초기화한 빈을 미리 만든다.
+ * warmup.enabled 이면 별도 스레드에서 만들어 요청 처리를 막지 않고,
+ * trainingRun 이면 호출 스레드에서 모두 만든 뒤 애플리케이션을 종료한다. (종료 시점까지 로드된 클래스가 AppCDS archive 에 들어간다)
+ */
+@Slf4j
+public class StartupWarmup implements ApplicationListener<ApplicationReadyEvent> {
+    private final StartupProperties properties;
+    private final LazyBeanFactoryPostProcessor lazyBeanFactoryPostProcessor;
+
+    public StartupWarmup(StartupProperties properties, LazyBeanFactoryPostProcessor lazyBeanFactoryPostProcessor) {
+        this.properties = properties;
+        this.lazyBeanFactoryPostProcessor = lazyBeanFactoryPostProcessor;
+    }
+
+    @Override
+    public void onApplicationEvent(ApplicationReadyEvent event) {
+        var context = event.getApplicationContext();
+        var beanNames = lazyBeanFactoryPostProcessor.lazyBeanNames();
+
+        if (properties.trainingRun()) {
+            warmup(context, beanNames);
+            log.info("training run finished, exiting");
+            System.exit(SpringApplication.exit(context, () -> 0));
+            return;
+        }
+        if (!properties.warmup().enabled() || beanNames.isEmpty()) return;
+
+        var thread = new Thread(() -> {
+            try {
+                Thread.sleep(properties.warmup().delay().toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            warmup(context, beanNames);
+        }, "startup-warmup");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    private static void warmup(ApplicationContext context, List<String> beanNames) {
+        var startedAt = System.nanoTime();
+        var failed = 0;
+        for (String beanName : beanNames) {
+            try {
+                context.getBean(beanName);
+            } catch (RuntimeException e) {
+                // 빈 생성 실패는 실제 사용 시점에 다시 드러나므로 기동을 막지 않는다
+                failed++;
+                log.warn("warm-up failed, bean={}, message={}", beanName, e.getMessage());
+            }
+        }
+        log.info("warm-up finished, beans={}, failed={}, elapsed={}ms", beanNames.size(), failed,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+    }
+}
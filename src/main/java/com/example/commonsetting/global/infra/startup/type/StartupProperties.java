@@ -0,0 +1,40 @@
+package com.example.commonsetting.global.infra.startup.type;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * @param trainingRun AppCDS archive 생성용 실행. 기동 후 지연 초기화 빈까지 모두 만들고 바로 종료한다. (gradle appCdsArchive 가 설정)
+ */
+@ConstructorBinding
+@ConfigurationProperties(prefix = "startup")
+public record StartupProperties(@DefaultValue Lazy lazy,
+                                @DefaultValue Warmup warmup,
+                                @DefaultValue("false") boolean trainingRun) {
+
+    /**
+     * enabled = true 이면 includes 로 시작하는 클래스(또는 그 클래스의 @Bean 메서드)로 만드는 빈을 처음 사용할 때 생성한다.
+     * excludes 는 빈 이름이며, 기동 직후 동작해야 하는 빈(재시작 후 journal 을 다시 발송하는 mailOutbox 등)을 둔다.
+     * 명시적으로 @Lazy(false) 인 빈(mailOutboxStarter 등)은 excludes 에 없어도 기동 시 만들어진다.
+     */
+    public record Lazy(@DefaultValue("false") boolean enabled,
+                       @DefaultValue({"com.example.commonsetting.global.config.RestClientConfiguration",
+                               "com.example.commonsetting.global.config.MailConfiguration",
+                               "com.example.commonsetting.global.infra.rest",
+                               "com.example.commonsetting.global.infra.mail",
+                               "org.springframework.boot.autoconfigure.mail",
+                               "org.springframework.boot.autoconfigure.thymeleaf"}) List<String> includes,
+                       @DefaultValue("mailOutbox") List<String> excludes) {
+    }
+
+    /**
+     * enabled = true 이면 기동 완료(ApplicationReadyEvent) 후 delay 뒤에 별도 스레드에서 지연 초기화한 빈을 미리 만든다.
+     */
+    public record Warmup(@DefaultValue("false") boolean enabled,
+                         @DefaultValue("0s") Duration delay) {
+    }
+}
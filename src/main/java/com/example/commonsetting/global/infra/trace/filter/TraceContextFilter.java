@@ -0,0 +1,40 @@
+package com.example.commonsetting.global.infra.trace.filter;
+
+import com.example.commonsetting.global.util.TraceUtils;
+import org.slf4j.MDC;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+
+import static com.example.commonsetting.global.util.ComUtils.TRACE_ID;
+
+/**
+ * 모든 요청에 MDC traceId 를 설정한다. X-Trace-Id 헤더가 있으면 그 값을, 없으면 새로 만들어 응답 헤더로 돌려준다.
+ * X-Span-Id 헤더가 있으면 MDC spanId 로 두어 외부 호출 span 의 parent 가 되게 한다.
+ */
+public class TraceContextFilter extends OncePerRequestFilter {
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        var traceId = request.getHeader(TraceUtils.TRACE_ID_HEADER);
+        if (!TraceUtils.isValidId(traceId)) {
+            traceId = TraceUtils.newId();
+        }
+        MDC.put(TRACE_ID, traceId);
+        response.setHeader(TraceUtils.TRACE_ID_HEADER, traceId);
+        var spanId = request.getHeader(TraceUtils.SPAN_ID_HEADER);
+        if (TraceUtils.isValidId(spanId)) {
+            MDC.put(TraceUtils.SPAN_ID, spanId);
+        }
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            MDC.remove(TRACE_ID);
+            MDC.remove(TraceUtils.SPAN_ID);
+        }
+    }
+}
@@ -6,21 +6,14 @@ import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.exception.ExceptionUtils;
 
-import java.security.MessageDigest;
-import java.security.NoSuchAlgorithmException;
-import java.security.SecureRandom;
-import java.text.DateFormat;
 import java.text.DecimalFormat;
-import java.text.ParseException;
-import java.text.SimpleDateFormat;
 import java.time.LocalDateTime;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.Objects;
 import java.util.stream.Stream;
 
 import static java.time.ZoneId.systemDefault;
@@ -31,6 +24,8 @@ public class ComUtils {
 
     public static final String TRACE_ID = "traceId";
     public static final String MASK_CHAR = "*";
+    // SecureTokenConfiguration 이 설정값으로 만든 생성기로 교체한다. (스프링 밖에서는 prefetch 없는 기본 생성기)
+    private static volatile SecureTokenGenerator saltGenerator = new SecureTokenGenerator(10, SecureTokenGenerator.Format.HEX);
 
     private ComUtils() {
     }
@@ -42,20 +37,10 @@ public class ComUtils {
     }
 
     public static boolean isInteger(String strNum) {
-        if (strNum == null) {
-            return false;
-        }
-        try {
-            Integer.parseInt(strNum);
-        } catch (Exception nfe) {
-            return false;
-        }
-        return true;
+        return ValidationUtils.isInteger(strNum);
     }
     public static boolean isValidPhoneNumber(String number) {
-        Pattern pattern = Pattern.compile("\\d{3}-\\d{4}-\\d{4}");
-        Matcher matcher = pattern.matcher(number);
-        return matcher.matches();
+        return ValidationUtils.isValidPhoneNumber(number);
     }
     public static String maskingTelNo(String strText, boolean lastNumber) {
         if (StringUtils.isEmpty(strText)) return "";
@@ -126,21 +111,11 @@ public class ComUtils {
     }
 
     public static boolean isValidEmailAddress(String email) {
-        String ePattern = "^[a-zA-Z0-9.!#$%&'*+/=?^_`{|}~-]+@((\\[[0-9]{1,3}\\.[0-9]{1,3}\\.[0-9]{1,3}\\.[0-9]{1,3}\\])|(([a-zA-Z\\-0-9]+\\.)+[a-zA-Z]{2,}))$";
-        Pattern p = Pattern.compile(ePattern);
-        Matcher m = p.matcher(email);
-        return m.matches();
+        return ValidationUtils.isValidEmailAddress(email);
     }
 
     public static boolean isValidDateFormat(String dateStr, String pattern) {
-        DateFormat sdf = new SimpleDateFormat(pattern);
-        sdf.setLenient(false);
-        try {
-            sdf.parse(dateStr);
-        } catch (ParseException e) {
-            return false;
-        }
-        return true;
+        return ValidationUtils.isValidDateFormat(dateStr, pattern);
     }
 
     public static String resolveToken(String bearerToken) {
@@ -151,23 +126,8 @@ public class ComUtils {
     }
 
     public static String encodeWithSHA256(String source) {
-        MessageDigest sh = null;
-        try {
-            if(StringUtils.isBlank(source)) return source;
-
-            sh = MessageDigest.getInstance("SHA-256");
-
-            sh.update(source.getBytes());
-            byte[] byteData = sh.digest();
-            StringBuilder sb = new StringBuilder();
-            for (byte byteDatum : byteData) {
-                sb.append(Integer.toString((byteDatum & 0xff) + 0x100, 16).substring(1));
-            }
-            return sb.toString();
-        } catch (NoSuchAlgorithmException e) {
-            log.error("{}", ExceptionUtils.getStackTrace(e));
-            return source;
-        }
+        if(StringUtils.isBlank(source)) return source;
+        return HashUtils.sha256Hex(source);
     }
 
     public static String convertBytesWithUnits(Long bytes) {
@@ -213,21 +173,11 @@ public class ComUtils {
     }
 
     public static String createSalt(){
-        try {
-            SecureRandom secureRandom = SecureRandom.getInstance("SHA1PRNG");
-            byte[]salt = new byte[10];
-            secureRandom.nextBytes(salt);
-            StringBuilder sb = new StringBuilder();
-            for (byte b : salt) {
-                sb.append(Integer.toString((b & 0xff) + 0x100, 16).substring(1));
-            }
-            return sb.toString();
-        } catch (NoSuchAlgorithmException e) {
-            log.error("{}", ExceptionUtils.getStackTrace(e));
-        } catch (Exception e) {
-            log.error("{} ", ExceptionUtils.getStackTrace(e));
-        }
-        return "";
+        return saltGenerator.next();
+    }
+
+    public static void setSaltGenerator(SecureTokenGenerator generator) {
+        saltGenerator = Objects.requireNonNull(generator);
     }
 
     public static String formatDateDefaultIfNull(LocalDateTime time, DateTimeFormatter formatter, String defaultValue) {
@@ -0,0 +1,131 @@
+package com.example.commonsetting.global.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * SHA-256 해시 유틸.
+ * MessageDigest 와 hex 변환 버퍼는 스레드별로 재사용하고, 문자열은 항상 UTF-8 로 인코딩한다.
+ * 큰 입력(InputStream, ByteBuffer, 파일)은 전체를 메모리에 올리지 않고 나누어 해시한다.
+ */
+public class HashUtils {
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+    private static final int SHA_256_LENGTH = 32;
+    private static final int STREAM_BUFFER_SIZE = 64 * 1024;
+    private static final long MAPPED_CHUNK_SIZE = 64L * 1024 * 1024;
+
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(HashUtils::newSha256);
+    private static final ThreadLocal<char[]> HEX_BUFFERS = ThreadLocal.withInitial(() -> new char[SHA_256_LENGTH * 2]);
+    private static final ThreadLocal<byte[]> STREAM_BUFFERS = ThreadLocal.withInitial(() -> new byte[STREAM_BUFFER_SIZE]);
+
+    private HashUtils() {
+    }
+
+    public static String sha256Hex(String source) {
+        return sha256Hex(source.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static String sha256Hex(byte[] source) {
+        var digest = sha256();
+        digest.update(source);
+        return toHex(digest.digest());
+    }
+
+    /**
+     * buffer 의 position ~ limit 구간을 해시한다. (position 은 limit 까지 이동한다)
+     */
+    public static String sha256Hex(ByteBuffer buffer) {
+        var digest = sha256();
+        digest.update(buffer);
+        return toHex(digest.digest());
+    }
+
+    /**
+     * 스트림을 끝까지 읽어 해시한다. 스트림은 닫지 않는다.
+     */
+    public static String sha256Hex(InputStream inputStream) throws IOException {
+        var digest = sha256();
+        var buffer = STREAM_BUFFERS.get();
+        int read;
+        while ((read = inputStream.read(buffer)) != -1) {
+            digest.update(buffer, 0, read);
+        }
+        return toHex(digest.digest());
+    }
+
+    /**
+     * 파일을 64MB 단위로 memory-mapped 하여 해시한다.
+     */
+    public static String sha256Hex(Path file) throws IOException {
+        var digest = sha256();
+        try (var channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            var size = channel.size();
+            for (long position = 0; position < size; position += MAPPED_CHUNK_SIZE) {
+                digest.update(channel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(MAPPED_CHUNK_SIZE, size - position)));
+            }
+        }
+        return toHex(digest.digest());
+    }
+
+    /**
+     * 여러 입력을 코어 수만큼 나누어 해시한다. 결과 순서는 입력 순서와 같다.
+     */
+    public static List<String> sha256HexAll(Collection<String> sources) {
+        return sources.parallelStream().map(HashUtils::sha256Hex).toList();
+    }
+
+    public static List<String> sha256HexFiles(Collection<Path> files) {
+        return files.parallelStream().map(file -> {
+            try {
+                return sha256Hex(file);
+            } catch (IOException e) {
+                throw new IllegalStateException("failed to hash " + file, e);
+            }
+        }).toList();
+    }
+
+    /**
+     * bytes 를 소문자 hex 로 out[offset] 부터 기록한다. out 에는 bytes.length * 2 만큼의 공간이 필요하다.
+     */
+    public static char[] encodeHex(byte[] bytes, char[] out, int offset) {
+        for (int i = 0; i < bytes.length; i++) {
+            var b = bytes[i] & 0xff;
+            out[offset + i * 2] = HEX[b >>> 4];
+            out[offset + i * 2 + 1] = HEX[b & 0x0f];
+        }
+        return out;
+    }
+
+    public static String encodeHex(byte[] bytes) {
+        return new String(encodeHex(bytes, new char[bytes.length * 2], 0));
+    }
+
+    private static String toHex(byte[] hash) {
+        var buffer = HEX_BUFFERS.get();
+        return new String(encodeHex(hash, buffer, 0), 0, hash.length * 2);
+    }
+
+    private static MessageDigest sha256() {
+        var digest = SHA_256.get();
+        digest.reset();
+        return digest;
+    }
+
+    private static MessageDigest newSha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            // 모든 JVM 구현이 SHA-256 을 제공해야 하므로 발생하지 않는다
+            throw new IllegalStateException(e);
+        }
+    }
+}
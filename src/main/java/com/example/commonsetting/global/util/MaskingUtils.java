@@ -0,0 +1,133 @@
+package com.example.commonsetting.global.util;
+
+import java.nio.CharBuffer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * ComUtils.masking* 와 같은 규칙으로 마스킹하되, 중간 문자열 없이 호출자가 넘긴 StringBuilder 에 바로 쓴다.
+ * 대량 export 용 batch API 는 스레드별 버퍼를 재사용한다.
+ */
+public class MaskingUtils {
+    private static final char MASK = ComUtils.MASK_CHAR.charAt(0);
+    private static final ThreadLocal<StringBuilder> BUFFERS = ThreadLocal.withInitial(() -> new StringBuilder(64));
+
+    public enum MaskType {
+        ID,                 // ComUtils.maskingId
+        NAME,               // ComUtils.maskingName
+        TEL_NO,             // ComUtils.maskingTelNo(text, false)
+        TEL_NO_LAST_NUMBER, // ComUtils.maskingTelNo(text, true)
+        ALL                 // 비밀번호, 토큰 등. 길이와 무관하게 고정 길이로 가린다
+    }
+
+    private MaskingUtils() {
+    }
+
+    /**
+     * 아이디(이메일이면 @ 앞부분)의 끝 3자리, 3자 이하면 끝 1자리를 마스킹한다.
+     */
+    public static StringBuilder maskId(CharSequence text, StringBuilder out) {
+        if (text == null || text.length() == 0) return out;
+
+        var length = text.length();
+        var maskEnd = ValidationUtils.isValidEmailAddress(text) ? indexOf(text, '@') : length;
+        var maskCount = maskEnd <= 3 ? 1 : 3;
+        out.append(text, 0, maskEnd - maskCount);
+        appendMask(out, maskCount);
+        return out.append(text, maskEnd, length);
+    }
+
+    /**
+     * 이름의 뒤쪽 1/3(최소 1자)을 마스킹한다.
+     */
+    public static StringBuilder maskName(CharSequence text, StringBuilder out) {
+        if (text == null || text.length() == 0) return out;
+
+        var length = text.length();
+        var maskCount = Math.max(1, length / 3);
+        out.append(text, 0, length - maskCount);
+        appendMask(out, maskCount);
+        return out;
+    }
+
+    /**
+     * lastNumber 가 true 면 첫 자리, false 면 끝 2자리를 마스킹한다.
+     */
+    public static StringBuilder maskTelNo(CharSequence text, boolean lastNumber, StringBuilder out) {
+        if (text == null || text.length() == 0) return out;
+
+        var length = text.length();
+        if (lastNumber) {
+            return out.append(MASK).append(text, 1, length);
+        }
+        out.append(text, 0, Math.max(0, length - 2));
+        appendMask(out, 2);
+        return out;
+    }
+
+    /**
+     * 원문 길이가 드러나지 않도록 항상 4자로 가린다.
+     */
+    public static StringBuilder maskFully(CharSequence text, StringBuilder out) {
+        if (text == null || text.length() == 0) return out;
+        appendMask(out, 4);
+        return out;
+    }
+
+    public static StringBuilder mask(CharSequence text, MaskType type, StringBuilder out) {
+        return switch (type) {
+            case ID -> maskId(text, out);
+            case NAME -> maskName(text, out);
+            case TEL_NO -> maskTelNo(text, false, out);
+            case TEL_NO_LAST_NUMBER -> maskTelNo(text, true, out);
+            case ALL -> maskFully(text, out);
+        };
+    }
+
+    public static StringBuilder mask(char[] text, int offset, int length, MaskType type, StringBuilder out) {
+        return mask(CharBuffer.wrap(text, offset, length), type, out);
+    }
+
+    public static String mask(CharSequence text, MaskType type) {
+        var buffer = BUFFERS.get();
+        buffer.setLength(0);
+        return mask(text, type, buffer).toString();
+    }
+
+    public static List<String> maskAll(Collection<? extends CharSequence> values, MaskType type) {
+        List<String> result = new ArrayList<>(values.size());
+        var buffer = new StringBuilder(64);
+        for (CharSequence value : values) {
+            buffer.setLength(0);
+            result.add(mask(value, type, buffer).toString());
+        }
+        return result;
+    }
+
+    /**
+     * 대량 데이터는 parallel = true 로 여러 코어에 나누어 처리한다. (결과 순서는 입력 순서와 같다)
+     */
+    public static List<String> maskAll(List<? extends CharSequence> values, MaskType type, boolean parallel) {
+        if (!parallel) return maskAll(values, type);
+        return values.parallelStream().map(value -> mask(value, type)).toList();
+    }
+
+    public static Stream<String> maskAll(Stream<? extends CharSequence> values, MaskType type) {
+        return values.map(value -> mask(value, type));
+    }
+
+    private static void appendMask(StringBuilder out, int count) {
+        for (int i = 0; i < count; i++) {
+            out.append(MASK);
+        }
+    }
+
+    private static int indexOf(CharSequence text, char c) {
+        for (int i = 0; i < text.length(); i++) {
+            if (text.charAt(i) == c) return i;
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,141 @@
+package com.example.commonsetting.global.util;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.Closeable;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * salt / token 생성기.
+ * 스레드마다 한 번 seed 한 SHA1PRNG 를 재사용하고, prefetchSize 가 0 보다 크면
+ * 백그라운드 스레드가 미리 만들어 둔 값을 꺼내 쓴다. (버퍼가 비면 호출 스레드에서 바로 만든다)
+ */
+@Slf4j
+public class SecureTokenGenerator implements Closeable {
+    private static final SecureRandom SEED_SOURCE = new SecureRandom();
+    private static final Base64.Encoder BASE64_URL = Base64.getUrlEncoder().withoutPadding();
+    private static final ThreadLocal<SecureRandom> RANDOMS = ThreadLocal.withInitial(SecureTokenGenerator::newRandom);
+
+    private final int length;
+    private final Format format;
+    private final BlockingQueue<byte[]> prefetched;
+    private final Thread refiller;
+    private final LongAdder generated = new LongAdder();
+    private final LongAdder prefetchHits = new LongAdder();
+    private final LongAdder prefetchMisses = new LongAdder();
+
+    public enum Format {
+        HEX,
+        BASE64_URL
+    }
+
+    public record Stats(int length, Format format, int capacity, int available, long generated, long prefetchHits, long prefetchMisses) {}
+
+    public SecureTokenGenerator(int length, Format format) {
+        this(length, format, 0);
+    }
+
+    /**
+     * @param length       생성할 바이트 수 (hex 는 length * 2 자)
+     * @param prefetchSize 미리 만들어 둘 개수. 0 이면 prefetch 하지 않는다.
+     */
+    public SecureTokenGenerator(int length, Format format, int prefetchSize) {
+        if (length <= 0) throw new IllegalArgumentException("length must be positive: " + length);
+        this.length = length;
+        this.format = format;
+        if (prefetchSize > 0) {
+            this.prefetched = new ArrayBlockingQueue<>(prefetchSize);
+            this.refiller = new Thread(this::refill, "secure-token-prefetch");
+            this.refiller.setDaemon(true);
+            this.refiller.start();
+        } else {
+            this.prefetched = null;
+            this.refiller = null;
+        }
+    }
+
+    public byte[] nextBytes() {
+        if (prefetched != null) {
+            var bytes = prefetched.poll();
+            if (bytes != null) {
+                prefetchHits.increment();
+                return bytes;
+            }
+            prefetchMisses.increment();
+        }
+        return generate();
+    }
+
+    /**
+     * 설정된 format 으로 인코딩한 값을 반환한다.
+     */
+    public String next() {
+        return encode(nextBytes(), format);
+    }
+
+    public String nextHex() {
+        return encode(nextBytes(), Format.HEX);
+    }
+
+    public String nextBase64Url() {
+        return encode(nextBytes(), Format.BASE64_URL);
+    }
+
+    public Stats stats() {
+        return new Stats(length, format,
+                prefetched == null ? 0 : prefetched.size() + prefetched.remainingCapacity(),
+                prefetched == null ? 0 : prefetched.size(),
+                generated.sum(), prefetchHits.sum(), prefetchMisses.sum());
+    }
+
+    @Override
+    public void close() {
+        if (refiller != null) {
+            refiller.interrupt();
+            prefetched.clear();
+        }
+    }
+
+    private byte[] generate() {
+        var bytes = new byte[length];
+        RANDOMS.get().nextBytes(bytes);
+        generated.increment();
+        return bytes;
+    }
+
+    private void refill() {
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                prefetched.put(generate());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        log.debug("secure-token-prefetch stopped");
+    }
+
+    private static String encode(byte[] bytes, Format format) {
+        return switch (format) {
+            case HEX -> HashUtils.encodeHex(bytes);
+            case BASE64_URL -> BASE64_URL.encodeToString(bytes);
+        };
+    }
+
+    private static SecureRandom newRandom() {
+        try {
+            var random = SecureRandom.getInstance("SHA1PRNG");
+            // 시스템 seed 소스를 스레드마다 한 번만 사용한다 (SHA1PRNG 자체 seeding 은 전역 seed 생성기를 거친다)
+            var seed = new byte[32];
+            SEED_SOURCE.nextBytes(seed);
+            random.setSeed(seed);
+            return random;
+        } catch (NoSuchAlgorithmException e) {
+            return new SecureRandom();
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.commonsetting.global.util;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 요청 추적용 ID 유틸. ID 는 보안 용도가 아니므로 ThreadLocalRandom 으로 만든 16자리 소문자 hex 를 사용한다.
+ */
+public class TraceUtils {
+    public static final String TRACE_ID_HEADER = "X-Trace-Id";
+    public static final String SPAN_ID_HEADER = "X-Span-Id";
+    /**
+     * 인바운드 요청의 X-Span-Id. 외부 호출 span 의 parent 로 기록한다. (traceId 는 ComUtils.TRACE_ID)
+     */
+    public static final String SPAN_ID = "spanId";
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+    private static final int MAX_ID_LENGTH = 64;
+
+    private TraceUtils() {
+    }
+
+    public static String newId() {
+        var value = ThreadLocalRandom.current().nextLong();
+        var chars = new char[16];
+        for (int i = chars.length - 1; i >= 0; i--) {
+            chars[i] = HEX[(int) (value & 0x0f)];
+            value >>>= 4;
+        }
+        return new String(chars);
+    }
+
+    /**
+     * 외부에서 받은 ID 를 그대로 로그에 남겨도 되는지 검사한다. (영문, 숫자, -, _ 로 된 64자 이하)
+     */
+    public static boolean isValidId(CharSequence id) {
+        if (id == null || id.length() == 0 || id.length() > MAX_ID_LENGTH) return false;
+        for (int i = 0; i < id.length(); i++) {
+            var c = id.charAt(i);
+            if (!((c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9') || c == '-' || c == '_')) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
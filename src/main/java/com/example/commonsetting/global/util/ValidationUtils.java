@@ -0,0 +1,203 @@
+package com.example.commonsetting.global.util;
+
+import java.text.ParsePosition;
+import java.text.SimpleDateFormat;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+/**
+ * 정규식 컴파일, 예외 없이 한 번의 순회로 검사하는 검증 유틸.
+ * ComUtils 의 isInteger, isValidPhoneNumber, isValidEmailAddress, isValidDateFormat 이 이 클래스를 사용한다.
+ */
+public class ValidationUtils {
+    private static final int MAX_CACHED_DATE_PATTERNS = 256;
+    private static final Map<String, ThreadLocal<SimpleDateFormat>> DATE_FORMATS = new ConcurrentHashMap<>();
+
+    private ValidationUtils() {
+    }
+
+    /**
+     * Integer.parseInt 가 성공하는 문자열인지 검사한다. (부호, 유니코드 숫자, overflow 규칙 동일)
+     */
+    public static boolean isInteger(CharSequence value) {
+        if (value == null || value.length() == 0) return false;
+
+        var length = value.length();
+        var i = 0;
+        var limit = -Integer.MAX_VALUE;
+        var first = value.charAt(0);
+        if (first < '0') {
+            if (first == '-') {
+                limit = Integer.MIN_VALUE;
+            } else if (first != '+') {
+                return false;
+            }
+            if (length == 1) return false;
+            i++;
+        }
+
+        var multiplyMin = limit / 10;
+        var result = 0;
+        while (i < length) {
+            var digit = Character.digit(value.charAt(i++), 10);
+            if (digit < 0 || result < multiplyMin) return false;
+            result *= 10;
+            if (result < limit + digit) return false;
+            result -= digit;
+        }
+        return true;
+    }
+
+    /**
+     * 000-0000-0000 형식
+     */
+    public static boolean isValidPhoneNumber(CharSequence value) {
+        if (value == null || value.length() != 13) return false;
+        for (int i = 0; i < 13; i++) {
+            var c = value.charAt(i);
+            if (i == 3 || i == 8) {
+                if (c != '-') return false;
+            } else if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * local@[0.0.0.0] 또는 local@label.label.tld 형식 (tld 는 영문 2자 이상)
+     */
+    public static boolean isValidEmailAddress(CharSequence value) {
+        if (value == null) return false;
+        var length = value.length();
+
+        var at = 0;
+        while (at < length && value.charAt(at) != '@') {
+            if (!isLocalPartChar(value.charAt(at))) return false;
+            at++;
+        }
+        if (at == 0 || at >= length - 1) return false;
+
+        var domainStart = at + 1;
+        return value.charAt(domainStart) == '['
+                ? isBracketedIpv4(value, domainStart, length)
+                : isDomainName(value, domainStart, length);
+    }
+
+    /**
+     * non-lenient SimpleDateFormat.parse 가 성공하는지 검사한다. (기존 ComUtils 와 동일: 날짜 뒤의 문자열은 무시, null 이면 NullPointerException)
+     * 패턴 문자의 의미와 숫자 필드의 자릿수 허용(2024-1-5 등)도 SimpleDateFormat 과 같다.
+     */
+    public static boolean isValidDateFormat(String dateStr, String pattern) {
+        var position = new ParsePosition(0);
+        // 존재하지 않는 날짜(2월 30일 등)는 예외 대신 null 로 돌아온다
+        return dateFormat(pattern).parse(Objects.requireNonNull(dateStr), position) != null;
+    }
+
+    /**
+     * isValidDateFormat 과 같되 문자열 전체가 날짜여야 한다. null 이면 false.
+     */
+    public static boolean isExactDateFormat(String dateStr, String pattern) {
+        if (dateStr == null) return false;
+        var position = new ParsePosition(0);
+        return dateFormat(pattern).parse(dateStr, position) != null && position.getIndex() == dateStr.length();
+    }
+
+    /**
+     * values 순서대로 검사 결과를 비트로 담는다. (i 번째 값이 유효하면 i 번째 비트가 1)
+     */
+    public static <T> BitSet validateAll(Collection<T> values, Predicate<? super T> validator) {
+        var result = new BitSet(values.size());
+        var index = 0;
+        for (T value : values) {
+            if (validator.test(value)) result.set(index);
+            index++;
+        }
+        return result;
+    }
+
+    public static <T> BitSet validateAll(Stream<T> values, Predicate<? super T> validator) {
+        var result = new BitSet();
+        var iterator = values.iterator();
+        var index = 0;
+        while (iterator.hasNext()) {
+            if (validator.test(iterator.next())) result.set(index);
+            index++;
+        }
+        return result;
+    }
+
+    /**
+     * SimpleDateFormat 은 thread-safe 하지 않으므로 패턴별로 스레드마다 하나씩 재사용한다.
+     */
+    private static SimpleDateFormat dateFormat(String pattern) {
+        var formats = DATE_FORMATS.get(pattern);
+        if (formats == null) {
+            if (DATE_FORMATS.size() >= MAX_CACHED_DATE_PATTERNS) return newDateFormat(pattern);
+            formats = DATE_FORMATS.computeIfAbsent(pattern, p -> ThreadLocal.withInitial(() -> newDateFormat(p)));
+        }
+        return formats.get();
+    }
+
+    private static SimpleDateFormat newDateFormat(String pattern) {
+        var format = new SimpleDateFormat(pattern);
+        format.setLenient(false);
+        return format;
+    }
+
+    private static boolean isLocalPartChar(char c) {
+        if (isAsciiLetterOrDigit(c)) return true;
+        return switch (c) {
+            case '.', '!', '#', '$', '%', '&', '\'', '*', '+', '/', '=', '?', '^', '_', '`', '{', '|', '}', '~', '-' -> true;
+            default -> false;
+        };
+    }
+
+    private static boolean isBracketedIpv4(CharSequence value, int start, int end) {
+        if (value.charAt(end - 1) != ']') return false;
+        var octets = 0;
+        var digits = 0;
+        for (int i = start + 1; i < end - 1; i++) {
+            var c = value.charAt(i);
+            if (c >= '0' && c <= '9') {
+                if (++digits > 3) return false;
+            } else if (c == '.') {
+                if (digits == 0 || ++octets > 3) return false;
+                digits = 0;
+            } else {
+                return false;
+            }
+        }
+        return octets == 3 && digits > 0;
+    }
+
+    private static boolean isDomainName(CharSequence value, int start, int end) {
+        var labelStart = start;
+        var labels = 0;
+        for (int i = start; i < end; i++) {
+            var c = value.charAt(i);
+            if (c == '.') {
+                if (i == labelStart) return false;
+                labels++;
+                labelStart = i + 1;
+            } else if (!isAsciiLetterOrDigit(c) && c != '-') {
+                return false;
+            }
+        }
+        if (labels == 0 || end - labelStart < 2) return false;
+        for (int i = labelStart; i < end; i++) {
+            var c = value.charAt(i);
+            if (!((c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z'))) return false;
+        }
+        return true;
+    }
+
+    private static boolean isAsciiLetterOrDigit(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9');
+    }
+}
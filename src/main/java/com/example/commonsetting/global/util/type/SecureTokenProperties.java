@@ -0,0 +1,19 @@
+package com.example.commonsetting.global.util.type;
+
+import com.example.commonsetting.global.util.SecureTokenGenerator;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * ComUtils.createSalt 가 사용하는 SecureTokenGenerator 설정
+ *
+ * @param length       생성할 바이트 수 (hex 는 length * 2 자)
+ * @param prefetchSize 백그라운드 스레드가 미리 만들어 둘 개수. 0 이면 호출 스레드에서 만든다.
+ */
+@ConstructorBinding
+@ConfigurationProperties(prefix = "secure-token")
+public record SecureTokenProperties(@DefaultValue("10") int length,
+                                    @DefaultValue("HEX") SecureTokenGenerator.Format format,
+                                    @DefaultValue("256") int prefetchSize) {
+}
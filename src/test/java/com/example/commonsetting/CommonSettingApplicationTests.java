@@ -1,13 +1,31 @@
 package com.example.commonsetting;
 
+import com.example.commonsetting.global.util.ComUtils;
+import com.example.commonsetting.global.util.SecureTokenGenerator;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 
+import static org.assertj.core.api.Assertions.assertThat;
+
 @SpringBootTest
 class CommonSettingApplicationTests {
 
+    @Autowired
+    private SecureTokenGenerator secureTokenGenerator;
+
     @Test
     void contextLoads() {
     }
 
+    @Test
+    void createSaltUsesConfiguredGenerator() {
+        var before = secureTokenGenerator.stats();
+
+        assertThat(ComUtils.createSalt()).hasSize(20).matches("[0-9a-f]+");
+
+        var after = secureTokenGenerator.stats();
+        assertThat(after.capacity()).isEqualTo(256);
+        assertThat(after.prefetchHits() + after.prefetchMisses()).isEqualTo(before.prefetchHits() + before.prefetchMisses() + 1);
+    }
 }
@@ -0,0 +1,66 @@
+package com.example.commonsetting.global.infra.auth.cache;
+
+import com.example.commonsetting.global.infra.auth.TokenClaims;
+import com.example.commonsetting.global.infra.auth.type.AuthProperties;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenClaimsCacheTest {
+
+    @Test
+    void returnsCachedClaimsUntilTokenExpires() throws InterruptedException {
+        var cache = new TokenClaimsCache(new AuthProperties.Cache(true, 100, Duration.ofMinutes(5)));
+        var key = TokenClaimsCache.key("token-a");
+        cache.put(key, claims("a", ZonedDateTime.now().plusSeconds(1)));
+
+        assertThat(cache.get(key)).extracting(TokenClaims::subject).isEqualTo("a");
+
+        Thread.sleep(1100);
+        assertThat(cache.get(key)).isNull();
+        assertThat(cache.stats().expirations()).isEqualTo(1);
+        assertThat(cache.stats().entries()).isZero();
+    }
+
+    @Test
+    void doesNotCacheExpiredOrUnboundedTokens() {
+        var cache = new TokenClaimsCache(new AuthProperties.Cache(true, 100, Duration.ofMinutes(5)));
+        cache.put("expired", claims("a", ZonedDateTime.now().minusSeconds(1)));
+        cache.put("no-expiry", claims("b", null));
+
+        assertThat(cache.stats().entries()).isZero();
+    }
+
+    @Test
+    void evictsLeastRecentlyUsedOverMaxEntries() {
+        var cache = new TokenClaimsCache(new AuthProperties.Cache(true, 2, Duration.ofMinutes(5)));
+        var expiresAt = ZonedDateTime.now().plusHours(1);
+        cache.put("a", claims("a", expiresAt));
+        cache.put("b", claims("b", expiresAt));
+        cache.get("a");
+        cache.put("c", claims("c", expiresAt));
+
+        assertThat(cache.get("a")).isNotNull();
+        assertThat(cache.get("b")).isNull();
+        assertThat(cache.get("c")).isNotNull();
+
+        var stats = cache.stats();
+        assertThat(stats.evictions()).isEqualTo(1);
+        assertThat(stats.hits()).isEqualTo(3);
+        assertThat(stats.misses()).isEqualTo(1);
+        assertThat(stats.hitRate()).isEqualTo(0.75);
+    }
+
+    @Test
+    void keyIsSha256OfToken() {
+        assertThat(TokenClaimsCache.key("token")).hasSize(64).doesNotContain("token");
+    }
+
+    private static TokenClaims claims(String subject, ZonedDateTime expiresAt) {
+        return new TokenClaims(subject, expiresAt, Map.of("role", "USER"));
+    }
+}
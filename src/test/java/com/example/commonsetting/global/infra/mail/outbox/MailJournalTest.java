@@ -0,0 +1,181 @@
+package com.example.commonsetting.global.infra.mail.outbox;
+
+import com.example.commonsetting.global.infra.mail.dto.MailDto;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MailJournalTest {
+    private static final int FIRST_RECORD = 4;
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void replaysEnqueueWithoutDone() throws IOException {
+        var path = dir.resolve("outbox.journal");
+        try (var journal = MailJournal.open(path, 4096, false)) {
+            journal.append(mail("a"));
+            var b = journal.append(mail("b"));
+            journal.append(mail("c"));
+            journal.complete(b.id());
+        }
+
+        try (var journal = MailJournal.open(path, 4096, false)) {
+            assertThat(journal.pending()).extracting(MailJournal.Entry::id).containsExactly(1L, 3L);
+            assertThat(journal.pending()).extracting(entry -> entry.mail().titleMessageCode()).containsExactly("a", "c");
+            assertThat(journal.pending().get(0).mail().content().variables()).containsEntry("name", "a");
+            assertThat(journal.append(mail("d")).id()).isEqualTo(4);
+        }
+    }
+
+    @Test
+    void ignoresRecordWithMismatchedCrcAndEverythingAfterIt() throws IOException {
+        var path = dir.resolve("outbox.journal");
+        try (var journal = MailJournal.open(path, 4096, false)) {
+            journal.append(mail("a"));
+            journal.append(mail("b"));
+            journal.append(mail("c"));
+        }
+        var second = FIRST_RECORD + recordSize(path, FIRST_RECORD);
+        var lastPayloadByte = second + recordSize(path, second) - 1;
+        writeByte(path, lastPayloadByte, (byte) ~readByte(path, lastPayloadByte));
+
+        try (var journal = MailJournal.open(path, 4096, false)) {
+            assertThat(journal.pending()).extracting(entry -> entry.mail().titleMessageCode()).containsExactly("a");
+            assertThat(journal.usedBytes()).isEqualTo(second);
+            // 손상된 레코드 자리부터 이어서 기록한다
+            journal.append(mail("d"));
+        }
+        try (var journal = MailJournal.open(path, 4096, false)) {
+            assertThat(journal.pending()).extracting(entry -> entry.mail().titleMessageCode()).containsExactly("a", "d");
+        }
+    }
+
+    @Test
+    void ignoresTornTail() throws IOException {
+        var path = dir.resolve("outbox.journal");
+        try (var journal = MailJournal.open(path, 4096, false)) {
+            journal.append(mail("a"));
+            journal.append(mail("b"));
+        }
+        var second = FIRST_RECORD + recordSize(path, FIRST_RECORD);
+        try (var channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+            channel.truncate(second + 10);
+        }
+
+        try (var journal = MailJournal.open(path, 4096, false)) {
+            assertThat(journal.pending()).extracting(entry -> entry.mail().titleMessageCode()).containsExactly("a");
+            assertThat(journal.usedBytes()).isEqualTo(second);
+        }
+    }
+
+    @Test
+    void compactionKeepsOnlyPendingRecords() throws IOException {
+        var path = dir.resolve("outbox.journal");
+        var kept = new ArrayList<Long>();
+        try (var journal = MailJournal.open(path, 2048, false)) {
+            for (int i = 0; i < 50; i++) {
+                var entry = journal.append(mail("m" + i));
+                if (i % 10 == 0) {
+                    kept.add(entry.id());
+                } else {
+                    journal.complete(entry.id());
+                }
+            }
+            assertThat(journal.compactions()).isPositive();
+            assertThat(journal.capacity()).isEqualTo(2048);
+            assertThat(journal.pending()).extracting(MailJournal.Entry::id).containsExactlyElementsOf(kept);
+        }
+
+        assertThat(Files.exists(dir.resolve("outbox.journal.compact"))).isFalse();
+        try (var journal = MailJournal.open(path, 2048, false)) {
+            assertThat(journal.pending()).extracting(MailJournal.Entry::id).containsExactlyElementsOf(kept);
+        }
+    }
+
+    @Test
+    void compactionGrowsFileWhenPendingRecordsExceedCapacity() throws IOException {
+        var path = dir.resolve("outbox.journal");
+        try (var journal = MailJournal.open(path, 1024, false)) {
+            for (int i = 0; i < 20; i++) {
+                journal.append(mail("m" + i));
+            }
+            assertThat(journal.capacity()).isGreaterThan(1024);
+        }
+
+        try (var journal = MailJournal.open(path, 1024, false)) {
+            assertThat(journal.pending()).hasSize(20);
+        }
+    }
+
+    @Test
+    void failedCompactionKeepsCurrentMapping() throws IOException {
+        var path = dir.resolve("outbox.journal");
+        // 임시 파일 자리에 비어 있지 않은 디렉터리가 있으면 compact 가 실패한다
+        var blocker = Files.createDirectories(dir.resolve("outbox.journal.compact"));
+        Files.createFile(blocker.resolve("file"));
+
+        var appended = new ArrayList<Long>();
+        try (var journal = MailJournal.open(path, 1024, false)) {
+            assertThatThrownBy(() -> {
+                for (int i = 0; i < 20; i++) {
+                    appended.add(journal.append(mail("m" + i)).id());
+                }
+            }).isInstanceOf(UncheckedIOException.class);
+            var usedBytes = journal.usedBytes();
+            assertThat(journal.compactions()).isZero();
+            assertThat(journal.pending()).extracting(MailJournal.Entry::id).containsExactlyElementsOf(appended);
+
+            Files.delete(blocker.resolve("file"));
+            Files.delete(blocker);
+            appended.add(journal.append(mail("after")).id());
+
+            assertThat(journal.compactions()).isEqualTo(1);
+            assertThat(journal.usedBytes()).isGreaterThan(usedBytes);
+            assertThat(journal.pending()).extracting(MailJournal.Entry::id).containsExactlyElementsOf(appended);
+        }
+        try (var journal = MailJournal.open(path, 1024, false)) {
+            assertThat(journal.pending()).extracting(MailJournal.Entry::id).containsExactlyElementsOf(appended);
+        }
+    }
+
+    static MailDto mail(String title) {
+        return new MailDto(List.of(title + "@example.com"), title, "service", new MailDto.Content("template", Map.of("name", title)));
+    }
+
+    private static int recordSize(Path path, int position) throws IOException {
+        try (var channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            var buffer = ByteBuffer.allocate(4);
+            channel.read(buffer, position);
+            return buffer.flip().getInt();
+        }
+    }
+
+    private static byte readByte(Path path, int position) throws IOException {
+        try (var channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            var buffer = ByteBuffer.allocate(1);
+            channel.read(buffer, position);
+            return buffer.get(0);
+        }
+    }
+
+    private static void writeByte(Path path, int position, byte value) throws IOException {
+        try (var channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[]{value}), position);
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.commonsetting.global.infra.mail.outbox;
+
+import com.example.commonsetting.global.infra.startup.LazyBeanFactoryPostProcessor;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import static com.example.commonsetting.global.infra.mail.outbox.MailJournalTest.mail;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 지연 초기화로 SendMailComponent 가 기동 시 만들어지지 않아도, journal 에 남은 메일을 기동 직후 발송하는지 확인한다.
+ * (SMTP 서버가 없으므로 발송 시도 후 max-attempts=1 로 바로 포기한다)
+ */
+@SpringBootTest(properties = {
+        "startup.lazy.enabled=true",
+        "spring.mail.host=localhost",
+        "spring.mail.port=1",
+        "mail.outbox.enabled=true",
+        "mail.outbox.max-attempts=1"
+})
+class MailOutboxLazyStartupTest {
+    private static Path journalPath;
+
+    @Autowired
+    private ConfigurableApplicationContext context;
+
+    @Autowired
+    private MailOutbox mailOutbox;
+
+    @Autowired
+    private LazyBeanFactoryPostProcessor lazyBeanFactoryPostProcessor;
+
+    @DynamicPropertySource
+    static void journal(DynamicPropertyRegistry registry) throws IOException {
+        journalPath = Files.createTempDirectory("mail-outbox").resolve("outbox.journal");
+        try (var journal = MailJournal.open(journalPath, 4096, false)) {
+            journal.append(mail("recovered"));
+        }
+        registry.add("mail.outbox.journal-path", journalPath::toString);
+    }
+
+    @Test
+    void deliversRecoveredMailWithoutCreatingSendMailComponentAtStartup() throws Exception {
+        assertThat(lazyBeanFactoryPostProcessor.lazyBeanNames()).contains("sendMailComponent").doesNotContain("mailOutboxStarter");
+
+        var deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (mailOutbox.stats().delivered() + mailOutbox.stats().dead() == 0 && System.nanoTime() < deadline) {
+            TimeUnit.MILLISECONDS.sleep(10);
+        }
+
+        assertThat(mailOutbox.stats().delivered() + mailOutbox.stats().dead()).isEqualTo(1);
+        assertThat(context.getBeanFactory().containsSingleton("sendMailComponent")).isTrue();
+        try (var journal = MailJournal.open(journalPath, 4096, false)) {
+            assertThat(journal.pending()).isEmpty();
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.example.commonsetting.global.infra.mail.outbox;
+
+import com.example.commonsetting.global.infra.mail.dto.MailDto;
+import com.example.commonsetting.global.infra.mail.type.MailProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static com.example.commonsetting.global.infra.mail.outbox.MailJournalTest.mail;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MailOutboxTest {
+    @TempDir
+    Path dir;
+
+    private MailOutbox outbox;
+
+    @AfterEach
+    void tearDown() {
+        if (outbox != null) outbox.close();
+    }
+
+    @Test
+    void deliversMailRecoveredFromJournalOnStart() throws Exception {
+        var path = dir.resolve("outbox.journal");
+        try (var journal = MailJournal.open(path, 4096, false)) {
+            journal.append(mail("a"));
+            journal.complete(journal.append(mail("b")).id());
+            journal.append(mail("c"));
+        }
+
+        var sent = new ConcurrentLinkedQueue<String>();
+        outbox = new MailOutbox(properties(path, 3));
+        outbox.start(mail -> sent.add(mail.titleMessageCode()));
+
+        await(() -> outbox.stats().delivered() == 2);
+        assertThat(sent).containsExactlyInAnyOrder("a", "c");
+        assertThat(pendingIn(path)).isEmpty();
+    }
+
+    @Test
+    void retriesWithBackoffAndGivesUpAfterMaxAttempts() throws Exception {
+        var path = dir.resolve("outbox.journal");
+        var attempts = new AtomicInteger();
+        outbox = new MailOutbox(properties(path, 3));
+        outbox.start(mail -> {
+            attempts.incrementAndGet();
+            throw new IllegalStateException("smtp down");
+        });
+
+        outbox.enqueue(mail("a"));
+
+        await(() -> outbox.stats().dead() == 1);
+        assertThat(attempts.get()).isEqualTo(3);
+        assertThat(outbox.stats().retried()).isEqualTo(2);
+        assertThat(outbox.stats().delivered()).isZero();
+        // 포기한 메일은 재시작 후 다시 발송하지 않는다
+        assertThat(pendingIn(path)).isEmpty();
+    }
+
+    @Test
+    void deliversAfterTransientFailures() throws Exception {
+        var path = dir.resolve("outbox.journal");
+        var attempts = new AtomicInteger();
+        outbox = new MailOutbox(properties(path, 5));
+        outbox.start(mail -> {
+            if (attempts.incrementAndGet() < 3) throw new IllegalStateException("temporary failure");
+        });
+
+        outbox.enqueue(mail("a"));
+
+        await(() -> outbox.stats().delivered() == 1);
+        assertThat(attempts.get()).isEqualTo(3);
+        assertThat(outbox.stats().retried()).isEqualTo(2);
+        assertThat(outbox.stats().dead()).isZero();
+    }
+
+    private static MailProperties.Outbox properties(Path path, int maxAttempts) {
+        return new MailProperties.Outbox(true, 1, path.toString(), DataSize.ofKilobytes(64), false, maxAttempts,
+                Duration.ofMillis(10), Duration.ofMillis(50));
+    }
+
+    private static List<MailDto> pendingIn(Path path) throws IOException {
+        try (var journal = MailJournal.open(path, 4096, false)) {
+            return journal.pending().stream().map(MailJournal.Entry::mail).toList();
+        }
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        var deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("timed out").isLessThan(deadline);
+            TimeUnit.MILLISECONDS.sleep(10);
+        }
+    }
+}
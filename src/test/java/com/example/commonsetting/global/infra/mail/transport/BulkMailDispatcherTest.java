@@ -0,0 +1,98 @@
+package com.example.commonsetting.global.infra.mail.transport;
+
+import com.example.commonsetting.global.infra.mail.type.MailProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+
+import javax.mail.internet.InternetAddress;
+import javax.mail.internet.MimeMessage;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BulkMailDispatcherTest {
+    private FakeSmtpServer server;
+    private SmtpTransportPool pool;
+    private BulkMailDispatcher dispatcher;
+
+    @AfterEach
+    void tearDown() throws Exception {
+        if (dispatcher != null) dispatcher.close();
+        if (pool != null) pool.close();
+        if (server != null) server.close();
+    }
+
+    @Test
+    void sendsRecipientsInBccBatchesOverPooledConnections() throws Exception {
+        start(address -> false, new MailProperties.Bulk(3, 10, 1000, Duration.ofSeconds(5), Duration.ofMinutes(1)));
+        var recipients = recipients(95);
+
+        var result = dispatcher.dispatch(message(), recipients);
+
+        assertThat(result.isSuccess()).isTrue();
+        assertThat(result.batches()).isEqualTo(10);
+        assertThat(server.messages()).hasSize(10);
+        assertThat(server.messages()).allSatisfy(received -> {
+            assertThat(received.recipients()).hasSizeLessThanOrEqualTo(10);
+            // 수신자 주소는 envelope 에만 있고 헤더/본문에는 없어야 한다
+            assertThat(received.data()).doesNotContain("@example.com").contains("undisclosed-recipients");
+        });
+        assertThat(server.messages().stream().flatMap(received -> received.recipients().stream()))
+                .containsExactlyInAnyOrderElementsOf(recipients.stream().map(InternetAddress::getAddress).toList());
+        assertThat(server.connections()).isLessThanOrEqualTo(3);
+        assertThat(pool.stats().created()).isLessThanOrEqualTo(3);
+        assertThat(pool.stats().reused()).isGreaterThan(0);
+    }
+
+    @Test
+    void reportsRecipientsOfRejectedBatch() throws Exception {
+        start(address -> address.startsWith("user7@"), new MailProperties.Bulk(2, 5, 1000, Duration.ofSeconds(5), Duration.ofMinutes(1)));
+
+        var result = dispatcher.dispatch(message(), recipients(20));
+
+        assertThat(result.failedBatches()).isEqualTo(1);
+        assertThat(result.failedRecipients()).contains("user7@example.com").hasSize(5);
+        assertThat(server.messages()).hasSize(3);
+    }
+
+    @Test
+    void rateLimitSpacesBatches() throws Exception {
+        // burst 는 pool-size(2) 이므로 나머지 4 batch 는 초당 20건 간격으로 나간다
+        start(address -> false, new MailProperties.Bulk(2, 1, 20, Duration.ofSeconds(5), Duration.ofMinutes(1)));
+
+        var result = dispatcher.dispatch(message(), recipients(6));
+
+        assertThat(result.isSuccess()).isTrue();
+        assertThat(result.elapsedMillis()).isGreaterThanOrEqualTo(150);
+    }
+
+    private void start(Predicate<String> rejectRecipient, MailProperties.Bulk properties) throws Exception {
+        server = new FakeSmtpServer(rejectRecipient);
+        var sender = new JavaMailSenderImpl();
+        sender.setHost("127.0.0.1");
+        sender.setPort(server.port());
+        pool = new SmtpTransportPool(sender, properties);
+        dispatcher = new BulkMailDispatcher(pool, properties);
+    }
+
+    private MimeMessage message() throws Exception {
+        var message = new MimeMessage(pool.session());
+        message.setFrom(new InternetAddress("noreply@sender.test"));
+        message.setHeader("To", "undisclosed-recipients:;");
+        message.setSubject("platform close notice", "UTF-8");
+        message.setText("hello", "UTF-8");
+        return message;
+    }
+
+    private static List<InternetAddress> recipients(int count) throws Exception {
+        List<InternetAddress> recipients = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            recipients.add(new InternetAddress("user" + i + "@example.com"));
+        }
+        return recipients;
+    }
+}
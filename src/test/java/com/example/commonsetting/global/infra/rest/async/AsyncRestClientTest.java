@@ -0,0 +1,141 @@
+package com.example.commonsetting.global.infra.rest.async;
+
+import com.example.commonsetting.global.config.StackExchangeException;
+import com.example.commonsetting.global.infra.caller.CallerContext;
+import com.example.commonsetting.global.infra.caller.CallerContextHolder;
+import com.example.commonsetting.global.infra.rest.type.RestClientProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import static com.example.commonsetting.global.util.ComUtils.TRACE_ID;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AsyncRestClientTest {
+    private static final CallerContext CALLER = new CallerContext("member-1", "iam-1", List.of("admin"), false);
+
+    private final CountDownLatch release = new CountDownLatch(1);
+    private AsyncRestClient client;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        MDC.clear();
+        CallerContextHolder.clear();
+        if (client != null) client.close();
+    }
+
+    @Test
+    void propagatesMdcAndCallerContextAndRestoresWorkerThread() {
+        client = client(1, 1, 10);
+        MDC.put(TRACE_ID, "trace-1");
+        CallerContextHolder.set(CALLER);
+
+        var seen = client.submit(rest -> MDC.get(TRACE_ID) + "/" + CallerContextHolder.get().callerId()).join();
+        assertThat(seen).isEqualTo("trace-1/member-1");
+
+        // 같은 작업 스레드를 다시 사용해도 이전 호출의 값이 남지 않는다
+        MDC.clear();
+        CallerContextHolder.clear();
+        var next = client.submit(rest -> MDC.get(TRACE_ID) + "/" + CallerContextHolder.get().callerId()).join();
+        assertThat(next).isEqualTo("null/system");
+    }
+
+    @Test
+    void fanOutReturnsResultsInRequestOrder() {
+        client = client(4, 4, 10);
+
+        var results = client.fanOut(List.of(
+                rest -> sleepThen(150, "a"),
+                rest -> sleepThen(0, "b"),
+                rest -> sleepThen(50, "c")), Duration.ofSeconds(5));
+
+        assertThat(results).containsExactly("a", "b", "c");
+    }
+
+    @Test
+    void cancelsRemainingCallsWhenDeadlinePasses() {
+        client = client(2, 2, 10);
+        var fast = client.submit(rest -> "fast");
+        var slow = client.submit(rest -> awaitRelease());
+
+        var startedAt = System.nanoTime();
+        assertThatThrownBy(() -> client.gather(List.of(fast, slow), Duration.ofMillis(100)))
+                .isInstanceOf(StackExchangeException.class)
+                .hasMessage("API 응답 대기 시간을 초과했습니다.");
+
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt)).isLessThan(2_000);
+        assertThat(fast.isCancelled()).isFalse();
+        assertThat(slow.isCancelled()).isTrue();
+    }
+
+    @Test
+    void failureCancelsRemainingCallsAndKeepsStackExchangeException() {
+        client = client(2, 2, 10);
+        var failure = new StackExchangeException("E001", "upstream failed");
+        var slow = client.submit(rest -> awaitRelease());
+        CompletableFuture<String> failing = client.submit(rest -> {
+            throw failure;
+        });
+
+        assertThatThrownBy(() -> client.gather(List.of(slow, failing), Duration.ofSeconds(5))).isSameAs(failure);
+        assertThat(slow.isCancelled()).isTrue();
+    }
+
+    @Test
+    void wrapsOtherFailuresInStackExchangeException() {
+        client = client(1, 1, 10);
+        var failure = new IllegalStateException("boom");
+        List<Function<RestTemplate, String>> calls = List.of(rest -> {
+            throw failure;
+        });
+
+        assertThatThrownBy(() -> client.fanOut(calls, Duration.ofSeconds(5)))
+                .isInstanceOf(StackExchangeException.class)
+                .hasCause(failure);
+    }
+
+    @Test
+    void failsFastWhenExecutorIsSaturated() {
+        client = client(1, 1, 1);
+        client.submit(rest -> awaitRelease());
+        client.submit(rest -> "queued");
+
+        var rejected = client.submit(rest -> "rejected");
+
+        assertThat(rejected).isCompletedExceptionally();
+        assertThatThrownBy(rejected::join).isInstanceOf(CompletionException.class).hasCauseInstanceOf(StackExchangeException.class);
+    }
+
+    private static AsyncRestClient client(int corePoolSize, int maxPoolSize, int queueCapacity) {
+        return new AsyncRestClient(new RestTemplate(), new RestClientProperties.Async(corePoolSize, maxPoolSize, queueCapacity, Duration.ofSeconds(10)));
+    }
+
+    private String awaitRelease() {
+        try {
+            release.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return "slow";
+    }
+
+    private static String sleepThen(long millis, String value) {
+        try {
+            TimeUnit.MILLISECONDS.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return value;
+    }
+}
@@ -0,0 +1,165 @@
+package com.example.commonsetting.global.infra.rest.cache;
+
+import com.example.commonsetting.global.infra.rest.interceptor.ByteArrayClientHttpResponse;
+import com.example.commonsetting.global.infra.rest.type.RestClientProperties;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.mock.http.client.MockClientHttpRequest;
+import org.springframework.util.StreamUtils;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ResponseCacheInterceptorTest {
+
+    @Test
+    void servesFreshEntryWithoutCallingUpstream() throws IOException {
+        var interceptor = interceptor(DataSize.ofMegabytes(1));
+        var upstream = new Upstream(request -> response(200, "body", "Cache-Control", "max-age=60"));
+
+        assertThat(bodyOf(interceptor.intercept(get("/a"), new byte[0], upstream))).isEqualTo("body");
+        assertThat(bodyOf(interceptor.intercept(get("/a"), new byte[0], upstream))).isEqualTo("body");
+
+        assertThat(upstream.requests).hasSize(1);
+        assertThat(interceptor.stats().hits()).isEqualTo(1);
+    }
+
+    @Test
+    void doesNotStoreNoStoreOrExpiredResponsesWithoutValidators() throws IOException {
+        var interceptor = interceptor(DataSize.ofMegabytes(1));
+        var upstream = new Upstream(request -> request.getURI().getPath().equals("/no-store")
+                ? response(200, "body", "Cache-Control", "no-store, max-age=60")
+                : response(200, "body", "Cache-Control", "max-age=0"));
+
+        for (int i = 0; i < 2; i++) {
+            interceptor.intercept(get("/no-store"), new byte[0], upstream).close();
+            interceptor.intercept(get("/expired"), new byte[0], upstream).close();
+        }
+
+        assertThat(upstream.requests).hasSize(4);
+        assertThat(interceptor.stats().entries()).isZero();
+    }
+
+    @Test
+    void revalidatesStaleEntryAndServesCachedBodyOn304() throws IOException {
+        var interceptor = interceptor(DataSize.ofMegabytes(1));
+        var upstream = new Upstream(request -> request.getHeaders().getIfNoneMatch().contains("\"v1\"")
+                ? response(304, "", "Cache-Control", "max-age=0", "ETag", "\"v1\"")
+                : response(200, "cached", "Cache-Control", "max-age=0", "ETag", "\"v1\""));
+
+        interceptor.intercept(get("/a"), new byte[0], upstream).close();
+        var revalidated = interceptor.intercept(get("/a"), new byte[0], upstream);
+
+        assertThat(revalidated.getRawStatusCode()).isEqualTo(200);
+        assertThat(bodyOf(revalidated)).isEqualTo("cached");
+        assertThat(upstream.requests).hasSize(2);
+        assertThat(upstream.requests.get(0).getHeaders().getIfNoneMatch()).isEmpty();
+        assertThat(upstream.requests.get(1).getHeaders().getIfNoneMatch()).containsExactly("\"v1\"");
+        assertThat(interceptor.stats().notModified()).isEqualTo(1);
+    }
+
+    @Test
+    void evictsLeastRecentlyUsedEntriesByTotalBytes() throws IOException {
+        var interceptor = interceptor(DataSize.ofBytes(10));
+        var upstream = new Upstream(request -> response(200, "1234", "Cache-Control", "max-age=60"));
+
+        interceptor.intercept(get("/a"), new byte[0], upstream).close();
+        interceptor.intercept(get("/b"), new byte[0], upstream).close();
+        interceptor.intercept(get("/a"), new byte[0], upstream).close(); // hit, /b 가 가장 오래 사용하지 않은 항목이 된다
+        interceptor.intercept(get("/c"), new byte[0], upstream).close();
+
+        assertThat(interceptor.stats().entries()).isEqualTo(2);
+        assertThat(interceptor.stats().bytes()).isEqualTo(8);
+        assertThat(interceptor.stats().evictions()).isEqualTo(1);
+
+        interceptor.intercept(get("/a"), new byte[0], upstream).close();
+        interceptor.intercept(get("/b"), new byte[0], upstream).close();
+        assertThat(upstream.requests).extracting(request -> request.getURI().getPath())
+                .containsExactly("/a", "/b", "/c", "/b");
+    }
+
+    @Test
+    void doesNotShareEntriesAcrossCredentialsOrLanguages() throws IOException {
+        var interceptor = interceptor(DataSize.ofMegabytes(1));
+        var upstream = new Upstream(request -> response(200, "user", "Cache-Control", "max-age=60"));
+
+        interceptor.intercept(get("/me", HttpHeaders.COOKIE, "SESSION=alice"), new byte[0], upstream).close();
+        interceptor.intercept(get("/me", HttpHeaders.COOKIE, "SESSION=bob"), new byte[0], upstream).close();
+        interceptor.intercept(get("/me", "X-API-Key", "key-a"), new byte[0], upstream).close();
+        interceptor.intercept(get("/me", "X-API-Key", "key-b"), new byte[0], upstream).close();
+        interceptor.intercept(get("/me", HttpHeaders.ACCEPT_LANGUAGE, "ko"), new byte[0], upstream).close();
+        interceptor.intercept(get("/me", HttpHeaders.ACCEPT_LANGUAGE, "en"), new byte[0], upstream).close();
+        assertThat(upstream.requests).hasSize(6);
+
+        interceptor.intercept(get("/me", HttpHeaders.COOKIE, "SESSION=alice"), new byte[0], upstream).close();
+        assertThat(upstream.requests).hasSize(6);
+    }
+
+    @Test
+    void storesVaryOnlyWhenAllVaryHeadersAreInTheKey() throws IOException {
+        var interceptor = interceptor(DataSize.ofMegabytes(1));
+        var upstream = new Upstream(request -> request.getURI().getPath().equals("/tenant")
+                ? response(200, "body", "Cache-Control", "max-age=60", "Vary", "X-Tenant")
+                : response(200, "body", "Cache-Control", "max-age=60", "Vary", "Accept-Language"));
+
+        for (int i = 0; i < 2; i++) {
+            interceptor.intercept(get("/tenant", "X-Tenant", "t" + i), new byte[0], upstream).close();
+            interceptor.intercept(get("/language", HttpHeaders.ACCEPT_LANGUAGE, "ko"), new byte[0], upstream).close();
+        }
+
+        assertThat(upstream.requests).extracting(request -> request.getURI().getPath())
+                .containsExactly("/tenant", "/language", "/tenant");
+    }
+
+    private static ResponseCacheInterceptor interceptor(DataSize maxSize) {
+        return new ResponseCacheInterceptor(new RestClientProperties.Cache(true, 100, maxSize, DataSize.ofMegabytes(1), List.of("X-API-Key")));
+    }
+
+    private static HttpRequest get(String path, String... headers) {
+        var request = new MockClientHttpRequest(HttpMethod.GET, URI.create("http://api.example.com" + path));
+        for (int i = 0; i < headers.length; i += 2) {
+            request.getHeaders().add(headers[i], headers[i + 1]);
+        }
+        return request;
+    }
+
+    private static ClientHttpResponse response(int status, String body, String... headers) {
+        var httpHeaders = new HttpHeaders();
+        for (int i = 0; i < headers.length; i += 2) {
+            httpHeaders.add(headers[i], headers[i + 1]);
+        }
+        return new ByteArrayClientHttpResponse(status, "", httpHeaders, body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String bodyOf(ClientHttpResponse response) throws IOException {
+        try (response) {
+            return StreamUtils.copyToString(response.getBody(), StandardCharsets.UTF_8);
+        }
+    }
+
+    private static final class Upstream implements ClientHttpRequestExecution {
+        private final Function<HttpRequest, ClientHttpResponse> handler;
+        private final List<HttpRequest> requests = new ArrayList<>();
+
+        private Upstream(Function<HttpRequest, ClientHttpResponse> handler) {
+            this.handler = handler;
+        }
+
+        @Override
+        public ClientHttpResponse execute(HttpRequest request, byte[] body) {
+            requests.add(request);
+            return handler.apply(request);
+        }
+    }
+}
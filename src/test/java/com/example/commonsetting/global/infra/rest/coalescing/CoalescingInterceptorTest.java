@@ -0,0 +1,216 @@
+package com.example.commonsetting.global.infra.rest.coalescing;
+
+import com.example.commonsetting.global.exception.log.RateLimitedErrorLogger;
+import com.example.commonsetting.global.infra.rest.dto.RestLog;
+import com.example.commonsetting.global.infra.rest.interceptor.ByteArrayClientHttpResponse;
+import com.example.commonsetting.global.infra.rest.interceptor.RequestResponseLoggingInterceptor;
+import com.example.commonsetting.global.infra.rest.log.RestLogWriter;
+import com.example.commonsetting.global.infra.rest.type.RestClientProperties;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.mock.http.client.MockClientHttpRequest;
+import org.springframework.util.StreamUtils;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CoalescingInterceptorTest {
+    private static final int CALLERS = 8;
+
+    @Test
+    void identicalConcurrentGetsShareOneUpstreamCallWithSeparateResponses() throws Exception {
+        var interceptor = new CoalescingInterceptor(new RestClientProperties.Coalescing(true, Duration.ofSeconds(30)));
+        var upstream = new BlockingUpstream(() -> new ByteArrayClientHttpResponse(200, "OK", new HttpHeaders(), "shared".getBytes(StandardCharsets.UTF_8)));
+        var logs = new ConcurrentLinkedQueue<RestLog>();
+        var logging = new RequestResponseLoggingInterceptor(new CollectingRestLogWriter(logs),
+                new RestClientProperties.Streaming(false, DataSize.ofKilobytes(8)), null, new RateLimitedErrorLogger(Duration.ofSeconds(10)));
+
+        var responses = Collections.synchronizedList(new ArrayList<ClientHttpResponse>());
+        var bodies = new ConcurrentLinkedQueue<String>();
+        var threads = runConcurrently(() -> {
+            var response = logging.intercept(get(), new byte[0], (request, body) -> interceptor.intercept(request, body, upstream));
+            responses.add(response);
+            bodies.add(StreamUtils.copyToString(response.getBody(), StandardCharsets.UTF_8));
+        });
+        upstream.awaitFirstCall();
+        awaitWaiters();
+        upstream.release();
+        join(threads);
+
+        assertThat(upstream.calls.get()).isEqualTo(1);
+        assertThat(bodies).hasSize(CALLERS).containsOnly("shared");
+        Set<ClientHttpResponse> distinct = Collections.newSetFromMap(new IdentityHashMap<>());
+        distinct.addAll(responses);
+        assertThat(distinct).hasSize(CALLERS);
+
+        assertThat(logs).hasSize(CALLERS);
+        assertThat(logs).filteredOn(log -> log.response().coalesced()).hasSize(CALLERS - 1);
+        assertThat(interceptor.stats()).isEqualTo(new CoalescingInterceptor.Stats(0, 1, CALLERS - 1, 0));
+    }
+
+    @Test
+    void everyWaiterGetsItsOwnExceptionCausedByTheLeaderFailure() throws Exception {
+        var interceptor = new CoalescingInterceptor(new RestClientProperties.Coalescing(true, Duration.ofSeconds(30)));
+        var failure = new IOException("connection reset");
+        var upstream = new BlockingUpstream(() -> {
+            throw failure;
+        });
+
+        var errors = new ConcurrentLinkedQueue<Throwable>();
+        var threads = runConcurrently(() -> {
+            try {
+                interceptor.intercept(get(), new byte[0], upstream);
+            } catch (IOException e) {
+                errors.add(e);
+            }
+        });
+        upstream.awaitFirstCall();
+        awaitWaiters();
+        upstream.release();
+        join(threads);
+
+        assertThat(upstream.calls.get()).isEqualTo(1);
+        assertThat(errors).hasSize(CALLERS);
+        Set<Throwable> distinct = Collections.newSetFromMap(new IdentityHashMap<>());
+        distinct.addAll(errors);
+        assertThat(distinct).hasSize(CALLERS);
+        assertThat(errors).filteredOn(e -> e != failure).hasSize(CALLERS - 1).allMatch(e -> e.getCause() == failure);
+    }
+
+    @Test
+    void waiterCallsUpstreamItselfAfterMaxWait() throws Exception {
+        var interceptor = new CoalescingInterceptor(new RestClientProperties.Coalescing(true, Duration.ofMillis(50)));
+        var upstream = new BlockingUpstream(() -> new ByteArrayClientHttpResponse(200, "OK", new HttpHeaders(), new byte[0]));
+
+        var leader = new Thread(() -> {
+            try {
+                interceptor.intercept(get(), new byte[0], upstream).close();
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        leader.start();
+        upstream.awaitFirstCall();
+
+        // 선행 호출이 끝나지 않은 상태에서 maxWait 이 지나면 직접 호출한다
+        interceptor.intercept(get(), new byte[0], upstream).close();
+        assertThat(upstream.calls.get()).isEqualTo(2);
+        assertThat(interceptor.stats().fallbacks()).isEqualTo(1);
+
+        upstream.release();
+        leader.join(TimeUnit.SECONDS.toMillis(10));
+        assertThat(interceptor.stats().inflight()).isZero();
+    }
+
+    private static HttpRequest get() {
+        var request = new MockClientHttpRequest(HttpMethod.GET, URI.create("http://api.example.com/members"));
+        request.getHeaders().add(HttpHeaders.ACCEPT, "application/json");
+        return request;
+    }
+
+    private static List<Thread> runConcurrently(ThrowingRunnable task) {
+        var threads = new ArrayList<Thread>();
+        for (int i = 0; i < CALLERS; i++) {
+            var thread = new Thread(() -> {
+                try {
+                    task.run();
+                } catch (Exception e) {
+                    throw new IllegalStateException(e);
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        return threads;
+    }
+
+    /**
+     * 대기자가 선행 호출의 future 를 기다리기 시작할 시간을 준다. (대기 상태는 밖에서 관찰할 수 없다)
+     */
+    private static void awaitWaiters() throws InterruptedException {
+        TimeUnit.MILLISECONDS.sleep(200);
+    }
+
+    private static void join(List<Thread> threads) throws InterruptedException {
+        for (var thread : threads) {
+            thread.join(TimeUnit.SECONDS.toMillis(10));
+            assertThat(thread.isAlive()).isFalse();
+        }
+    }
+
+    private interface ThrowingRunnable {
+        void run() throws Exception;
+    }
+
+    private interface ResponseSupplier {
+        ClientHttpResponse get() throws IOException;
+    }
+
+    /**
+     * 첫 호출만 release 될 때까지 붙잡아 두는 upstream
+     */
+    private static final class BlockingUpstream implements ClientHttpRequestExecution {
+        private final ResponseSupplier supplier;
+        private final AtomicInteger calls = new AtomicInteger();
+        private final CountDownLatch firstCall = new CountDownLatch(1);
+        private final CountDownLatch released = new CountDownLatch(1);
+
+        private BlockingUpstream(ResponseSupplier supplier) {
+            this.supplier = supplier;
+        }
+
+        @Override
+        public ClientHttpResponse execute(HttpRequest request, byte[] body) throws IOException {
+            if (calls.incrementAndGet() == 1) {
+                firstCall.countDown();
+                try {
+                    released.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return supplier.get();
+        }
+
+        private void awaitFirstCall() throws InterruptedException {
+            assertThat(firstCall.await(10, TimeUnit.SECONDS)).isTrue();
+        }
+
+        private void release() {
+            released.countDown();
+        }
+    }
+
+    private static final class CollectingRestLogWriter extends RestLogWriter {
+        private final Queue<RestLog> logs;
+
+        private CollectingRestLogWriter(Queue<RestLog> logs) {
+            super(new RestClientProperties.Log(false, 16, 16, RestClientProperties.OverflowPolicy.DROP, Duration.ofMillis(100)));
+            this.logs = logs;
+        }
+
+        @Override
+        public void write(RestLog restLog) {
+            logs.add(restLog);
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.commonsetting.global.infra.rest.log;
+
+import com.example.commonsetting.global.infra.rest.type.RestClientProperties;
+import com.example.commonsetting.global.util.MaskingUtils.MaskType;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JsonPayloadRedactorTest {
+    private final JsonPayloadRedactor redactor = new JsonPayloadRedactor(new RestClientProperties.Redaction(true,
+            Map.of("password", MaskType.ALL, "email", MaskType.ID), DataSize.ofKilobytes(256), 32, 100_000));
+
+    @Test
+    void redactsCompletePayload() {
+        var redacted = redactor.redact("{\"id\":1,\"password\":\"secret\"}");
+
+        assertThat(redacted).startsWith("{\"id\":1,\"password\":\"").doesNotContain("secret");
+    }
+
+    @Test
+    void keepsRedactedPrefixOfTruncatedCapture() {
+        var redacted = redactor.redact("{\"items\":[{\"id\":1,\"password\":\"secret\"},{\"id\":2,\"password\":\"sec...(truncated, 4096 bytes)");
+
+        assertThat(redacted).startsWith("{\"items\":[{\"id\":1,\"password\":\"")
+                .contains("{\"id\":2")
+                .endsWith("...(truncated, 4096 bytes)")
+                .doesNotContain("secret")
+                .doesNotContain("\"sec");
+    }
+
+    @Test
+    void keepsRedactedPrefixWhenJsonEndsAtValueBoundary() {
+        var redacted = redactor.redact("{\"id\":1,\"password\":\"secret\"");
+
+        assertThat(redacted).startsWith("{\"id\":1,\"password\":\"").endsWith("...(truncated)").doesNotContain("secret");
+    }
+
+    @Test
+    void replacesMalformedCompletePayloadWithNotice() {
+        assertThat(redactor.redact("{\"id\":1,,\"password\":\"secret\"}")).startsWith("(redaction skipped: malformed json");
+    }
+
+    @Test
+    void leavesNonJsonPayloadUntouched() {
+        assertThat(redactor.redact("plain text")).isEqualTo("plain text");
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.commonsetting.global.infra.rest.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LatencyHistogramTest {
+    private static final long MAX_VALUE = (1L << 32) - 1;
+
+    @Test
+    void valuesBelowSubBucketCountAreExact() {
+        for (long value = 0; value < 32; value++) {
+            assertThat(LatencyHistogram.index(value)).isEqualTo((int) value);
+            assertThat(LatencyHistogram.highestValue((int) value)).isEqualTo(value);
+        }
+        // 두 번째 구간(32~63)까지는 폭이 1 이고, 64 부터 폭이 2 가 된다
+        assertThat(LatencyHistogram.highestValue(LatencyHistogram.index(63))).isEqualTo(63);
+        assertThat(LatencyHistogram.index(64)).isEqualTo(LatencyHistogram.index(65));
+        assertThat(LatencyHistogram.highestValue(LatencyHistogram.index(64))).isEqualTo(65);
+    }
+
+    @Test
+    void bucketEdgesAreContiguous() {
+        var last = LatencyHistogram.index(MAX_VALUE);
+        for (int i = 0; i < last; i++) {
+            var highest = LatencyHistogram.highestValue(i);
+            assertThat(LatencyHistogram.index(highest)).as("index of highest value in %d", i).isEqualTo(i);
+            assertThat(LatencyHistogram.index(highest + 1)).as("index after %d", i).isEqualTo(i + 1);
+        }
+        assertThat(LatencyHistogram.highestValue(last)).isEqualTo(MAX_VALUE);
+    }
+
+    @Test
+    void relativeErrorStaysWithinSubBucketResolution() {
+        for (long value = 1; value < MAX_VALUE; value = value * 3 + 1) {
+            var highest = LatencyHistogram.highestValue(LatencyHistogram.index(value));
+            assertThat(highest).isGreaterThanOrEqualTo(value);
+            assertThat(highest - value).as("value %d", value).isLessThanOrEqualTo(value / 32);
+        }
+    }
+
+    @Test
+    void percentilesReportBucketUpperBoundCappedAtMax() {
+        var histogram = new LatencyHistogram();
+        for (long value = 1; value <= 100; value++) {
+            histogram.record(value);
+        }
+
+        var snapshot = histogram.snapshot();
+
+        assertThat(snapshot.count()).isEqualTo(100);
+        assertThat(snapshot.meanMicros()).isEqualTo(50);
+        assertThat(snapshot.p50Micros()).isEqualTo(50);
+        assertThat(snapshot.p90Micros()).isEqualTo(91); // 90, 91 은 같은 구간
+        assertThat(snapshot.p99Micros()).isEqualTo(99);
+        assertThat(snapshot.p999Micros()).isEqualTo(100); // 구간 상한(101)이 아니라 실제 최댓값
+        assertThat(snapshot.maxMicros()).isEqualTo(100);
+    }
+
+    @Test
+    void clampsOutOfRangeValues() {
+        var histogram = new LatencyHistogram();
+        histogram.record(-5);
+        histogram.record(Long.MAX_VALUE);
+
+        var snapshot = histogram.snapshot();
+
+        assertThat(snapshot.count()).isEqualTo(2);
+        assertThat(snapshot.p50Micros()).isZero();
+        assertThat(snapshot.maxMicros()).isEqualTo(MAX_VALUE);
+        assertThat(snapshot.p999Micros()).isEqualTo(MAX_VALUE);
+    }
+
+    @Test
+    void emptySnapshotIsZero() {
+        var snapshot = new LatencyHistogram().snapshot();
+
+        assertThat(snapshot.count()).isZero();
+        assertThat(snapshot.meanMicros()).isZero();
+        assertThat(snapshot.p99Micros()).isZero();
+    }
+}
@@ -0,0 +1,83 @@
+package com.example.commonsetting.global.infra.rest.metrics;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+class LatencyRecorderTest {
+
+    @Test
+    void normalizesIdSegments() {
+        assertThat(LatencyRecorder.toTemplate("/members/123/orders/550e8400-e29b-41d4-a716-446655440000"))
+                .isEqualTo("/members/{id}/orders/{id}");
+        assertThat(LatencyRecorder.toTemplate("/files/0123456789abcdef")).isEqualTo("/files/{id}");
+        assertThat(LatencyRecorder.toTemplate("/v1/cafe/abc123")).isEqualTo("/v1/cafe/abc123");
+        assertThat(LatencyRecorder.toTemplate("/members/")).isEqualTo("/members/");
+    }
+
+    @Test
+    void templateHashAndMatchesAgreeWithToTemplate() {
+        for (var rawPath : new String[]{"/members/123", "/members/9/orders", "/files/0123456789abcdef", "/v1/cafe", "", "/"}) {
+            var template = LatencyRecorder.toTemplate(rawPath);
+            assertThat(LatencyRecorder.templateHash(rawPath)).as(rawPath).isEqualTo(LatencyRecorder.templateHash(template));
+            assertThat(LatencyRecorder.matches(template, rawPath)).as(rawPath).isTrue();
+        }
+        assertThat(LatencyRecorder.matches("/members/{id}", "/members/abc")).isFalse();
+        assertThat(LatencyRecorder.matches("/members/{id}", "/members/1/orders")).isFalse();
+    }
+
+    @Test
+    void groupsByTemplateMethodAndStatusClass() {
+        var recorder = new LatencyRecorder(16);
+        recorder.record("api.example.com", "/members/1", HttpMethod.GET, 200, 100, 5);
+        recorder.record("api.example.com", "/members/2", HttpMethod.GET, 204, 300, 5);
+        recorder.record("api.example.com", "/members/2", HttpMethod.GET, 503, 50, 0);
+        recorder.record("api.example.com", "/members/2", HttpMethod.POST, 0, 10, 0);
+
+        var stats = recorder.stats();
+
+        assertThat(stats).extracting(LatencyRecorder.Stats::path, LatencyRecorder.Stats::method, LatencyRecorder.Stats::status)
+                .containsExactly(
+                        tuple("/members/{id}", "GET", "2xx"),
+                        tuple("/members/{id}", "GET", "5xx"),
+                        tuple("/members/{id}", "POST", "ERROR"));
+        assertThat(stats.get(0).exchange().count()).isEqualTo(2);
+        assertThat(stats.get(0).exchange().meanMicros()).isEqualTo(200);
+        assertThat(stats.get(0).leaseWait().maxMicros()).isEqualTo(5);
+    }
+
+    @Test
+    void keepsEveryEndpointWhileTheTableGrows() {
+        var recorder = new LatencyRecorder(100);
+        for (int i = 0; i < 50; i++) {
+            recorder.record("api.example.com", "/path" + (char) ('a' + i % 26) + (i / 26), HttpMethod.GET, 200, 1, 0);
+        }
+
+        assertThat(recorder.stats()).hasSize(50).allSatisfy(stats -> assertThat(stats.exchange().count()).isEqualTo(1));
+    }
+
+    @Test
+    void collectsPathsBeyondMaxEndpointsPerHostIntoOther() {
+        var recorder = new LatencyRecorder(2);
+        recorder.record("a.example.com", "/a", HttpMethod.GET, 200, 1, 0);
+        recorder.record("a.example.com", "/b", HttpMethod.GET, 200, 1, 0);
+        recorder.record("a.example.com", "/c", HttpMethod.GET, 200, 1, 0);
+        recorder.record("a.example.com", "/d", HttpMethod.GET, 200, 1, 0);
+        recorder.record("a.example.com", "/a", HttpMethod.GET, 200, 1, 0);
+        // 다른 host 의 한도는 따로 센다
+        recorder.record("b.example.com", "/c", HttpMethod.GET, 200, 1, 0);
+
+        var stats = recorder.stats();
+
+        assertThat(stats).extracting(LatencyRecorder.Stats::host, LatencyRecorder.Stats::path)
+                .containsExactly(
+                        tuple("a.example.com", "/a"),
+                        tuple("a.example.com", "/b"),
+                        tuple("a.example.com", "{other}"),
+                        tuple("b.example.com", "/c"));
+        assertThat(stats.get(0).exchange().count()).isEqualTo(2);
+        assertThat(stats.get(2).exchange().count()).isEqualTo(2);
+    }
+}
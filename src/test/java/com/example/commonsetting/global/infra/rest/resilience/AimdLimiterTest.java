@@ -0,0 +1,81 @@
+package com.example.commonsetting.global.infra.rest.resilience;
+
+import com.example.commonsetting.global.infra.rest.type.RestClientProperties;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AimdLimiterTest {
+    private static final long FAST = Duration.ofMillis(10).toNanos();
+    private static final long SLOW = Duration.ofSeconds(2).toNanos();
+
+    private final AimdLimiter limiter = new AimdLimiter(
+            new RestClientProperties.Resilience(true, 10, 5, 50, Duration.ofSeconds(30), 2, 4, 2, 6, 0.5, Duration.ofSeconds(1)));
+
+    @Test
+    void rejectsCallsBeyondTheLimit() {
+        for (int i = 0; i < 4; i++) {
+            assertThat(limiter.tryAcquire()).isTrue();
+        }
+        assertThat(limiter.tryAcquire()).isFalse();
+        assertThat(limiter.inflight()).isEqualTo(4);
+
+        limiter.release();
+        assertThat(limiter.tryAcquire()).isTrue();
+    }
+
+    @Test
+    void increasesByOneOnSuccessWhenBusy() {
+        limiter.tryAcquire();
+        limiter.tryAcquire();
+
+        limiter.onResult(FAST, false);
+
+        assertThat(limiter.limit()).isEqualTo(5);
+        assertThat(limiter.inflight()).isEqualTo(1);
+    }
+
+    @Test
+    void doesNotIncreaseWhenMostOfTheLimitIsUnused() {
+        limiter.tryAcquire();
+
+        limiter.onResult(FAST, false);
+
+        assertThat(limiter.limit()).isEqualTo(4);
+        assertThat(limiter.inflight()).isZero();
+    }
+
+    @Test
+    void decreasesOnFailureButNotBelowMinLimit() {
+        limiter.tryAcquire();
+        limiter.onResult(FAST, true);
+        assertThat(limiter.limit()).isEqualTo(2);
+
+        limiter.tryAcquire();
+        limiter.onResult(FAST, true);
+        assertThat(limiter.limit()).isEqualTo(2);
+    }
+
+    @Test
+    void slowCallHalvesTheLimit() {
+        limiter.tryAcquire();
+        limiter.onResult(SLOW, false);
+
+        assertThat(limiter.limit()).isEqualTo(2);
+    }
+
+    @Test
+    void neverGrowsBeyondMaxLimit() {
+        for (int round = 0; round < 10; round++) {
+            var acquired = 0;
+            while (limiter.tryAcquire()) acquired++;
+            limiter.onResult(FAST, false);
+            for (int i = 1; i < acquired; i++) limiter.release();
+        }
+
+        assertThat(limiter.limit()).isEqualTo(6);
+        assertThat(limiter.inflight()).isZero();
+    }
+}
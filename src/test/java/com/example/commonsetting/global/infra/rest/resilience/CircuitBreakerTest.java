@@ -0,0 +1,95 @@
+package com.example.commonsetting.global.infra.rest.resilience;
+
+import com.example.commonsetting.global.infra.rest.type.RestClientProperties;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CircuitBreakerTest {
+    private static final long OPEN_NANOS = Duration.ofSeconds(30).toNanos();
+
+    private final CircuitBreaker breaker = new CircuitBreaker(
+            new RestClientProperties.Resilience(true, 10, 5, 50, Duration.ofSeconds(30), 2, 20, 2, 50, 0.9, Duration.ofSeconds(5)));
+
+    @Test
+    void staysClosedUntilMinimumCallsAreRecorded() {
+        record(true, 4, 0);
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+        assertThat(breaker.tryAcquire(0)).isTrue();
+
+        record(true, 1, 0);
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(breaker.tryAcquire(0)).isFalse();
+    }
+
+    @Test
+    void opensWhenFailureRateReachesThreshold() {
+        record(false, 5, 0);
+        record(true, 4, 0);
+        assertThat(breaker.failureRate()).isEqualTo(44);
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+
+        record(true, 1, 0);
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.OPEN);
+    }
+
+    @Test
+    void oldResultsLeaveTheWindow() {
+        record(false, 6, 0);
+        record(true, 4, 0);
+        assertThat(breaker.failureRate()).isEqualTo(40);
+
+        record(false, 6, 0);
+        assertThat(breaker.failureRate()).isEqualTo(40);
+        record(false, 4, 0);
+        assertThat(breaker.failureRate()).isZero();
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void halfOpenAfterOpenDurationAndClosesWhenProbesSucceed() {
+        record(true, 5, 100);
+
+        assertThat(breaker.tryAcquire(100 + OPEN_NANOS - 1)).isFalse();
+        assertThat(breaker.tryAcquire(100 + OPEN_NANOS)).isTrue();
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+        assertThat(breaker.tryAcquire(100 + OPEN_NANOS)).isTrue();
+        // halfOpenCalls 를 넘는 호출은 결과가 나올 때까지 막는다
+        assertThat(breaker.tryAcquire(100 + OPEN_NANOS)).isFalse();
+
+        breaker.onResult(false, 100 + OPEN_NANOS);
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+        breaker.onResult(false, 100 + OPEN_NANOS);
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+        assertThat(breaker.failureRate()).isZero();
+    }
+
+    @Test
+    void failedProbeOpensAgainFromFailureTime() {
+        record(true, 5, 0);
+        assertThat(breaker.tryAcquire(OPEN_NANOS)).isTrue();
+
+        breaker.onResult(true, OPEN_NANOS + 10);
+
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(breaker.tryAcquire(2 * OPEN_NANOS)).isFalse();
+        assertThat(breaker.tryAcquire(2 * OPEN_NANOS + 10)).isTrue();
+    }
+
+    @Test
+    void ignoresResultsWhileOpen() {
+        record(true, 5, 0);
+        record(false, 20, 0);
+
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(breaker.failureRate()).isEqualTo(100);
+    }
+
+    private void record(boolean failed, int count, long now) {
+        for (int i = 0; i < count; i++) {
+            breaker.onResult(failed, now);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.commonsetting.global.infra.rest.stream;
+
+import com.google.gson.Gson;
+import com.google.gson.stream.JsonReader;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringReader;
+import java.util.NoSuchElementException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JsonArrayIteratorTest {
+    private static final Gson GSON = new Gson();
+
+    @Test
+    void readsElementsOneByOneAndConsumesArrayEnd() throws Exception {
+        var reader = new JsonReader(new StringReader("[1,2,3] \"after\""));
+        reader.setLenient(true);
+        var iterator = new JsonArrayIterator<>(reader, GSON.getAdapter(Integer.class));
+
+        assertThat(iterator.hasNext()).isTrue();
+        assertThat(iterator.hasNext()).isTrue();
+        assertThat(iterator.next()).isEqualTo(1);
+        assertThat(iterator.next()).isEqualTo(2);
+        assertThat(iterator.next()).isEqualTo(3);
+        assertThat(iterator.hasNext()).isFalse();
+        assertThat(iterator.count()).isEqualTo(3);
+        // 배열 끝(])까지 읽었으므로 다음 값을 이어서 읽을 수 있다
+        assertThat(reader.nextString()).isEqualTo("after");
+    }
+
+    @Test
+    void emptyArrayHasNoElements() {
+        var iterator = new JsonArrayIterator<>(new JsonReader(new StringReader("[]")), GSON.getAdapter(String.class));
+
+        assertThat(iterator.hasNext()).isFalse();
+        assertThatThrownBy(iterator::next).isInstanceOf(NoSuchElementException.class);
+        assertThat(iterator.count()).isZero();
+    }
+}
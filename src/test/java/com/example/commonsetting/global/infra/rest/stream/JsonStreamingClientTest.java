@@ -0,0 +1,124 @@
+package com.example.commonsetting.global.infra.rest.stream;
+
+import com.example.commonsetting.global.config.StackExchangeException;
+import com.google.gson.reflect.TypeToken;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.ArrayList;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.header;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+class JsonStreamingClientTest {
+    private static final String URL = "http://api.example.com/items";
+
+    private MockRestServiceServer server;
+    private JsonStreamingClient client;
+
+    static class Item {
+        String name;
+        int qty;
+    }
+
+    @BeforeEach
+    void setUp() {
+        var restTemplate = new RestTemplate();
+        server = MockRestServiceServer.bindTo(restTemplate).build();
+        client = new JsonStreamingClient(restTemplate);
+    }
+
+    @Test
+    void streamsTopLevelArrayElements() {
+        respond("[{\"name\":\"a\",\"qty\":1},{\"name\":\"b\",\"qty\":2}]");
+
+        var names = client.stream(URL, Item.class, items -> items.map(item -> item.name + item.qty).collect(Collectors.joining(",")));
+
+        assertThat(names).isEqualTo("a1,b2");
+        server.verify();
+    }
+
+    @Test
+    void navigatesArrayPathSkippingOtherFields() {
+        respond("{\"meta\":{\"items\":[{\"name\":\"wrong\"}],\"next\":null},\"data\":{\"total\":2,\"tags\":[1,[2]],"
+                + "\"items\":[{\"name\":\"a\"},{\"name\":\"b\"}]}}");
+
+        var names = new ArrayList<String>();
+        var count = client.forEach(URL, HttpMethod.GET, null, "data.items", TypeToken.get(Item.class), item -> names.add(item.name));
+
+        assertThat(count).isEqualTo(2);
+        assertThat(names).containsExactly("a", "b");
+    }
+
+    @Test
+    void emptyBodyIsAnEmptyResult() {
+        respond("");
+        long streamed = client.stream(URL, Item.class, items -> items.count());
+        assertThat(streamed).isZero();
+        server.reset();
+
+        respond("");
+        assertThat(client.forEach(URL, Item.class, item -> {})).isZero();
+        server.reset();
+
+        respond("");
+        assertThat(client.extract(URL, Item.class)).isNull();
+    }
+
+    @Test
+    void rejectsNonArrayBody() {
+        respond("{\"name\":\"a\"}");
+
+        assertThatThrownBy(() -> client.forEach(URL, Item.class, item -> {}))
+                .isInstanceOf(StackExchangeException.class)
+                .hasRootCauseMessage("expected array but was BEGIN_OBJECT at $");
+    }
+
+    @Test
+    void rejectsMissingOrNonObjectArrayPath() {
+        respond("{\"data\":{\"total\":0}}");
+        assertThatThrownBy(() -> client.forEach(URL, HttpMethod.GET, null, "data.items", TypeToken.get(Item.class), item -> {}))
+                .isInstanceOf(StackExchangeException.class)
+                .hasStackTraceContaining("field 'items' not found");
+        server.reset();
+
+        respond("{\"data\":[]}");
+        assertThatThrownBy(() -> client.forEach(URL, HttpMethod.GET, null, "data.items", TypeToken.get(Item.class), item -> {}))
+                .isInstanceOf(StackExchangeException.class)
+                .hasRootCauseMessage("expected object for 'items' but was BEGIN_ARRAY at $.data");
+    }
+
+    @Test
+    void malformedElementFailsAsStackExchangeException() {
+        respond("[{\"name\":\"a\"},{\"name\":");
+
+        var seen = new ArrayList<String>();
+        assertThatThrownBy(() -> client.forEach(URL, Item.class, item -> seen.add(item.name)))
+                .isInstanceOf(StackExchangeException.class);
+        assertThat(seen).containsExactly("a");
+    }
+
+    @Test
+    void extractsWholeBody() {
+        respond("{\"name\":\"a\",\"qty\":3}");
+
+        var item = client.extract(URL, Item.class);
+
+        assertThat(item.name).isEqualTo("a");
+        assertThat(item.qty).isEqualTo(3);
+    }
+
+    private void respond(String body) {
+        server.expect(requestTo(URL))
+                .andExpect(header("Accept", MediaType.APPLICATION_JSON_VALUE))
+                .andRespond(withSuccess(body, MediaType.APPLICATION_JSON));
+    }
+}
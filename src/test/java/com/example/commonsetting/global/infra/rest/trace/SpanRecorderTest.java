@@ -0,0 +1,157 @@
+package com.example.commonsetting.global.infra.rest.trace;
+
+import com.example.commonsetting.global.exception.log.RateLimitedErrorLogger;
+import com.example.commonsetting.global.infra.rest.type.RestClientProperties;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SpanRecorderTest {
+    @TempDir
+    Path dir;
+
+    private final RateLimitedErrorLogger errorLogger = new RateLimitedErrorLogger(Duration.ofSeconds(10));
+    private SpanRecorder recorder;
+
+    @AfterEach
+    void tearDown() {
+        if (recorder != null) recorder.close();
+    }
+
+    @Test
+    void writesSpansAsNdjsonOnClose() throws IOException {
+        var path = dir.resolve("spans.ndjson");
+        recorder = new SpanRecorder(trace(path, 8, 100, Duration.ofMinutes(1), DataSize.ofMegabytes(1)), errorLogger);
+
+        recorder.record("trace-1", "span-1", null, "api.example.com", "GET", "/q?name=\"a\\b\"\u0001", 200,
+                1_000L, 1_000L, 2_000L, 3_000L, 4_000L, 10_000L);
+        recorder.close();
+
+        var lines = lines(path);
+        assertThat(lines).hasSize(1);
+        assertThat(lines.get(0)).contains("\\u0001");
+        var span = JsonParser.parseString(lines.get(0)).getAsJsonObject();
+        assertThat(span.get("trace").getAsString()).isEqualTo("trace-1");
+        assertThat(span.get("parent").isJsonNull()).isTrue();
+        assertThat(span.get("path").getAsString()).isEqualTo("/q?name=\"a\\b\"\u0001");
+        assertThat(span.get("status").getAsInt()).isEqualTo(200);
+        assertThat(span.get("lease").getAsLong()).isEqualTo(1);
+        assertThat(span.get("total").getAsLong()).isEqualTo(10);
+        assertThat(recorder.stats().flushed()).isEqualTo(1);
+    }
+
+    @Test
+    void reusesSlotsAfterTheRingWrapsAround() throws Exception {
+        var path = dir.resolve("spans.ndjson");
+        recorder = new SpanRecorder(trace(path, 8, 4, Duration.ofMillis(10), DataSize.ofMegabytes(1)), errorLogger);
+        assertThat(recorder.stats().capacity()).isEqualTo(8);
+
+        for (int round = 0; round < 3; round++) {
+            for (int i = 0; i < 8; i++) {
+                assertThat(record(round * 8 + i)).isTrue();
+            }
+            var expected = (round + 1) * 8L;
+            await(() -> recorder.stats().flushed() == expected);
+        }
+        recorder.close();
+
+        assertThat(lines(path)).extracting(line -> span(line).get("span").getAsString())
+                .containsExactlyElementsOf(IntStream.range(0, 24).mapToObj(i -> "span-" + i).toList());
+        assertThat(recorder.stats().dropped()).isZero();
+    }
+
+    @Test
+    void dropsSpansWhileTheRingIsFull() throws IOException {
+        var path = dir.resolve("spans.ndjson");
+        recorder = new SpanRecorder(trace(path, 8, 100, Duration.ofMinutes(1), DataSize.ofMegabytes(1)), errorLogger);
+
+        for (int i = 0; i < 8; i++) {
+            assertThat(record(i)).isTrue();
+        }
+        assertThat(record(8)).isFalse();
+        assertThat(record(9)).isFalse();
+        assertThat(recorder.stats().pending()).isEqualTo(8);
+        assertThat(recorder.stats().dropped()).isEqualTo(2);
+
+        recorder.close();
+        assertThat(lines(path)).hasSize(8);
+    }
+
+    @Test
+    void rotatesWhenTheFileExceedsMaxSize() throws IOException {
+        var path = dir.resolve("spans.ndjson");
+        recorder = new SpanRecorder(trace(path, 64, 100, Duration.ofMinutes(1), DataSize.ofBytes(1000)), errorLogger);
+
+        for (int i = 0; i < 20; i++) {
+            record(i);
+        }
+        recorder.close();
+
+        assertThat(recorder.stats().rotations()).isPositive();
+        assertThat(Files.exists(dir.resolve("spans.ndjson.1"))).isTrue();
+        assertThat(Files.size(dir.resolve("spans.ndjson.1"))).isGreaterThanOrEqualTo(1000);
+    }
+
+    @Test
+    void dropsAndCountsBatchesThatCannotBeWritten() throws Exception {
+        // 상위 경로가 일반 파일이면 디렉터리도 파일도 만들 수 없다
+        var blocker = Files.createFile(dir.resolve("blocker"));
+        recorder = new SpanRecorder(trace(blocker.resolve("spans.ndjson"), 8, 4, Duration.ofMillis(10), DataSize.ofMegabytes(1)), errorLogger);
+
+        for (int i = 0; i < 3; i++) {
+            record(i);
+        }
+        await(() -> recorder.stats().failed() == 3 && recorder.stats().pending() == 0);
+
+        // 실패한 배치를 다시 시도하지 않으므로 링버퍼에 자리가 남아 있다
+        for (int i = 0; i < 8; i++) {
+            assertThat(record(i)).isTrue();
+        }
+        await(() -> recorder.stats().failed() == 11 && recorder.stats().pending() == 0);
+
+        assertThat(recorder.stats().pending()).isZero();
+        assertThat(recorder.stats().flushed()).isZero();
+        assertThat(recorder.stats().dropped()).isZero();
+        assertThat(errorLogger.suppressedCounts().get("REST_SPAN_WRITE")).isPositive();
+    }
+
+    private boolean record(int i) {
+        return recorder.record("trace", "span-" + i, "parent", "api.example.com", "GET", "/members/" + i, 200,
+                i, 1_000L, 1_000L, 1_000L, 1_000L, 4_000L);
+    }
+
+    private static RestClientProperties.Trace trace(Path path, int bufferSize, int batchSize, Duration flushInterval, DataSize maxFileSize) {
+        return new RestClientProperties.Trace(true, true, path.toString(), bufferSize, batchSize, flushInterval, maxFileSize);
+    }
+
+    private static List<String> lines(Path path) throws IOException {
+        return Files.readAllLines(path, StandardCharsets.UTF_8);
+    }
+
+    private static JsonObject span(String line) {
+        return JsonParser.parseString(line).getAsJsonObject();
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        var deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("timed out").isLessThan(deadline);
+            TimeUnit.MILLISECONDS.sleep(10);
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package com.example.commonsetting.global.infra.rest.transport;
+
+import com.sun.net.httpserver.HttpServer;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.apache.hc.client5.http.impl.async.HttpAsyncClients;
+import org.apache.hc.core5.io.CloseMode;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.util.StreamUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 응답을 gzip/deflate 로 인코딩해 돌려주는 in-process 서버에 대고 body 를 푸는지 확인한다.
+ */
+class Hc5AsyncClientHttpRequestFactoryTest {
+    private static final String BODY = "{\"message\":\"" + "compressed ".repeat(100) + "\"}";
+
+    private final Map<String, String> acceptEncodings = new ConcurrentHashMap<>();
+    private HttpServer server;
+    private CloseableHttpAsyncClient httpClient;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/", exchange -> {
+            try (exchange) {
+                var path = exchange.getRequestURI().getPath();
+                var acceptEncoding = exchange.getRequestHeaders().getFirst(HttpHeaders.ACCEPT_ENCODING);
+                acceptEncodings.put(path, acceptEncoding == null ? "" : acceptEncoding);
+
+                var encoding = path.substring(1);
+                var body = encode(encoding, BODY.getBytes(StandardCharsets.UTF_8));
+                exchange.getResponseHeaders().set(HttpHeaders.CONTENT_TYPE, "application/json");
+                if (!encoding.equals("identity")) {
+                    exchange.getResponseHeaders().set(HttpHeaders.CONTENT_ENCODING, encoding.equals("raw-deflate") ? "deflate" : encoding);
+                }
+                exchange.sendResponseHeaders(200, body.length);
+                exchange.getResponseBody().write(body);
+            }
+        });
+        server.start();
+        httpClient = HttpAsyncClients.createDefault();
+        httpClient.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        httpClient.close(CloseMode.IMMEDIATE);
+        server.stop(0);
+    }
+
+    @Test
+    void decodesGzipAndRemovesEncodingHeaders() throws IOException {
+        try (var response = execute(true, "/gzip")) {
+            assertThat(read(response.getBody())).isEqualTo(BODY);
+            // 로그 인터셉터가 먼저 읽어도 다시 읽을 수 있다
+            assertThat(read(response.getBody())).isEqualTo(BODY);
+            assertThat(response.getHeaders()).doesNotContainKeys(HttpHeaders.CONTENT_ENCODING, HttpHeaders.CONTENT_LENGTH);
+            assertThat(response.getHeaders().getFirst(HttpHeaders.CONTENT_TYPE)).isEqualTo("application/json");
+        }
+        assertThat(acceptEncodings.get("/gzip")).isEqualTo("gzip, deflate");
+    }
+
+    @Test
+    void decodesXGzip() throws IOException {
+        try (var response = execute(true, "/x-gzip")) {
+            assertThat(read(response.getBody())).isEqualTo(BODY);
+        }
+    }
+
+    @Test
+    void decodesZlibWrappedAndRawDeflate() throws IOException {
+        try (var response = execute(true, "/deflate")) {
+            assertThat(read(response.getBody())).isEqualTo(BODY);
+            assertThat(response.getHeaders()).doesNotContainKey(HttpHeaders.CONTENT_ENCODING);
+        }
+        try (var response = execute(true, "/raw-deflate")) {
+            assertThat(read(response.getBody())).isEqualTo(BODY);
+        }
+    }
+
+    @Test
+    void passesUnencodedBodyThrough() throws IOException {
+        try (var response = execute(true, "/identity")) {
+            assertThat(read(response.getBody())).isEqualTo(BODY);
+            assertThat(response.getHeaders().getContentLength()).isEqualTo(BODY.length());
+        }
+    }
+
+    @Test
+    void leavesBodyEncodedWhenCompressionIsDisabled() throws IOException {
+        try (var response = execute(false, "/gzip")) {
+            assertThat(response.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+            assertThat(StreamUtils.copyToByteArray(response.getBody())).isEqualTo(encode("gzip", BODY.getBytes(StandardCharsets.UTF_8)));
+        }
+        assertThat(acceptEncodings.get("/gzip")).isEmpty();
+    }
+
+    private ClientHttpResponse execute(boolean compression, String path) throws IOException {
+        var factory = new Hc5AsyncClientHttpRequestFactory(httpClient, compression);
+        factory.setConnectTimeout(5_000);
+        factory.setReadTimeout(5_000);
+        var uri = URI.create("http://127.0.0.1:" + server.getAddress().getPort() + path);
+        return factory.createRequest(uri, HttpMethod.GET).execute();
+    }
+
+    private static String read(InputStream body) throws IOException {
+        return StreamUtils.copyToString(body, StandardCharsets.UTF_8);
+    }
+
+    private static byte[] encode(String encoding, byte[] raw) throws IOException {
+        var out = new ByteArrayOutputStream();
+        switch (encoding) {
+            case "gzip", "x-gzip" -> {
+                try (var gzip = new GZIPOutputStream(out)) {
+                    gzip.write(raw);
+                }
+            }
+            case "deflate" -> {
+                try (var deflate = new DeflaterOutputStream(out)) {
+                    deflate.write(raw);
+                }
+            }
+            case "raw-deflate" -> {
+                var deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+                try (var deflate = new DeflaterOutputStream(out, deflater)) {
+                    deflate.write(raw);
+                } finally {
+                    deflater.end();
+                }
+            }
+            default -> out.write(raw);
+        }
+        return out.toByteArray();
+    }
+}
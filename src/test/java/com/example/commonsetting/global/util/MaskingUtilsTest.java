@@ -0,0 +1,79 @@
+package com.example.commonsetting.global.util;
+
+import com.example.commonsetting.global.util.MaskingUtils.MaskType;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MaskingUtilsTest {
+    private static final String ALPHABET = "ab1.@-xZ홍길동";
+
+    @Test
+    void sameResultAsComUtilsForFixedSamples() {
+        var samples = List.of("a", "ab", "abc", "abcd", "홍길동", "남궁민수", "a@b.co", "abcd@mail.com", "ab@[1.2.3.4]",
+                "not@an@email", "010-1234-5678", "01012345678", "1", "12");
+        for (String sample : samples) {
+            assertSameAsComUtils(sample);
+        }
+    }
+
+    @Test
+    void sameResultAsComUtilsForRandomInput() {
+        var random = new Random(20240101L);
+        for (int i = 0; i < 20_000; i++) {
+            assertSameAsComUtils(randomText(random));
+        }
+    }
+
+    @Test
+    void emptyAndNullBecomeEmptyString() {
+        for (MaskType type : MaskType.values()) {
+            assertThat(MaskingUtils.mask(null, type)).isEmpty();
+            assertThat(MaskingUtils.mask("", type)).isEmpty();
+        }
+    }
+
+    @Test
+    void appendsToReusableBufferAndCharArray() {
+        var out = new StringBuilder("name=");
+        MaskingUtils.maskName("홍길동", out).append(", id=");
+        MaskingUtils.mask("abcd@mail.com".toCharArray(), 0, 13, MaskType.ID, out);
+
+        assertThat(out).hasToString("name=" + ComUtils.maskingName("홍길동") + ", id=" + ComUtils.maskingId("abcd@mail.com"));
+    }
+
+    @Test
+    void batchKeepsInputOrder() {
+        var random = new Random(7L);
+        List<String> values = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            values.add(randomText(random));
+        }
+        var expected = values.stream().map(ComUtils::maskingName).toList();
+
+        assertThat(MaskingUtils.maskAll(values, MaskType.NAME)).isEqualTo(expected);
+        assertThat(MaskingUtils.maskAll(values, MaskType.NAME, true)).isEqualTo(expected);
+        assertThat(MaskingUtils.maskAll(values.stream(), MaskType.NAME).toList()).isEqualTo(expected);
+    }
+
+    private static void assertSameAsComUtils(String text) {
+        assertThat(MaskingUtils.mask(text, MaskType.ID)).as("id %s", text).isEqualTo(ComUtils.maskingId(text));
+        assertThat(MaskingUtils.mask(text, MaskType.NAME)).as("name %s", text).isEqualTo(ComUtils.maskingName(text));
+        assertThat(MaskingUtils.mask(text, MaskType.TEL_NO)).as("telNo %s", text).isEqualTo(ComUtils.maskingTelNo(text, false));
+        assertThat(MaskingUtils.mask(text, MaskType.TEL_NO_LAST_NUMBER)).as("telNo(last) %s", text).isEqualTo(ComUtils.maskingTelNo(text, true));
+    }
+
+    private static String randomText(Random random) {
+        var length = random.nextInt(12);
+        var sb = new StringBuilder(length + 9);
+        for (int i = 0; i < length; i++) {
+            sb.append(ALPHABET.charAt(random.nextInt(ALPHABET.length())));
+        }
+        if (random.nextInt(4) == 0) sb.append("@mail.com");
+        return sb.toString();
+    }
+}
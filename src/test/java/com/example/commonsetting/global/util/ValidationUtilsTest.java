@@ -0,0 +1,138 @@
+package com.example.commonsetting.global.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ValidationUtilsTest {
+
+    @Test
+    void isIntegerFollowsParseInt() {
+        assertThat(ValidationUtils.isInteger("0")).isTrue();
+        assertThat(ValidationUtils.isInteger("+12")).isTrue();
+        assertThat(ValidationUtils.isInteger("-2147483648")).isTrue();
+        assertThat(ValidationUtils.isInteger("2147483647")).isTrue();
+        assertThat(ValidationUtils.isInteger("１２３")).isTrue();
+
+        assertThat(ValidationUtils.isInteger(null)).isFalse();
+        assertThat(ValidationUtils.isInteger("")).isFalse();
+        assertThat(ValidationUtils.isInteger("-")).isFalse();
+        assertThat(ValidationUtils.isInteger("2147483648")).isFalse();
+        assertThat(ValidationUtils.isInteger("-2147483649")).isFalse();
+        assertThat(ValidationUtils.isInteger("1.0")).isFalse();
+        assertThat(ValidationUtils.isInteger(" 1")).isFalse();
+    }
+
+    @Test
+    void isIntegerMatchesParseIntForSamples() {
+        for (var value : List.of("007", "+0", "-0", "99999999999", "12a", "++1", "٣")) {
+            assertThat(ValidationUtils.isInteger(value)).as(value).isEqualTo(parses(value));
+        }
+    }
+
+    @Test
+    void isValidPhoneNumber() {
+        assertThat(ValidationUtils.isValidPhoneNumber("010-1234-5678")).isTrue();
+
+        assertThat(ValidationUtils.isValidPhoneNumber(null)).isFalse();
+        assertThat(ValidationUtils.isValidPhoneNumber("010-123-5678")).isFalse();
+        assertThat(ValidationUtils.isValidPhoneNumber("01012345678")).isFalse();
+        assertThat(ValidationUtils.isValidPhoneNumber("010-1234-56789")).isFalse();
+        assertThat(ValidationUtils.isValidPhoneNumber("010 1234 5678")).isFalse();
+        assertThat(ValidationUtils.isValidPhoneNumber("０１０-1234-5678")).isFalse();
+    }
+
+    @Test
+    void isValidEmailAddress() {
+        assertThat(ValidationUtils.isValidEmailAddress("user@example.com")).isTrue();
+        assertThat(ValidationUtils.isValidEmailAddress("first.last+tag@mail.example.co.kr")).isTrue();
+        assertThat(ValidationUtils.isValidEmailAddress("user@[127.0.0.1]")).isTrue();
+        assertThat(ValidationUtils.isValidEmailAddress("a!#$%&'*/=?^_`{|}~-@sub-domain.io")).isTrue();
+
+        assertThat(ValidationUtils.isValidEmailAddress(null)).isFalse();
+        assertThat(ValidationUtils.isValidEmailAddress("@example.com")).isFalse();
+        assertThat(ValidationUtils.isValidEmailAddress("user@")).isFalse();
+        assertThat(ValidationUtils.isValidEmailAddress("user@localhost")).isFalse();
+        assertThat(ValidationUtils.isValidEmailAddress("user@example.c")).isFalse();
+        assertThat(ValidationUtils.isValidEmailAddress("user@example.c0m")).isFalse();
+        assertThat(ValidationUtils.isValidEmailAddress("user@example..com")).isFalse();
+        assertThat(ValidationUtils.isValidEmailAddress("user@[127.0.0]")).isFalse();
+        assertThat(ValidationUtils.isValidEmailAddress("user@[1234.0.0.1]")).isFalse();
+        assertThat(ValidationUtils.isValidEmailAddress("us er@example.com")).isFalse();
+        assertThat(ValidationUtils.isValidEmailAddress("user@@example.com")).isFalse();
+    }
+
+    @Test
+    void isValidDateFormatKeepsSimpleDateFormatLeniencyForNumbers() {
+        assertThat(ValidationUtils.isValidDateFormat("2024-01-05", "yyyy-MM-dd")).isTrue();
+        assertThat(ValidationUtils.isValidDateFormat("2024-1-5", "yyyy-MM-dd")).isTrue();
+        assertThat(ValidationUtils.isValidDateFormat("2024-02-29", "yyyy-MM-dd")).isTrue();
+        assertThat(ValidationUtils.isValidDateFormat("20240105", "yyyyMMdd")).isTrue();
+        assertThat(ValidationUtils.isValidDateFormat("2024-01-05 23:59:59", "yyyy-MM-dd HH:mm:ss")).isTrue();
+        assertThat(ValidationUtils.isValidDateFormat("2024.01.05 '", "yyyy.MM.dd ''")).isTrue();
+    }
+
+    @Test
+    void isValidDateFormatRejectsInvalidDates() {
+        assertThat(ValidationUtils.isValidDateFormat("2024-02-30", "yyyy-MM-dd")).isFalse();
+        assertThat(ValidationUtils.isValidDateFormat("2023-02-29", "yyyy-MM-dd")).isFalse();
+        assertThat(ValidationUtils.isValidDateFormat("2024-13-01", "yyyy-MM-dd")).isFalse();
+        assertThat(ValidationUtils.isValidDateFormat("2024-01-05 24:00:00", "yyyy-MM-dd HH:mm:ss")).isFalse();
+        assertThat(ValidationUtils.isValidDateFormat("2024/01/05", "yyyy-MM-dd")).isFalse();
+        assertThat(ValidationUtils.isValidDateFormat("", "yyyy-MM-dd")).isFalse();
+    }
+
+    @Test
+    void isValidDateFormatKeepsSimpleDateFormatParseContract() {
+        assertThat(ValidationUtils.isValidDateFormat("2024-01-05x", "yyyy-MM-dd")).isTrue();
+        assertThat(ValidationUtils.isValidDateFormat("2024-01-05 12:00", "yyyy-MM-dd")).isTrue();
+        assertThatThrownBy(() -> ValidationUtils.isValidDateFormat(null, "yyyy-MM-dd")).isInstanceOf(NullPointerException.class);
+        for (var value : List.of("2024-01-05", "2024-1-5", "2024-02-30", "2024-01-05T10", "24-1-5", "x2024-01-05", "", "2024-001-05")) {
+            assertThat(ValidationUtils.isValidDateFormat(value, "yyyy-MM-dd")).as(value).isEqualTo(parsesDate(value, "yyyy-MM-dd"));
+        }
+    }
+
+    @Test
+    void isExactDateFormatRejectsNullAndTrailingText() {
+        assertThat(ValidationUtils.isExactDateFormat("2024-01-05", "yyyy-MM-dd")).isTrue();
+        assertThat(ValidationUtils.isExactDateFormat("2024-1-5", "yyyy-MM-dd")).isTrue();
+        assertThat(ValidationUtils.isExactDateFormat("2024-02-30", "yyyy-MM-dd")).isFalse();
+        assertThat(ValidationUtils.isExactDateFormat(null, "yyyy-MM-dd")).isFalse();
+        assertThat(ValidationUtils.isExactDateFormat("2024-01-05x", "yyyy-MM-dd")).isFalse();
+        assertThat(ValidationUtils.isExactDateFormat("2024-01-05 12:00", "yyyy-MM-dd")).isFalse();
+    }
+
+    @Test
+    void validateAllSetsBitPerValidValue() {
+        var result = ValidationUtils.validateAll(List.of("1", "a", "3"), ValidationUtils::isInteger);
+
+        assertThat(result.get(0)).isTrue();
+        assertThat(result.get(1)).isFalse();
+        assertThat(result.get(2)).isTrue();
+    }
+
+    private static boolean parsesDate(String value, String pattern) {
+        var format = new SimpleDateFormat(pattern);
+        format.setLenient(false);
+        try {
+            format.parse(value);
+            return true;
+        } catch (ParseException e) {
+            return false;
+        }
+    }
+
+    private static boolean parses(String value) {
+        try {
+            Integer.parseInt(value);
+            return true;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+}